@@ -0,0 +1,29 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Authorization request for several actions of the same session, such as the topic filters of an MQTT subscribe.
+ */
+@Value
+@Builder
+public class BatchAuthorizationRequest {
+    @NonNull String sessionId;
+    @NonNull @Singular List<Action> actions;
+
+    @Value
+    public static class Action {
+        @NonNull String operation;
+        @NonNull String resource;
+    }
+}
@@ -12,15 +12,19 @@ import com.aws.greengrass.clientdevices.auth.api.GetCertificateRequestOptions;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateExpiryMonitor;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateGenerator;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificatesConfig;
 import com.aws.greengrass.clientdevices.auth.certificate.ClientCertificateGenerator;
+import com.aws.greengrass.clientdevices.auth.certificate.KeyPairPool;
 import com.aws.greengrass.clientdevices.auth.certificate.ServerCertificateGenerator;
+import com.aws.greengrass.clientdevices.auth.certificate.SharedServerCertificate;
 import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateSubscriptionEvent;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.CertificateRotationHandler;
 import com.aws.greengrass.clientdevices.auth.configuration.CAConfiguration;
 import com.aws.greengrass.clientdevices.auth.connectivity.CISShadowMonitor;
 import com.aws.greengrass.clientdevices.auth.connectivity.ConnectivityInformation;
+import com.aws.greengrass.clientdevices.auth.connectivity.NetworkInterfaceConnectivityMonitor;
 import com.aws.greengrass.clientdevices.auth.exception.CertificateChainLoadingException;
 import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
@@ -35,6 +39,7 @@ import com.aws.greengrass.util.EncryptionUtils;
 import com.aws.greengrass.util.GreengrassServiceClientFactory;
 import com.aws.greengrass.util.RetryUtils;
 import lombok.NonNull;
+import org.bouncycastle.asn1.x500.X500Name;
 import software.amazon.awssdk.services.greengrassv2data.model.AccessDeniedException;
 import software.amazon.awssdk.services.greengrassv2data.model.InternalServerException;
 import software.amazon.awssdk.services.greengrassv2data.model.PutCertificateAuthoritiesRequest;
@@ -65,12 +70,17 @@ public class CertificateManager {
     private final ConnectivityInformation connectivityInformation;
     private final CertificateExpiryMonitor certExpiryMonitor;
     private final CISShadowMonitor cisShadowMonitor;
+    private final NetworkInterfaceConnectivityMonitor networkInterfaceMonitor;
     private final CertificateRotationHandler caConfigurationMonitor;
     private final Clock clock;
     private final Map<GetCertificateRequest, CertificateGenerator> certSubscriptions = new ConcurrentHashMap<>();
+    private final Map<SharedServerCertificate.Key, SharedServerCertificate> sharedServerCertificates =
+            new ConcurrentHashMap<>();
     private final GreengrassServiceClientFactory clientFactory;
     private final SecurityService securityService;
     private final DomainEvents domainEvent;
+    private final KeyPairPool keyPairPool;
+    private final CertificateRotationScheduler rotationScheduler;
     private CertificatesConfig certificatesConfig;
     private static final Logger logger = LogManager.getLogger(CertificateManager.class);
     private static final String pkcs11Scheme = "pkcs11";
@@ -82,31 +92,42 @@ public class CertificateManager {
      * @param connectivityInformation Connectivity Info Provider
      * @param certExpiryMonitor       Certificate Expiry Monitor
      * @param cisShadowMonitor        CIS Shadow Monitor
+     * @param networkInterfaceMonitor Local network interface connectivity monitor
      * @param clock                   clock
      * @param clientFactory           Greengrass cloud service client factory
      * @param securityService         Security Service
      * @param caConfigurationMonitor  CA Configuration Monitor
      * @param domainEvent             Metric event emitter
+     * @param keyPairPool             Pool of pre-generated subscriber key pairs
+     * @param rotationScheduler       Certificate rotation scheduler
      */
     @Inject
     public CertificateManager(CertificateStore certificateStore, ConnectivityInformation connectivityInformation,
                               CertificateExpiryMonitor certExpiryMonitor, CISShadowMonitor cisShadowMonitor,
+                              NetworkInterfaceConnectivityMonitor networkInterfaceMonitor,
                               Clock clock, GreengrassServiceClientFactory clientFactory,
                               SecurityService securityService, CertificateRotationHandler caConfigurationMonitor,
-                              DomainEvents domainEvent) {
+                              DomainEvents domainEvent, KeyPairPool keyPairPool,
+                              CertificateRotationScheduler rotationScheduler) {
         this.certificateStore = certificateStore;
         this.connectivityInformation = connectivityInformation;
         this.certExpiryMonitor = certExpiryMonitor;
         this.cisShadowMonitor = cisShadowMonitor;
+        this.networkInterfaceMonitor = networkInterfaceMonitor;
         this.caConfigurationMonitor = caConfigurationMonitor;
         this.clock = clock;
         this.clientFactory = clientFactory;
         this.securityService = securityService;
         this.domainEvent = domainEvent;
+        this.keyPairPool = keyPairPool;
+        this.rotationScheduler = rotationScheduler;
     }
 
     public void updateCertificatesConfiguration(CertificatesConfig certificatesConfig) {
         this.certificatesConfig = certificatesConfig;
+        keyPairPool.updateCertificatesConfiguration(certificatesConfig);
+        certificateStore.getSigningQueue().setHsmConcurrency(certificatesConfig.getHsmSigningConcurrency());
+        networkInterfaceMonitor.updateCertificatesConfiguration(certificatesConfig);
     }
 
     /**
@@ -121,19 +142,23 @@ public class CertificateManager {
     }
 
     /**
-     * Start certificate monitors.
+     * Start certificate monitors and key pair pre-generation.
      */
     public void startMonitors() {
         certExpiryMonitor.startMonitor();
         cisShadowMonitor.startMonitor();
+        networkInterfaceMonitor.startMonitor();
+        keyPairPool.start();
     }
 
     /**
-     * Stop certificate monitors.
+     * Stop certificate monitors and key pair pre-generation.
      */
     public void stopMonitors() {
         certExpiryMonitor.stopMonitor();
         cisShadowMonitor.stopMonitor();
+        networkInterfaceMonitor.stopMonitor();
+        keyPairPool.stop();
     }
 
     /**
@@ -170,8 +195,14 @@ public class CertificateManager {
         try {
             GetCertificateRequestOptions.CertificateType certificateType =
                     getCertificateRequest.getCertificateRequestOptions().getCertificateType();
-            // TODO: Should be configurable
-            KeyPair keyPair = CertificateStore.newRSAKeyPair(4096);
+            if (certificateType.equals(GetCertificateRequestOptions.CertificateType.SERVER)
+                    && certificatesConfig.isServerCertificateSharingEnabled()) {
+                subscribeToSharedServerCertificateUpdates(getCertificateRequest);
+                domainEvent.emit(new CertificateSubscriptionEvent(certificateType,
+                        CertificateSubscriptionEvent.SubscriptionStatus.SUCCESS));
+                return;
+            }
+            KeyPair keyPair = keyPairPool.take(certificatesConfig.getKeyType());
 
             if (certificateType.equals(GetCertificateRequestOptions.CertificateType.SERVER)) {
                 BiConsumer<X509Certificate, X509Certificate[]> consumer = (serverCert, caCertificates) -> {
@@ -205,7 +236,7 @@ public class CertificateManager {
     public void unsubscribeFromCertificateUpdates(GetCertificateRequest getCertificateRequest) {
         CertificateGenerator certGen = certSubscriptions.remove(getCertificateRequest);
         if (certGen != null) {
-            removeCGFromMonitors(certGen);
+            releaseSubscription(getCertificateRequest, certGen);
         }
     }
 
@@ -213,28 +244,89 @@ public class CertificateManager {
                                                           @NonNull PublicKey publicKey,
                                                           @NonNull BiConsumer<X509Certificate, X509Certificate[]> cb)
             throws CertificateGenerationException {
+        CertificateGenerator certificateGenerator = startServerCertificateGenerator(
+                CertificateHelper.getX500Name(certificateRequest.getServiceName()), publicKey, cb);
+
+        certSubscriptions.compute(certificateRequest, (k, v) -> {
+            // A subscription already exists, we will replace it so that a new certificate is generated immediately
+            if (v != null) {
+                releaseSubscription(k, v);
+            }
+            return certificateGenerator;
+        });
+    }
+
+    private void subscribeToSharedServerCertificateUpdates(@NonNull GetCertificateRequest certificateRequest)
+            throws CertificateGenerationException, NoSuchAlgorithmException {
+        X500Name subject = CertificateHelper.getX500Name(certificateRequest.getServiceName());
+        CertificateStore.KeyType keyType = certificatesConfig.getKeyType();
+        SharedServerCertificate.Key key = new SharedServerCertificate.Key(subject, keyType);
+
+        // Only the registration happens under the lock, taking the key pair and issuing the first certificate may
+        // take a while
+        SharedServerCertificate shared;
+        boolean created = false;
+        synchronized (sharedServerCertificates) {
+            shared = sharedServerCertificates.get(key);
+            if (shared == null) {
+                shared = new SharedServerCertificate(key);
+                sharedServerCertificates.put(key, shared);
+                created = true;
+            }
+            // Joins the existing subscribers and receives the current certificate, if any
+            shared.addSubscriber(certificateRequest);
+        }
+
+        if (created) {
+            startSharedServerCertificate(shared);
+        }
+        CertificateGenerator certificateGenerator = shared.awaitGenerator();
+
+        certSubscriptions.compute(certificateRequest, (k, v) -> {
+            if (v != null && v != certificateGenerator) {
+                releaseSubscription(k, v);
+            }
+            return certificateGenerator;
+        });
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void startSharedServerCertificate(SharedServerCertificate shared)
+            throws CertificateGenerationException, NoSuchAlgorithmException {
+        SharedServerCertificate.Key key = shared.getKey();
+        try {
+            shared.setKeyPair(keyPairPool.take(key.getKeyType()));
+            shared.setGenerator(
+                    startServerCertificateGenerator(key.getSubject(), shared.getKeyPair().getPublic(), shared));
+            logger.atInfo().kv("subject", key.getSubject()).kv("keyType", key.getKeyType())
+                    .log("Issuing shared server certificate");
+        } catch (CertificateGenerationException | NoSuchAlgorithmException | RuntimeException e) {
+            synchronized (sharedServerCertificates) {
+                sharedServerCertificates.remove(key, shared);
+            }
+            shared.failGenerator(e);
+            throw e;
+        }
+    }
+
+    private CertificateGenerator startServerCertificateGenerator(X500Name subject, PublicKey publicKey,
+                                                                 BiConsumer<X509Certificate, X509Certificate[]> cb)
+            throws CertificateGenerationException {
         CertificateGenerator certificateGenerator =
-                new ServerCertificateGenerator(CertificateHelper.getX500Name(certificateRequest.getServiceName()),
-                        publicKey, cb, certificateStore, certificatesConfig, clock);
+                new ServerCertificateGenerator(subject, publicKey, cb, certificateStore, certificatesConfig, clock);
 
         // Add certificate generator to monitors first in order to avoid missing events
         // that happen while the initial certificate is being generated.
         certExpiryMonitor.addToMonitor(certificateGenerator);
         cisShadowMonitor.addToMonitor(certificateGenerator);
+        networkInterfaceMonitor.addToMonitor(certificateGenerator);
         caConfigurationMonitor.addToMonitor(certificateGenerator);
 
         if (certificateStore.isReady()) {
             certificateGenerator.generateCertificate(connectivityInformation::getCachedHostAddresses,
                     "initialization of server cert subscription");
         }
-
-        certSubscriptions.compute(certificateRequest, (k, v) -> {
-            // A subscription already exists, we will replace it so that a new certificate is generated immediately
-            if (v != null) {
-                removeCGFromMonitors(v);
-            }
-            return certificateGenerator;
-        });
+        return certificateGenerator;
     }
 
     private void subscribeToClientCertificateUpdatesNoCSR(@NonNull GetCertificateRequest certificateRequest,
@@ -256,16 +348,34 @@ public class CertificateManager {
         certSubscriptions.compute(certificateRequest, (k, v) -> {
             // A subscription already exists, we will replace it so that a new certificate is generated immediately
             if (v != null) {
-                removeCGFromMonitors(v);
+                releaseSubscription(k, v);
             }
             return certificateGenerator;
         });
     }
 
+    private void releaseSubscription(GetCertificateRequest certificateRequest, CertificateGenerator gen) {
+        synchronized (sharedServerCertificates) {
+            for (SharedServerCertificate shared : sharedServerCertificates.values()) {
+                if (shared.getGenerator() == gen) {
+                    if (!shared.removeSubscriber(certificateRequest)) {
+                        // Other subscribers still use this certificate
+                        return;
+                    }
+                    sharedServerCertificates.remove(shared.getKey());
+                    break;
+                }
+            }
+        }
+        removeCGFromMonitors(gen);
+    }
+
     private void removeCGFromMonitors(CertificateGenerator gen) {
         certExpiryMonitor.removeFromMonitor(gen);
         cisShadowMonitor.removeFromMonitor(gen);
+        networkInterfaceMonitor.removeFromMonitor(gen);
         caConfigurationMonitor.removeFromMonitor(gen);
+        rotationScheduler.cancel(gen);
     }
 
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
@@ -8,12 +8,15 @@ package com.aws.greengrass.clientdevices.auth;
 import com.aws.greengrass.authorization.AuthorizationHandler;
 import com.aws.greengrass.clientdevices.auth.api.ClientDevicesAuthServiceApi;
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificatePemCache;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificatesConfig;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.CACertificateChainChangedHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.CAConfigurationChangedHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.CertificateRotationHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.handlers.SecurityConfigurationChangedHandler;
 import com.aws.greengrass.clientdevices.auth.certificate.infra.BackgroundCertificateRefresh;
+import com.aws.greengrass.clientdevices.auth.certificate.infra.ContinuousCertificateRefresh;
 import com.aws.greengrass.clientdevices.auth.configuration.CDAConfiguration;
 import com.aws.greengrass.clientdevices.auth.configuration.GroupConfiguration;
 import com.aws.greengrass.clientdevices.auth.configuration.GroupManager;
@@ -22,10 +25,20 @@ import com.aws.greengrass.clientdevices.auth.configuration.RuntimeConfiguration;
 import com.aws.greengrass.clientdevices.auth.connectivity.CISShadowMonitor;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.clientdevices.auth.metrics.MetricsEmitter;
+import com.aws.greengrass.clientdevices.auth.metrics.OpenMetricsEndpoint;
+import com.aws.greengrass.clientdevices.auth.metrics.OperationalGauges;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.AuthorizeClientDeviceActionsBatchMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.AuthorizeClientDeviceActionsMetricHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.CertificateRotationSkippedMetricHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.CertificateRotationWaveMetricHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.CertificateSigningMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.CertificateSubscriptionEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.CloudCircuitBreakerEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.KeyPairPoolEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.MetricsConfigurationChangedHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.RequestStageTimingsMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.ServiceErrorEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.ServiceOperationLatencyMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionCreationEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.VerifyClientDeviceIdentityEventHandler;
 import com.aws.greengrass.clientdevices.auth.session.MqttSessionFactory;
@@ -48,6 +61,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import software.amazon.awssdk.aws.greengrass.GreengrassCoreIPCService;
 
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -74,6 +88,8 @@ public class ClientDevicesAuthService extends PluginService {
     public static final String MAX_ACTIVE_AUTH_TOKENS_TOPIC = "maxActiveAuthTokens";
     public static final String CLOUD_REQUEST_QUEUE_SIZE_TOPIC = "cloudRequestQueueSize";
     public static final String MAX_CONCURRENT_CLOUD_REQUESTS_TOPIC = "maxConcurrentCloudRequests";
+    public static final String NETWORK_STATE_SETTLE_WINDOW_MILLIS_TOPIC = "networkStateSettleWindowMillis";
+    public static final String CERTIFICATE_ROTATION_WINDOW_MILLIS_TOPIC = "certificateRotationWindowMillis";
     // Limit the queue size before we start rejecting requests
     private static final int DEFAULT_CLOUD_CALL_QUEUE_SIZE = 100;
     private static final int DEFAULT_THREAD_POOL_SIZE = 1;
@@ -125,7 +141,9 @@ public class ClientDevicesAuthService extends PluginService {
         NetworkStateProvider networkState = context.get(NetworkStateProvider.class);
         networkState.registerHandler(context.get(CISShadowMonitor.class));
         networkState.registerHandler(context.get(BackgroundCertificateRefresh.class));
+        networkState.registerHandler(context.get(ContinuousCertificateRefresh.class));
         context.get(BackgroundCertificateRefresh.class).start();
+        context.get(ContinuousCertificateRefresh.class).start();
         context.get(MetricsEmitter.class).start(MetricsConfiguration.DEFAULT_PERIODIC_AGGREGATE_INTERVAL_SEC);
 
         // Initialize IPC thread pool
@@ -134,6 +152,7 @@ public class ClientDevicesAuthService extends PluginService {
         cloudCallThreadPool = new ThreadPoolExecutor(1, DEFAULT_THREAD_POOL_SIZE, 60, TimeUnit.SECONDS,
                 new ResizableLinkedBlockingQueue<>(cloudCallQueueSize));
         cloudCallThreadPool.allowCoreThreadTimeOut(true); // act as a cached threadpool
+        context.get(OperationalGauges.class).registerCloudCallThreadPool(cloudCallThreadPool);
     }
 
     private void initializeHandlers() {
@@ -143,15 +162,25 @@ public class ClientDevicesAuthService extends PluginService {
 
         // Register domain event handlers
         context.get(CACertificateChainChangedHandler.class).listen();
+        context.get(CertificatePemCache.class).listen();
         context.get(CAConfigurationChangedHandler.class).listen();
         context.get(CertificateRotationHandler.class).listen();
         context.get(SecurityConfigurationChangedHandler.class).listen();
         context.get(CertificateSubscriptionEventHandler.class).listen();
         context.get(VerifyClientDeviceIdentityEventHandler.class).listen();
         context.get(AuthorizeClientDeviceActionsMetricHandler.class).listen();
+        context.get(AuthorizeClientDeviceActionsBatchMetricHandler.class).listen();
         context.get(SessionCreationEventHandler.class).listen();
         context.get(ServiceErrorEventHandler.class).listen();
+        context.get(ServiceOperationLatencyMetricHandler.class).listen();
+        context.get(RequestStageTimingsMetricHandler.class).listen();
+        context.get(CloudCircuitBreakerEventHandler.class).listen();
+        context.get(KeyPairPoolEventHandler.class).listen();
+        context.get(CertificateRotationWaveMetricHandler.class).listen();
+        context.get(CertificateRotationSkippedMetricHandler.class).listen();
+        context.get(CertificateSigningMetricHandler.class).listen();
         context.get(MetricsConfigurationChangedHandler.class).listen();
+        context.get(OperationalGauges.class).register();
     }
 
     private void subscribeToConfigChanges() {
@@ -197,6 +226,26 @@ public class ClientDevicesAuthService extends PluginService {
             }
         }
 
+        if (whatHappened == WhatHappened.initialized || node == null
+                || node.childOf(NETWORK_STATE_SETTLE_WINDOW_MILLIS_TOPIC)) {
+            // NOTE: Extract this to a method these are infrastructure concerns.
+            NetworkStateProvider networkState = context.get(NetworkStateProvider.class);
+            if (networkState instanceof NetworkStateProvider.Default) {
+                long settleWindowMillis = Coerce.toLong(this.config.findOrDefault(
+                        NetworkStateProvider.Default.DEFAULT_SETTLE_WINDOW.toMillis(), CONFIGURATION_CONFIG_KEY,
+                        PERFORMANCE_TOPIC, NETWORK_STATE_SETTLE_WINDOW_MILLIS_TOPIC));
+                ((NetworkStateProvider.Default) networkState).setSettleWindow(Duration.ofMillis(settleWindowMillis));
+            }
+        }
+
+        if (whatHappened == WhatHappened.initialized || node == null
+                || node.childOf(CERTIFICATE_ROTATION_WINDOW_MILLIS_TOPIC)) {
+            long rotationWindowMillis = Coerce.toLong(this.config.findOrDefault(
+                    CertificateRotationScheduler.DEFAULT_ROTATION_WINDOW.toMillis(), CONFIGURATION_CONFIG_KEY,
+                    PERFORMANCE_TOPIC, CERTIFICATE_ROTATION_WINDOW_MILLIS_TOPIC));
+            context.get(CertificateRotationScheduler.class).setRotationWindow(Duration.ofMillis(rotationWindowMillis));
+        }
+
         if (whatHappened == WhatHappened.initialized || node == null || node.childOf(DEVICE_GROUPS_TOPICS)) {
             updateDeviceGroups(whatHappened, deviceGroupTopics);
         }
@@ -215,7 +264,9 @@ public class ClientDevicesAuthService extends PluginService {
         super.shutdown();
         context.get(CertificateManager.class).stopMonitors();
         context.get(BackgroundCertificateRefresh.class).stop();
+        context.get(ContinuousCertificateRefresh.class).stop();
         context.get(MetricsEmitter.class).stop();
+        context.get(OpenMetricsEndpoint.class).stop();
     }
 
     @Override
@@ -234,10 +285,11 @@ public class ClientDevicesAuthService extends PluginService {
         GreengrassCoreIPCService greengrassCoreIPCService = context.get(GreengrassCoreIPCService.class);
         ClientDevicesAuthServiceApi serviceApi = context.get(ClientDevicesAuthServiceApi.class);
         CertificateManager certificateManager = context.get(CertificateManager.class);
+        CertificatePemCache certificatePemCache = context.get(CertificatePemCache.class);
 
         greengrassCoreIPCService.setSubscribeToCertificateUpdatesHandler(
                 context -> new SubscribeToCertificateUpdatesOperationHandler(context, certificateManager,
-                        authorizationHandler));
+                        certificatePemCache, authorizationHandler));
         greengrassCoreIPCService.setVerifyClientDeviceIdentityHandler(
                 context -> new VerifyClientDeviceIdentityOperationHandler(context, serviceApi, authorizationHandler,
                         cloudCallThreadPool));
@@ -5,13 +5,21 @@
 
 package com.aws.greengrass.clientdevices.auth;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
 import com.aws.greengrass.clientdevices.auth.configuration.GroupManager;
+import com.aws.greengrass.clientdevices.auth.configuration.GroupPermissions;
 import com.aws.greengrass.clientdevices.auth.exception.AuthorizationException;
 import com.aws.greengrass.clientdevices.auth.exception.InvalidSessionException;
+import com.aws.greengrass.clientdevices.auth.iot.Certificate;
 import com.aws.greengrass.clientdevices.auth.iot.Component;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.iot.events.ClientDeviceActive;
+import com.aws.greengrass.clientdevices.auth.metrics.jfr.FlightRecorderEvents;
 import com.aws.greengrass.clientdevices.auth.session.Session;
 import com.aws.greengrass.clientdevices.auth.session.SessionManager;
+import com.aws.greengrass.clientdevices.auth.session.StageTimer;
+import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 import software.amazon.awssdk.utils.StringInputStream;
@@ -29,6 +37,8 @@ import java.security.cert.CertificateFactory;
 import java.security.cert.PKIXParameters;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -37,11 +47,15 @@ import javax.inject.Inject;
 
 public class DeviceAuthClient {
     private static final String ALLOW_ALL_SESSION = "ALLOW_ALL";
+    // Records of devices inactive for a day are dropped by the continuous refresh, so reporting the activity of a
+    // session every few minutes is plenty
+    private static final long ACTIVITY_REPORT_INTERVAL_NANOS = Duration.ofMinutes(5).toNanos();
     private static final Logger logger = LogManager.getLogger(DeviceAuthClient.class);
 
     private final SessionManager sessionManager;
     private final GroupManager groupManager;
     private final CertificateStore certificateStore;
+    private final DomainEvents domainEvents;
 
     /**
      * Constructor.
@@ -49,13 +63,15 @@ public class DeviceAuthClient {
      * @param sessionManager   Session manager
      * @param groupManager     Group manager
      * @param certificateStore Certificate store
+     * @param domainEvents     Domain event router
      */
     @Inject
     public DeviceAuthClient(SessionManager sessionManager, GroupManager groupManager,
-                            CertificateStore certificateStore) {
+                            CertificateStore certificateStore, DomainEvents domainEvents) {
         this.sessionManager = sessionManager;
         this.groupManager = groupManager;
         this.certificateStore = certificateStore;
+        this.domainEvents = domainEvents;
     }
 
     /**
@@ -74,9 +90,20 @@ public class DeviceAuthClient {
                 // client/server component) and checking that one against out leaf level core CA certificate.
                 if (is.available() > 0) {
                     try {
-                        leafCertificate = Arrays.asList((X509Certificate) cf.generateCertificate(is));
-                        CertPath leafCertPath = cf.generateCertPath(leafCertificate);
-                        return isGreengrassComponent(leafCertPath);
+                        long parseStart = StageTimer.startStage();
+                        CertPath leafCertPath;
+                        try {
+                            leafCertificate = Arrays.asList((X509Certificate) cf.generateCertificate(is));
+                            leafCertPath = cf.generateCertPath(leafCertificate);
+                        } finally {
+                            StageTimer.endStage(StageTimer.Stage.PEM_PARSING, parseStart);
+                        }
+                        long checkStart = StageTimer.startStage();
+                        try {
+                            return isGreengrassComponent(leafCertPath);
+                        } finally {
+                            StageTimer.endStage(StageTimer.Stage.COMPONENT_CHECK, checkStart);
+                        }
                     } catch (CertificateException e) {
                         // This doesn't necessarily mean there's a bad certificate.
                         // It could be that the string just has some extra newlines
@@ -123,25 +150,105 @@ public class DeviceAuthClient {
      * @throws AuthorizationException if session is invalid
      */
     public boolean canDevicePerform(AuthorizationRequest request) throws AuthorizationException {
+        Object jfrEvent = FlightRecorderEvents.beginAuthorization();
+        String decision = FlightRecorderEvents.DECISION_ERROR;
+        try {
+            boolean allowed = canDevicePerformInternal(request);
+            decision = allowed ? FlightRecorderEvents.DECISION_ALLOW : FlightRecorderEvents.DECISION_DENY;
+            return allowed;
+        } finally {
+            FlightRecorderEvents.endAuthorization(jfrEvent, request.getSessionId(), request.getOperation(),
+                    request.getResource(), decision);
+        }
+    }
+
+    /**
+     * Determine which of several device operations are allowed. The session is looked up, and the policy permissions
+     * of its groups resolved, once for the whole batch.
+     *
+     * @param request batch authorization request including sessionId and the operations and resources
+     * @return whether each action is authorized, in request order
+     * @throws AuthorizationException if session is invalid
+     */
+    public boolean[] canDevicePerform(BatchAuthorizationRequest request) throws AuthorizationException {
+        List<BatchAuthorizationRequest.Action> actions = request.getActions();
+        logger.atDebug().kv("sessionId", request.getSessionId()).kv("actions", actions.size())
+                .log("Processing batch authorization request");
+        boolean[] decisions = new boolean[actions.size()];
+
+        Session session = findPolicySession(request.getSessionId());
+        boolean allowAll = session == null;
+        if (!allowAll) {
+            emitClientDeviceActive(session);
+        }
+        List<GroupPermissions> permissions =
+                allowAll ? Collections.emptyList() : groupManager.getApplicableGroupPermissions(session);
+        for (int i = 0; i < decisions.length; i++) {
+            BatchAuthorizationRequest.Action action = actions.get(i);
+            Object jfrEvent = FlightRecorderEvents.beginAuthorization();
+            String decision = FlightRecorderEvents.DECISION_ERROR;
+            try {
+                decisions[i] = allowAll || PermissionEvaluationUtils.isAuthorized(action.getOperation(),
+                        action.getResource(), permissions);
+                decision = decisions[i] ? FlightRecorderEvents.DECISION_ALLOW : FlightRecorderEvents.DECISION_DENY;
+            } finally {
+                FlightRecorderEvents.endAuthorization(jfrEvent, request.getSessionId(), action.getOperation(),
+                        action.getResource(), decision);
+            }
+        }
+        return decisions;
+    }
+
+    private boolean canDevicePerformInternal(AuthorizationRequest request) throws AuthorizationException {
         logger.atDebug().kv("sessionId", request.getSessionId()).kv("action", request.getOperation())
                 .kv("resource", request.getResource()).log("Processing authorization request");
 
-        // TODO: Remove this workaround
-        if (request.getSessionId().equals(ALLOW_ALL_SESSION)) {
+        Session session = findPolicySession(request.getSessionId());
+        if (session == null) {
             return true;
         }
+        emitClientDeviceActive(session);
 
-        Session session = sessionManager.findSession(request.getSessionId());
+        return PermissionEvaluationUtils.isAuthorized(request.getOperation(), request.getResource(),
+                groupManager.getApplicableGroupPermissions(session));
+    }
+
+    /**
+     * Find the session whose policies an authorization request is evaluated against.
+     *
+     * @param sessionId session ID
+     * @return session, or null if the session is allowed all operations
+     * @throws AuthorizationException if session is invalid
+     */
+    private Session findPolicySession(String sessionId) throws AuthorizationException {
+        // TODO: Remove this workaround
+        if (sessionId.equals(ALLOW_ALL_SESSION)) {
+            return null;
+        }
+
+        Session session = sessionManager.findSession(sessionId);
         if (session == null) {
-            throw new InvalidSessionException(String.format("Invalid session ID (%s)", request.getSessionId()));
+            throw new InvalidSessionException(String.format("Invalid session ID (%s)", sessionId));
         }
         // Allow all operations from internal components
         // Keep the workaround above (ALLOW_ALL_SESSION) for Moquette since it is using the older session management
         if (session.getSessionAttribute(Component.NAMESPACE, "component") != null) {
-            return true;
+            return null;
         }
+        return session;
+    }
 
-        return PermissionEvaluationUtils.isAuthorized(request.getOperation(), request.getResource(),
-                groupManager.getApplicablePolicyPermissions(session));
+    // Lets the continuous certificate refresh keep the local records of long-lived sessions fresh
+    private void emitClientDeviceActive(Session session) {
+        if (!session.recordActivity(ACTIVITY_REPORT_INTERVAL_NANOS)) {
+            return;
+        }
+        DeviceAttribute certificateId = session.getSessionAttribute(Certificate.NAMESPACE, "CertificateId");
+        if (certificateId == null) {
+            return;
+        }
+        DeviceAttribute thingName = session.getSessionAttribute(Thing.NAMESPACE, "ThingName");
+        domainEvents.emit(new ClientDeviceActive(thingName == null ? null : thingName.getValue(),
+                certificateId.getValue(), Instant.now()));
     }
 }
@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.clientdevices.auth;
 
+import com.aws.greengrass.clientdevices.auth.configuration.GroupPermissions;
 import com.aws.greengrass.clientdevices.auth.configuration.Permission;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
@@ -12,6 +13,9 @@ import com.aws.greengrass.util.Utils;
 import lombok.Builder;
 import lombok.Value;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -19,7 +23,6 @@ import java.util.regex.Pattern;
 
 public final class PermissionEvaluationUtils {
     private static final Logger logger = LogManager.getLogger(PermissionEvaluationUtils.class);
-    private static final String ANY_REGEX = "*";
     private static final String SERVICE_PATTERN_STRING = "([a-zA-Z]+)";
     private static final String SERVICE_OPERATION_PATTERN_STRING = "([a-zA-Z0-9-_]+)";
     private static final String SERVICE_RESOURCE_TYPE_PATTERN_STRING = "([a-zA-Z]+)";
@@ -38,15 +41,39 @@ public final class PermissionEvaluationUtils {
     }
 
     /**
-     * utility method of authorizing operation to resource.
+     * utility method of authorizing operation to resource. Permissions are compiled on every call, and policy
+     * variables are not bound to any session, so permissions whose resources use them never match.
      *
      * @param operation             operation in the form of 'service:action'
      * @param resource              resource in the form of 'service:resourceType:resourceName'
      * @param groupToPermissionsMap device matching group to permissions map
      * @return whether operation to resource in authorized
+     * @deprecated use {@link #isAuthorized(String, String, Collection)} with the permissions returned by
+     *     {@link com.aws.greengrass.clientdevices.auth.configuration.GroupManager#getApplicableGroupPermissions}
      */
+    @Deprecated
     public static boolean isAuthorized(String operation, String resource,
                                        Map<String, Set<Permission>> groupToPermissionsMap) {
+        List<GroupPermissions> groupPermissions = new ArrayList<>();
+        if (groupToPermissionsMap != null) {
+            for (Map.Entry<String, Set<Permission>> entry : groupToPermissionsMap.entrySet()) {
+                groupPermissions.add(GroupPermissions.of(entry.getKey(), entry.getValue()));
+            }
+        }
+        return isAuthorized(operation, resource, groupPermissions);
+    }
+
+    /**
+     * utility method of authorizing operation to resource, using group permissions compiled with the group
+     * configuration.
+     *
+     * @param operation        operation in the form of 'service:action'
+     * @param resource         resource in the form of 'service:resourceType:resourceName'
+     * @param groupPermissions compiled permissions of the device matching groups
+     * @return whether operation to resource in authorized
+     */
+    public static boolean isAuthorized(String operation, String resource,
+                                       Collection<GroupPermissions> groupPermissions) {
         Operation op = parseOperation(operation);
         Resource rsc = parseResource(resource);
         if (!rsc.getService().equals(op.getService())) {
@@ -54,31 +81,16 @@ public final class PermissionEvaluationUtils {
                     String.format("Operation %s service is not same as resource %s service", op, rsc));
 
         }
-        if (groupToPermissionsMap == null || groupToPermissionsMap.isEmpty()) {
+        if (groupPermissions == null || groupPermissions.isEmpty()) {
             logger.atDebug().kv("operation", operation).kv("resource", resource)
                     .log("No authorization group matches, " + "deny the request");
             return false;
         }
 
-        for (Map.Entry<String, Set<Permission>> entry : groupToPermissionsMap.entrySet()) {
-            String principal = entry.getKey();
-            Set<Permission> permissions = entry.getValue();
-            if (Utils.isEmpty(permissions)) {
-                continue;
-            }
-
+        for (GroupPermissions group : groupPermissions) {
             // Find the first matching permission since we don't support 'deny' operation yet.
             //TODO add support of 'deny' operation
-            Permission permission = permissions.stream().filter(e -> {
-                if (!comparePrincipal(principal, e.getPrincipal())) {
-                    return false;
-                }
-                if (!compareOperation(op, e.getOperation())) {
-                    return false;
-                }
-                return compareResource(rsc, e.getResource());
-            }).findFirst().orElse(null);
-
+            Permission permission = group.findPermission(operation, resource);
             if (permission != null) {
                 logger.atDebug().log("Hit policy with permission {}", permission);
                 return true;
@@ -88,37 +100,6 @@ public final class PermissionEvaluationUtils {
         return false;
     }
 
-    private static boolean comparePrincipal(String requestPrincipal, String policyPrincipal) {
-        if (requestPrincipal.equals(policyPrincipal)) {
-            return true;
-        }
-
-        return ANY_REGEX.equals(policyPrincipal);
-    }
-
-    private static boolean compareOperation(Operation requestOperation, String policyOperation) {
-        if (requestOperation.toString().equals(policyOperation)) {
-            return true;
-        }
-        if (String.format(SERVICE_OPERATION_FORMAT, requestOperation.getService(), ANY_REGEX).equals(policyOperation)) {
-            return true;
-        }
-        return ANY_REGEX.equals(policyOperation);
-    }
-
-    private static boolean compareResource(Resource requestResource, String policyResource) {
-        if (requestResource.toString().equals(policyResource)) {
-            return true;
-        }
-
-        if (String.format(SERVICE_RESOURCE_FORMAT, requestResource.getService(), requestResource.getResourceType(),
-                ANY_REGEX).equals(policyResource)) {
-            return true;
-        }
-
-        return ANY_REGEX.equals(policyResource);
-    }
-
     private static Operation parseOperation(String operationStr) {
         if (Utils.isEmpty(operationStr)) {
             throw new IllegalArgumentException("Operation can't be empty");
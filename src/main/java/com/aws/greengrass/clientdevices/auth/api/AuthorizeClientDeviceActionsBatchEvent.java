@@ -0,0 +1,19 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+public class AuthorizeClientDeviceActionsBatchEvent implements DomainEvent {
+    @Getter
+    private int allowedCount;
+    @Getter
+    private int deniedCount;
+    @Getter
+    private long latencyNanos;
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer multi-consumer queue backed by a ring buffer, after Dmitry Vyukov's design. Each
+ * slot carries a sequence number which tells producers and consumers whether the slot is free or published, so an
+ * offer or poll is a single compare-and-set on the tail or head, and nothing is allocated per element.
+ *
+ * @param <E> element type
+ */
+final class BoundedEventQueue<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Construct a new BoundedEventQueue.
+     *
+     * @param capacity queue capacity, must be a power of two
+     */
+    BoundedEventQueue(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Queue capacity must be a power of two");
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element, unless the queue is full.
+     *
+     * @param element element to add
+     * @return position of the element, counting from 0, or -1 if the queue is full
+     */
+    long offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // Volatile so that publishing is ordered before the caller checks whether a consumer is running
+                    sequences.set(index, position + 1);
+                    return position;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                return -1;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest published element.
+     *
+     * @return element, or null if the queue is empty
+     */
+    E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long published = sequences.get(index) - (position + 1);
+            if (published == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.lazySet(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (published < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Check whether there is a published element to poll.
+     *
+     * @return true if the queue is empty
+     */
+    boolean isEmpty() {
+        long position = head.get();
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    /**
+     * Get the number of elements ever added to the queue.
+     *
+     * @return number of elements added
+     */
+    long getOfferedCount() {
+        return tail.get();
+    }
+}
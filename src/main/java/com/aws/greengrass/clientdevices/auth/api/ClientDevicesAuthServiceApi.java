@@ -6,6 +6,7 @@
 package com.aws.greengrass.clientdevices.auth.api;
 
 import com.aws.greengrass.clientdevices.auth.AuthorizationRequest;
+import com.aws.greengrass.clientdevices.auth.BatchAuthorizationRequest;
 import com.aws.greengrass.clientdevices.auth.CertificateManager;
 import com.aws.greengrass.clientdevices.auth.DeviceAuthClient;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
@@ -15,6 +16,7 @@ import com.aws.greengrass.clientdevices.auth.iot.events.VerifyClientDeviceIdenti
 import com.aws.greengrass.clientdevices.auth.iot.usecases.VerifyCertificateValidityPeriod;
 import com.aws.greengrass.clientdevices.auth.iot.usecases.VerifyIotCertificate;
 import com.aws.greengrass.clientdevices.auth.session.SessionManager;
+import com.aws.greengrass.clientdevices.auth.session.StageTimer;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
@@ -57,6 +59,8 @@ public class ClientDevicesAuthServiceApi {
      */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public boolean verifyClientDeviceIdentity(String certificatePem) {
+        long startNanos = System.nanoTime();
+        StageTimer timer = StageTimer.start("verifyClientDeviceIdentity");
         try {
             boolean isVerified;
 
@@ -76,6 +80,9 @@ public class ClientDevicesAuthServiceApi {
             domainEvents.emit(new ServiceErrorEvent());
             logger.atError().cause(e).log("Unable to verify client device identity");
             throw e;
+        } finally {
+            timer.stop(domainEvents);
+            emitLatency(ServiceOperationLatencyEvent.Operation.VERIFY_CLIENT_DEVICE_IDENTITY, startNanos);
         }
     }
 
@@ -90,12 +97,15 @@ public class ClientDevicesAuthServiceApi {
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public String getClientDeviceAuthToken(String credentialType, Map<String, String> deviceCredentials)
             throws AuthenticationException {
+        long startNanos = System.nanoTime();
         try {
             return sessionManager.createSession(credentialType, deviceCredentials);
         } catch (RuntimeException e) {
             domainEvents.emit(new ServiceErrorEvent());
             logger.atError().cause(e).log("Unable to create session");
             throw e;
+        } finally {
+            emitLatency(ServiceOperationLatencyEvent.Operation.GET_CLIENT_DEVICE_AUTH_TOKEN, startNanos);
         }
     }
 
@@ -120,6 +130,7 @@ public class ClientDevicesAuthServiceApi {
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public boolean authorizeClientDeviceAction(AuthorizationRequest authorizationRequest)
             throws AuthorizationException {
+        long startNanos = System.nanoTime();
         try {
             boolean isAuthorized = deviceAuthClient.canDevicePerform(authorizationRequest);
 
@@ -135,6 +146,44 @@ public class ClientDevicesAuthServiceApi {
             domainEvents.emit(new ServiceErrorEvent());
             logger.atError().cause(e).log("Unable to authorize client device action");
             throw e;
+        } finally {
+            emitLatency(ServiceOperationLatencyEvent.Operation.AUTHORIZE_CLIENT_DEVICE_ACTION, startNanos);
+        }
+    }
+
+    /**
+     * Authorize several actions of a client device, such as the topic filters of an MQTT subscribe. The session is
+     * looked up and its policies resolved once, and a single metrics event is emitted for the batch.
+     *
+     * @param batchAuthorizationRequest Batch authorization request, including auth token, operations and resources
+     * @return whether each client action is allowed, in request order
+     * @throws AuthorizationException if the session is invalid
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public boolean[] authorizeClientDeviceActions(BatchAuthorizationRequest batchAuthorizationRequest)
+            throws AuthorizationException {
+        long startNanos = System.nanoTime();
+        int allowed = 0;
+        int denied = 0;
+        try {
+            boolean[] decisions = deviceAuthClient.canDevicePerform(batchAuthorizationRequest);
+            for (boolean decision : decisions) {
+                if (decision) {
+                    allowed++;
+                }
+            }
+            denied = decisions.length - allowed;
+            return decisions;
+        } catch (AuthorizationException e) {
+            denied = batchAuthorizationRequest.getActions().size();
+            throw e;
+        } catch (RuntimeException e) {
+            domainEvents.emit(new ServiceErrorEvent());
+            logger.atError().cause(e).log("Unable to authorize client device actions");
+            throw e;
+        } finally {
+            domainEvents.emit(new AuthorizeClientDeviceActionsBatchEvent(allowed, denied,
+                    System.nanoTime() - startNanos));
         }
     }
 
@@ -157,4 +206,8 @@ public class ClientDevicesAuthServiceApi {
     public void unsubscribeFromCertificateUpdates(GetCertificateRequest getCertificateRequest) {
         certificateManager.unsubscribeFromCertificateUpdates(getCertificateRequest);
     }
+
+    private void emitLatency(ServiceOperationLatencyEvent.Operation operation, long startNanos) {
+        domainEvents.emit(new ServiceOperationLatencyEvent(operation, System.nanoTime() - startNanos));
+    }
 }
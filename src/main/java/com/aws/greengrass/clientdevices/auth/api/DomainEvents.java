@@ -8,29 +8,67 @@ package com.aws.greengrass.clientdevices.auth.api;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
-
+/**
+ * Routes domain events to their listeners. Listeners are kept in an immutable handler table per event class, which
+ * is rebuilt on registration, so emitting an event only looks up its table entry and allocates nothing.
+ *
+ * <p>Listeners are invoked synchronously on the emitting thread, unless they are registered as asynchronous. Events
+ * for asynchronous listeners are put on a bounded lock-free queue, which a background thread drains in batches every
+ * {@value #DRAIN_INTERVAL_MS} milliseconds, or sooner when events pile up. Emitting such an event is a single
+ * compare-and-set, with no allocation, locking or thread hand-off. If the queue is full, the emitting thread delivers
+ * the event itself, so events are never dropped.</p>
+ */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class DomainEvents {
-    private final Map<Class, CopyOnWriteArrayList<Consumer>> eventHandlers = new ConcurrentHashMap<>();
+    private static final int ASYNC_QUEUE_CAPACITY = 8_192;
+    private static final long DRAIN_INTERVAL_MS = 20L;
+    private static final long DRAIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(DRAIN_INTERVAL_MS);
+    // The dispatcher thread exits after about a minute without events, and is started again by the next event
+    private static final int IDLE_DRAINS_BEFORE_EXIT = 3_000;
+    // Wake the dispatcher early each time this many events were queued, so that bursts don't fill the queue
+    private static final int WAKE_UP_BATCH = 1_024;
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final Consumer[] NO_HANDLERS = new Consumer[0];
+
+    private final Map<Class, Handlers> eventHandlers = new ConcurrentHashMap<>();
     private final Logger logger = LogManager.getLogger(DomainEvents.class);
+    private final BoundedEventQueue<DomainEvent> asyncQueue = new BoundedEventQueue<>(ASYNC_QUEUE_CAPACITY);
+    private final AtomicBoolean dispatcherRunning = new AtomicBoolean();
+    private final AtomicLong asyncDelivered = new AtomicLong();
+    private final LongAdder asyncOverflows = new LongAdder();
+    private volatile Thread dispatcher;
 
     /**
-     * Register event listener.
+     * Register event listener, which is invoked synchronously on the thread emitting the event.
      *
      * @param listener Event listener callback
      * @param clazz    Type of domain event
      * @param <T>      Type of domain event
      */
     public <T extends DomainEvent> void registerListener(Consumer<T> listener, Class<T> clazz) {
-        CopyOnWriteArrayList<Consumer> listeners =
-                eventHandlers.computeIfAbsent(clazz, (k) -> new CopyOnWriteArrayList<>());
-        listeners.addIfAbsent(listener);
+        register(listener, clazz, false);
+    }
+
+    /**
+     * Register event listener, which is invoked on a background thread after the event is emitted. Use this for
+     * listeners which only record the event, such as metrics, to keep them off the emitting thread.
+     *
+     * @param listener Event listener callback, must be thread safe
+     * @param clazz    Type of domain event
+     * @param <T>      Type of domain event
+     */
+    public <T extends DomainEvent> void registerAsyncListener(Consumer<T> listener, Class<T> clazz) {
+        register(listener, clazz, true);
     }
 
     /**
@@ -40,13 +78,146 @@ public class DomainEvents {
      * @param <T>         Type of domain event
      */
     public <T extends DomainEvent> void emit(T domainEvent) {
-        List<Consumer> handlers = eventHandlers.getOrDefault(domainEvent.getClass(), new CopyOnWriteArrayList<>());
-
-        for (Consumer<T> handler : handlers) {
-            logger.atDebug().kv("eventHandler", handler.getClass().getSimpleName())
-                    .kv("event", domainEvent.getClass().getSimpleName()).log("Invoking event handler");
+        Handlers handlers = eventHandlers.get(domainEvent.getClass());
+        if (handlers == null) {
+            return;
+        }
 
+        for (Consumer handler : handlers.sync) {
             handler.accept(domainEvent);
         }
+
+        if (handlers.async.length != 0) {
+            long position = asyncQueue.offer(domainEvent);
+            if (position < 0) {
+                asyncOverflows.increment();
+                deliverAsync(domainEvent);
+            } else if (!dispatcherRunning.get()) {
+                startDispatcher();
+            } else if ((position & (WAKE_UP_BATCH - 1)) == 0) {
+                LockSupport.unpark(dispatcher);
+            }
+        }
+    }
+
+    /**
+     * Wait until every event emitted so far has been delivered to asynchronous listeners. Pending events are
+     * delivered on the calling thread. Must not be called from an asynchronous listener.
+     */
+    public void flush() {
+        long emitted = asyncQueue.getOfferedCount();
+        while (asyncDelivered.get() < emitted) {
+            if (!drain()) {
+                // Remaining events are being delivered by the dispatcher thread
+                LockSupport.parkNanos(FLUSH_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Get the number of events delivered on the emitting thread because the asynchronous queue was full.
+     *
+     * @return number of overflowed events
+     */
+    public long getAsyncOverflowCount() {
+        return asyncOverflows.sum();
+    }
+
+    private synchronized void register(Consumer listener, Class clazz, boolean async) {
+        Handlers handlers = eventHandlers.getOrDefault(clazz, Handlers.EMPTY);
+        if (handlers.contains(listener)) {
+            return;
+        }
+        eventHandlers.put(clazz, async ? new Handlers(handlers.sync, append(handlers.async, listener))
+                : new Handlers(append(handlers.sync, listener), handlers.async));
+        logger.atDebug().kv("eventHandler", listener.getClass().getSimpleName())
+                .kv("event", clazz.getSimpleName()).kv("async", async).log("Registered event handler");
+    }
+
+    private void startDispatcher() {
+        if (dispatcherRunning.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::dispatch, "cda-domain-events");
+            thread.setDaemon(true);
+            dispatcher = thread;
+            thread.start();
+        }
+    }
+
+    private void dispatch() {
+        int idleDrains = 0;
+        while (true) {
+            if (drainAll()) {
+                idleDrains = 0;
+            } else if (++idleDrains >= IDLE_DRAINS_BEFORE_EXIT) {
+                dispatcherRunning.set(false);
+                // An event published after the last poll may have seen the dispatcher still running
+                if (asyncQueue.isEmpty() || !dispatcherRunning.compareAndSet(false, true)) {
+                    return;
+                }
+                idleDrains = 0;
+            }
+            LockSupport.parkNanos(this, DRAIN_INTERVAL_NANOS);
+        }
+    }
+
+    private boolean drainAll() {
+        boolean delivered = false;
+        while (drain()) {
+            delivered = true;
+        }
+        return delivered;
+    }
+
+    /**
+     * Deliver one queued event.
+     *
+     * @return false if the queue was empty
+     */
+    private boolean drain() {
+        DomainEvent event = asyncQueue.poll();
+        if (event == null) {
+            return false;
+        }
+        try {
+            deliverAsync(event);
+        } finally {
+            asyncDelivered.incrementAndGet();
+        }
+        return true;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void deliverAsync(DomainEvent event) {
+        Handlers handlers = eventHandlers.getOrDefault(event.getClass(), Handlers.EMPTY);
+        for (Consumer handler : handlers.async) {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                logger.atError().kv("eventHandler", handler.getClass().getSimpleName())
+                        .kv("event", event.getClass().getSimpleName()).cause(e).log("Event handler failed");
+            }
+        }
+    }
+
+    private static Consumer[] append(Consumer[] handlers, Consumer handler) {
+        Consumer[] appended = Arrays.copyOf(handlers, handlers.length + 1);
+        appended[handlers.length] = handler;
+        return appended;
+    }
+
+    private static final class Handlers {
+        static final Handlers EMPTY = new Handlers(NO_HANDLERS, NO_HANDLERS);
+
+        final Consumer[] sync;
+        final Consumer[] async;
+
+        Handlers(Consumer[] sync, Consumer[] async) {
+            this.sync = sync;
+            this.async = async;
+        }
+
+        boolean contains(Consumer handler) {
+            return Arrays.asList(sync).contains(handler) || Arrays.asList(async).contains(handler);
+        }
     }
 }
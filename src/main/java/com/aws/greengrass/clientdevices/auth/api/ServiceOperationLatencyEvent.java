@@ -0,0 +1,23 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+public class ServiceOperationLatencyEvent implements DomainEvent {
+    @Getter
+    private Operation operation;
+    @Getter
+    private long latencyNanos;
+
+    public enum Operation {
+        VERIFY_CLIENT_DEVICE_IDENTITY,
+        GET_CLIENT_DEVICE_AUTH_TOKEN,
+        AUTHORIZE_CLIENT_DEVICE_ACTION
+    }
+}
@@ -5,81 +5,89 @@
 
 package com.aws.greengrass.clientdevices.auth.certificate;
 
-import com.aws.greengrass.clientdevices.auth.connectivity.ConnectivityInformation;
-import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
-import com.aws.greengrass.logging.api.Logger;
-import com.aws.greengrass.logging.impl.LogManager;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Setter;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.Optional;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javax.inject.Inject;
 
+/**
+ * Rotates certificates before they expire. Each monitored generator has a single rotation deadline, one day before its
+ * certificate expires, which is only recomputed when the generator issues a certificate. The monitor sleeps until the
+ * earliest deadline rather than polling every generator.
+ */
 public class CertificateExpiryMonitor {
-    private static final Logger LOGGER = LogManager.getLogger(CertificateExpiryMonitor.class);
-    private static final long DEFAULT_CERT_EXPIRY_CHECK_SECONDS = 30;
+    private static final Duration ROTATION_LEAD_TIME = Duration.ofDays(1);
+    // Delay before retrying a generator which has no certificate yet or failed to rotate
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+    // Upper bound on a single wait, so that wall clock adjustments are picked up
+    private static final Duration MAX_WAIT = Duration.ofHours(1);
 
     @Setter(AccessLevel.PACKAGE)  // for unit tests
-    private Clock clock;
+    private volatile Clock clock;
 
     private final ScheduledExecutorService ses;
 
-    private final ConnectivityInformation connectivityInformation;
+    private final CertificateRotationScheduler rotationScheduler;
 
     private final Set<CertificateGenerator> monitoredCertificateGenerators = new CopyOnWriteArraySet<>();
 
-    private ScheduledFuture<?> monitorFuture;
+    private final DelayQueue<RotationDeadline> deadlines = new DelayQueue<>();
+
+    private final Map<CertificateGenerator, RotationDeadline> deadlineByGenerator = new ConcurrentHashMap<>();
+
+    private final Consumer<CertificateGenerator> issuanceListener = this::scheduleDeadline;
+
+    private boolean running;
+
+    private ScheduledFuture<?> wakeupFuture;
+
+    private long wakeupNanos;
 
     /**
      * Construct a new CertificateExpiryMonitor.
      *
-     * @param ses                     ScheduledExecutorService to schedule cert expiry checks
-     * @param connectivityInformation Connectivity Info Provider
-     * @param clock                   clock
+     * @param ses               ScheduledExecutorService to schedule cert expiry checks
+     * @param rotationScheduler Certificate rotation scheduler
+     * @param clock             clock
      */
     @Inject
-    public CertificateExpiryMonitor(ScheduledExecutorService ses, ConnectivityInformation connectivityInformation,
+    public CertificateExpiryMonitor(ScheduledExecutorService ses, CertificateRotationScheduler rotationScheduler,
                                     Clock clock) {
         this.ses = ses;
-        this.connectivityInformation = connectivityInformation;
+        this.rotationScheduler = rotationScheduler;
         this.clock = clock;
     }
 
     /**
      * Start cert expiry monitor.
      */
-    public void startMonitor() {
-        startMonitor(Duration.ofSeconds(DEFAULT_CERT_EXPIRY_CHECK_SECONDS));
+    public synchronized void startMonitor() {
+        running = true;
+        cancelWakeup();
+        scheduleWakeup();
     }
 
-    void startMonitor(Duration certExpiryCheck) {
-        if (monitorFuture != null) {
-            monitorFuture.cancel(true);
-        }
-        monitorFuture = ses.scheduleAtFixedRate(this::watchForCertExpiryOnce, certExpiryCheck.toMillis(),
-                certExpiryCheck.toMillis(), TimeUnit.MILLISECONDS);
-    }
-
-    void watchForCertExpiryOnce() {
-        for (CertificateGenerator cg : monitoredCertificateGenerators) {
-            new CertRotationDecider(cg, clock).rotationReady().ifPresent(reason -> {
-                try {
-                    cg.generateCertificate(connectivityInformation::getCachedHostAddresses, reason);
-                } catch (CertificateGenerationException e) {
-                    LOGGER.atError().cause(e).log("Error generating certificate. Will be retried after {} seconds",
-                            DEFAULT_CERT_EXPIRY_CHECK_SECONDS);
-                }
-            });
-        }
+    /**
+     * Stop cert expiry monitor.
+     */
+    public synchronized void stopMonitor() {
+        running = false;
+        cancelWakeup();
     }
 
     /**
@@ -88,67 +96,147 @@ public class CertificateExpiryMonitor {
      * @param cg certificate generator
      */
     public void addToMonitor(CertificateGenerator cg) {
-        monitoredCertificateGenerators.add(cg);
+        if (monitoredCertificateGenerators.add(cg)) {
+            cg.addIssuanceListener(issuanceListener);
+            scheduleDeadline(cg);
+        }
     }
 
     /**
-     * Stop cert expiry monitor.
+     * Remove cert from cert expiry monitor.
+     *
+     * @param cg certificate generator
      */
-    public void stopMonitor() {
-        if (monitorFuture != null) {
-            monitorFuture.cancel(true);
+    public void removeFromMonitor(CertificateGenerator cg) {
+        if (monitoredCertificateGenerators.remove(cg)) {
+            cg.removeIssuanceListener(issuanceListener);
+            RotationDeadline deadline = deadlineByGenerator.remove(cg);
+            if (deadline != null) {
+                deadlines.remove(deadline);
+            }
         }
     }
 
     /**
-     * Remove cert from cert expiry monitor.
+     * Get the number of certificates watched for expiry.
      *
-     * @param cg certificate generator
+     * @return number of monitored certificate generators
      */
-    public void removeFromMonitor(CertificateGenerator cg) {
-        monitoredCertificateGenerators.remove(cg);
+    public int getMonitoredCertificateGeneratorCount() {
+        return monitoredCertificateGenerators.size();
     }
 
-    private static class CertRotationDecider {
+    void watchForCertExpiryOnce() {
+        Instant now = Instant.now(clock);
+        Map<CertificateGenerator, String> rotations = new LinkedHashMap<>();
+        RotationDeadline due = deadlines.poll();
+        while (due != null) {
+            if (deadlineByGenerator.remove(due.generator, due)) {
+                rotations.put(due.generator, rotationReason(due.generator.getExpiryTime(), now));
+            }
+            due = deadlines.poll();
+        }
+        if (rotations.isEmpty()) {
+            return;
+        }
 
-        private final Instant expiryTime;
-        private final Instant currentTime;
+        // Successful rotations reschedule themselves through the issuance listener. Failures are logged by the
+        // scheduler and retried later
+        rotationScheduler.requestRotations(rotations).whenComplete((ignored, e) -> {
+            for (CertificateGenerator cg : rotations.keySet()) {
+                if (monitoredCertificateGenerators.contains(cg) && !deadlineByGenerator.containsKey(cg)) {
+                    scheduleDeadline(cg, Instant.now(clock).plus(RETRY_DELAY));
+                }
+            }
+        });
+    }
 
-        CertRotationDecider(CertificateGenerator cg, Clock clock) {
-            this.expiryTime = cg.getExpiryTime();
-            this.currentTime = Instant.now(clock);
+    private static String rotationReason(Instant expiryTime, Instant now) {
+        if (expiryTime.isBefore(now)) {
+            return String.format("certificate expired at %s", expiryTime);
         }
+        return String.format("certificate is approaching expiration at %s with %d seconds remaining", expiryTime,
+                Duration.between(now, expiryTime).getSeconds());
+    }
 
-        /**
-         * Determines if certificate rotation is ready.
-         *
-         * @return reason for cert rotation
-         */
-        public Optional<String> rotationReady() {
-            if (isExpired()) {
-                return Optional.of(String.format("certificate expired at %s", expiryTime));
-            }
+    private void scheduleDeadline(CertificateGenerator cg) {
+        Instant expiryTime = cg.getExpiryTime();
+        if (Instant.MIN.equals(expiryTime)) {
+            // No certificate yet, the initial issuance normally happens right after the generator is added
+            scheduleDeadline(cg, Instant.now(clock).plus(RETRY_DELAY));
+        } else {
+            scheduleDeadline(cg, expiryTime.minus(ROTATION_LEAD_TIME));
+        }
+    }
 
-            if (isAboutToExpire()) {
-                return Optional.of(
-                        String.format("certificate is approaching expiration at %s with %d seconds remaining",
-                                expiryTime, getValidity().getSeconds()));
-            }
+    private void scheduleDeadline(CertificateGenerator cg, Instant deadline) {
+        if (!monitoredCertificateGenerators.contains(cg)) {
+            return;
+        }
+        RotationDeadline rotationDeadline = new RotationDeadline(cg, deadline);
+        RotationDeadline previous = deadlineByGenerator.put(cg, rotationDeadline);
+        if (previous != null) {
+            deadlines.remove(previous);
+        }
+        deadlines.add(rotationDeadline);
+        scheduleWakeup();
+    }
+
+    private synchronized void scheduleWakeup() {
+        if (!running) {
+            return;
+        }
+        long delayMillis = MAX_WAIT.toMillis();
+        RotationDeadline next = deadlines.peek();
+        if (next != null) {
+            delayMillis = Math.max(0, Math.min(delayMillis, next.getDelay(TimeUnit.MILLISECONDS)));
+        }
+        long nanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        if (wakeupFuture != null && wakeupNanos - nanos <= 0) {
+            // Already waking up early enough
+            return;
+        }
+        cancelWakeup();
+        wakeupNanos = nanos;
+        wakeupFuture = ses.schedule(this::onWakeup, delayMillis, TimeUnit.MILLISECONDS);
+    }
 
-            return Optional.empty();
+    private void onWakeup() {
+        synchronized (this) {
+            wakeupFuture = null;
         }
+        watchForCertExpiryOnce();
+        scheduleWakeup();
+    }
+
+    private synchronized void cancelWakeup() {
+        if (wakeupFuture != null) {
+            wakeupFuture.cancel(true);
+            wakeupFuture = null;
+        }
+    }
+
+    @EqualsAndHashCode
+    private final class RotationDeadline implements Delayed {
+        private final CertificateGenerator generator;
+        private final Instant deadline;
 
-        private boolean isExpired() {
-            return expiryTime.isBefore(currentTime);
+        RotationDeadline(CertificateGenerator generator, Instant deadline) {
+            this.generator = generator;
+            this.deadline = deadline;
         }
 
-        private boolean isAboutToExpire() {
-            return !isExpired() && expiryTime.isBefore(currentTime.plus(1, ChronoUnit.DAYS));
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(clock), deadline).toMillis(), TimeUnit.MILLISECONDS);
         }
 
-        private Duration getValidity() {
-            Duration duration = Duration.between(currentTime, expiryTime);
-            return duration.isNegative() ? Duration.ZERO : duration;
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof RotationDeadline) {
+                return deadline.compareTo(((RotationDeadline) other).deadline);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
         }
     }
 }
@@ -6,6 +6,7 @@
 package com.aws.greengrass.clientdevices.auth.certificate;
 
 import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
+import com.aws.greengrass.logging.api.Logger;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,6 +17,9 @@ import java.security.cert.X509Certificate;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public abstract class CertificateGenerator {
@@ -29,6 +33,10 @@ public abstract class CertificateGenerator {
     @Setter(AccessLevel.PACKAGE) // for unit tests
     protected Clock clock;
 
+    private final Set<Consumer<CertificateGenerator>> issuanceListeners = new CopyOnWriteArraySet<>();
+    // Configured key type the mismatch was last logged for
+    private volatile CertificateStore.KeyType mismatchLoggedFor;
+
     /**
      * Construct a new CertificateGenerator.
      *
@@ -69,4 +77,46 @@ public abstract class CertificateGenerator {
         }
         return certificate.getNotAfter().toInstant();
     }
+
+    /**
+     * Register a listener called every time this generator issues a certificate.
+     *
+     * @param listener issuance listener
+     */
+    void addIssuanceListener(Consumer<CertificateGenerator> listener) {
+        issuanceListeners.add(listener);
+    }
+
+    /**
+     * Remove an issuance listener.
+     *
+     * @param listener issuance listener
+     */
+    void removeIssuanceListener(Consumer<CertificateGenerator> listener) {
+        issuanceListeners.remove(listener);
+    }
+
+    /**
+     * Notify issuance listeners. Must be called by concrete generators once a new certificate is assigned.
+     */
+    protected void notifyCertificateIssued() {
+        issuanceListeners.forEach(listener -> listener.accept(this));
+    }
+
+    /**
+     * Log if the subject key is not of the configured key type, once per configured key type rather than on every
+     * issuance. The key pair belongs to the subscription, so a key type change only applies to certificates of new
+     * subscriptions.
+     *
+     * @param logger logger of the concrete generator
+     */
+    protected void checkKeyType(Logger logger) {
+        CertificateStore.KeyType keyType = certificatesConfig.getKeyType();
+        if (keyType != mismatchLoggedFor && !CertificateStore.isKeyOfType(publicKey, keyType)) {
+            mismatchLoggedFor = keyType;
+            logger.atInfo().kv("subject", subject).kv("keyType", keyType)
+                    .log("Certificate key is not of the configured key type, it will be used until the subscription "
+                            + "is renewed");
+        }
+    }
 }
@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.clientdevices.auth.certificate;
 
+import com.aws.greengrass.clientdevices.auth.metrics.jfr.FlightRecorderEvents;
 import com.aws.greengrass.clientdevices.auth.util.ParseIPAddress;
 import com.aws.greengrass.util.Utils;
 import lombok.NonNull;
@@ -208,6 +209,23 @@ public final class CertificateHelper {
                                                     @NonNull Date notAfter, @NonNull ExtendedKeyUsage keyUsage,
                                                     @NonNull ProviderType providerType)
             throws NoSuchAlgorithmException, CertificateException, IOException, OperatorCreationException {
+        Object jfrEvent = FlightRecorderEvents.beginCertificateIssuance();
+        boolean issued = false;
+        try {
+            X509Certificate certificate = buildCertificate(caCert, caPrivateKey, subject, publicKey,
+                    connectivityInfoItems, notBefore, notAfter, keyUsage, getProvider(providerType));
+            issued = true;
+            return certificate;
+        } finally {
+            FlightRecorderEvents.endCertificateIssuance(jfrEvent, subject, providerType, issued);
+        }
+    }
+
+    private static X509Certificate buildCertificate(X509Certificate caCert, PrivateKey caPrivateKey,
+                                                    X500Name subject, PublicKey publicKey,
+                                                    List<String> connectivityInfoItems, Date notBefore,
+                                                    Date notAfter, ExtendedKeyUsage keyUsage, String provider)
+            throws NoSuchAlgorithmException, CertificateException, IOException, OperatorCreationException {
         X509v3CertificateBuilder builder =
                 new JcaX509v3CertificateBuilder(caCert, newSerialNumber(), notBefore, notAfter, subject, publicKey);
 
@@ -222,7 +240,7 @@ public final class CertificateHelper {
         }
 
         final ContentSigner contentSigner =
-                new JcaContentSignerBuilder(caCert.getSigAlgName()).setProvider(getProvider(providerType))
+                new JcaContentSignerBuilder(caCert.getSigAlgName()).setProvider(provider)
                         .build(caPrivateKey);
 
         return new JcaX509CertificateConverter().getCertificate(builder.build(contentSigner));
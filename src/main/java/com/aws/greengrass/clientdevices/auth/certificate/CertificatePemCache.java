@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.CertificateUpdateEvent;
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CACertificateChainChanged;
+import com.aws.greengrass.util.EncryptionUtils;
+import lombok.Value;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.security.KeyStoreException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+import static com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper.PEM_BOUNDARY_CERTIFICATE;
+import static com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper.PEM_BOUNDARY_PRIVATE_KEY;
+import static com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper.PEM_BOUNDARY_PUBLIC_KEY;
+
+/**
+ * Caches the PEM encodings sent to certificate subscribers. The CA certificate is encoded once per CA change, and each
+ * issued certificate is encoded once no matter how many subscribers it is delivered to.
+ */
+public class CertificatePemCache implements Consumer<CACertificateChainChanged> {
+    private final CertificateStore certificateStore;
+    private final DomainEvents domainEvents;
+    // Weak keys, so that entries go away along with the certificates they were encoded from
+    private final Map<X509Certificate, EncodedCertificateUpdate> encodedUpdates = new WeakHashMap<>();
+    private volatile CACertificatesPem caCertificatesPem;
+
+    /**
+     * Construct a new CertificatePemCache.
+     *
+     * @param certificateStore Certificate store
+     * @param domainEvents     Domain event router
+     */
+    @Inject
+    public CertificatePemCache(CertificateStore certificateStore, DomainEvents domainEvents) {
+        this.certificateStore = certificateStore;
+        this.domainEvents = domainEvents;
+    }
+
+    /**
+     * Listen for CA changes to invalidate the CA certificate PEM.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, CACertificateChainChanged.class);
+    }
+
+    @Override
+    public void accept(CACertificateChainChanged event) {
+        caCertificatesPem = null;
+    }
+
+    /**
+     * Get a singleton list with the PEM encoded CA at position 0 of the CA chain.
+     *
+     * @return PEM encoded CA certificates
+     * @throws KeyStoreException            if unable to retrieve the certificate
+     * @throws IOException                  if unable to encode the certificate
+     * @throws CertificateEncodingException if unable to get certificate encoding
+     */
+    public List<String> getCACertificates() throws KeyStoreException, IOException, CertificateEncodingException {
+        X509Certificate caCertificate = certificateStore.getCACertificate();
+        CACertificatesPem cached = caCertificatesPem;
+        // Compare against the current CA so that an encoding racing with a CA change is never served
+        if (cached == null || cached.getCaCertificate() != caCertificate) {
+            cached = new CACertificatesPem(caCertificate,
+                    Collections.singletonList(CertificateHelper.toPem(caCertificate)));
+            caCertificatesPem = cached;
+        }
+        return cached.getPem();
+    }
+
+    /**
+     * Get the PEM encodings of an issued certificate and its key pair.
+     *
+     * @param updateEvent certificate update
+     * @return PEM encoded certificate and keys
+     * @throws CertificateEncodingException if unable to get certificate encoding
+     * @throws IOException                  if unable to encode the certificate or keys
+     */
+    public EncodedCertificateUpdate encode(CertificateUpdateEvent updateEvent)
+            throws CertificateEncodingException, IOException {
+        X509Certificate certificate = updateEvent.getCertificate();
+        synchronized (encodedUpdates) {
+            EncodedCertificateUpdate encoded = encodedUpdates.get(certificate);
+            if (encoded != null) {
+                return encoded;
+            }
+        }
+
+        KeyPair kp = updateEvent.getKeyPair();
+        EncodedCertificateUpdate encoded = new EncodedCertificateUpdate(
+                EncryptionUtils.encodeToPem(PEM_BOUNDARY_CERTIFICATE, certificate.getEncoded()),
+                EncryptionUtils.encodeToPem(PEM_BOUNDARY_PUBLIC_KEY, kp.getPublic().getEncoded()),
+                EncryptionUtils.encodeToPem(PEM_BOUNDARY_PRIVATE_KEY, kp.getPrivate().getEncoded()));
+        synchronized (encodedUpdates) {
+            encodedUpdates.put(certificate, encoded);
+        }
+        return encoded;
+    }
+
+    @Value
+    public static class EncodedCertificateUpdate {
+        String certificate;
+        String publicKey;
+        String privateKey;
+    }
+
+    @Value
+    private static class CACertificatesPem {
+        X509Certificate caCertificate;
+        List<String> pem;
+    }
+}
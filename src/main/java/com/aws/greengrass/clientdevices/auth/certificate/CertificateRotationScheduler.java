@@ -0,0 +1,259 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateRotationWaveCompleted;
+import com.aws.greengrass.clientdevices.auth.connectivity.ConnectivityInformation;
+import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.inject.Inject;
+
+/**
+ * Coalesces certificate rotation requests. Rotation requests for a generator are collected over a short window and
+ * result in a single certificate issuance, using the connectivity information and CA available when the window
+ * closes. This avoids rotating the same certificate several times when, for example, a CA change is closely followed
+ * by a connectivity change.
+ *
+ * <p>Certificates are issued on a pool sized to the number of CPUs, so that rotating many subscriptions at once takes
+ * roughly the time of the slowest issuance rather than the sum of all of them. A failed issuance only fails the future
+ * of its own generator.
+ */
+public class CertificateRotationScheduler {
+    private static final Logger logger = LogManager.getLogger(CertificateRotationScheduler.class);
+    public static final Duration DEFAULT_ROTATION_WINDOW = Duration.ofSeconds(5);
+
+    private final ScheduledExecutorService ses;
+    private final Executor rotationExecutor;
+    private final ConnectivityInformation connectivityInformation;
+    private final DomainEvents domainEvents;
+    private final Map<CertificateGenerator, PendingRotation> pendingRotations = new ConcurrentHashMap<>();
+    // Host addresses each generator's certificate was last rotated for
+    private final Map<CertificateGenerator, List<String>> rotatedHostAddresses = new ConcurrentHashMap<>();
+    // Number of rotations in flight for each generator, dropped when the generator is cancelled
+    private final Map<CertificateGenerator, Integer> inFlightRotations = new ConcurrentHashMap<>();
+    private volatile Duration rotationWindow = DEFAULT_ROTATION_WINDOW;
+
+    /**
+     * Construct a new CertificateRotationScheduler.
+     *
+     * @param ses                     ScheduledExecutorService to schedule rotations
+     * @param connectivityInformation Connectivity Info Provider
+     * @param domainEvents            Domain event router
+     */
+    @Inject
+    public CertificateRotationScheduler(ScheduledExecutorService ses, ConnectivityInformation connectivityInformation,
+                                        DomainEvents domainEvents) {
+        this(ses, newRotationExecutor(), connectivityInformation, domainEvents);
+    }
+
+    CertificateRotationScheduler(ScheduledExecutorService ses, Executor rotationExecutor,
+                                 ConnectivityInformation connectivityInformation, DomainEvents domainEvents) {
+        this.ses = ses;
+        this.rotationExecutor = rotationExecutor;
+        this.connectivityInformation = connectivityInformation;
+        this.domainEvents = domainEvents;
+    }
+
+    private static Executor newRotationExecutor() {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "cda-certificate-rotation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Rotations are rare, so don't keep the threads around in between
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Set how long rotation requests are collected before a certificate is issued. A zero window rotates the
+     * certificate on the calling thread.
+     *
+     * @param rotationWindow rotation window
+     */
+    public void setRotationWindow(Duration rotationWindow) {
+        this.rotationWindow = rotationWindow.isNegative() ? Duration.ZERO : rotationWindow;
+    }
+
+    /**
+     * Request the rotation of several certificates for the same reason.
+     *
+     * @param generators certificate generators
+     * @param reason     WHY the rotation was requested
+     * @return future completed once all certificates are rotated, or exceptionally if any rotation failed
+     */
+    public CompletableFuture<Void> requestRotations(Collection<CertificateGenerator> generators, String reason) {
+        Map<CertificateGenerator, String> rotations = new LinkedHashMap<>();
+        generators.forEach(cg -> rotations.put(cg, reason));
+        return requestRotations(rotations);
+    }
+
+    /**
+     * Request the rotation of several certificates as one wave. Each certificate is rotated independently, a failure
+     * for one of them doesn't prevent the others from being rotated. Once all of them are done, the wave latency is
+     * reported.
+     *
+     * @param rotations certificate generators to rotate along with WHY they need to be rotated
+     * @return future completed once all certificates are rotated, or exceptionally if any rotation failed
+     */
+    public CompletableFuture<Void> requestRotations(Map<CertificateGenerator, String> rotations) {
+        if (rotations.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long start = System.nanoTime();
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<?>[] futures = rotations.entrySet().stream()
+                .map(entry -> requestRotation(entry.getKey(), entry.getValue()).handle((ignored, e) -> {
+                    if (e != null) {
+                        failures.incrementAndGet();
+                        logger.atError().kv("subject", entry.getKey().subject).cause(e)
+                                .log("Failed to rotate certificate");
+                    }
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures).thenRun(() -> {
+            Duration latency = Duration.ofNanos(System.nanoTime() - start);
+            logger.atInfo().kv("certificates", rotations.size()).kv("failures", failures.get())
+                    .kv("latencyMillis", latency.toMillis()).log("Certificate rotation wave completed");
+            domainEvents.emit(new CertificateRotationWaveCompleted(rotations.size(), failures.get(), latency));
+            if (failures.get() > 0) {
+                throw new CompletionException(new CertificateGenerationException(
+                        String.format("Failed to rotate %d of %d certificates", failures.get(), rotations.size())));
+            }
+        });
+    }
+
+    /**
+     * Request a certificate rotation. Requests made before the pending rotation of the same generator starts are
+     * merged into it.
+     *
+     * @param cg     certificate generator
+     * @param reason WHY the rotation was requested
+     * @return future completed once the certificate is rotated, or exceptionally if the rotation failed
+     */
+    public CompletableFuture<Void> requestRotation(CertificateGenerator cg, String reason) {
+        Duration window = rotationWindow;
+        if (window.isZero()) {
+            PendingRotation rotation = new PendingRotation();
+            rotation.reasons.add(reason);
+            rotate(cg, rotation);
+            return rotation.future;
+        }
+
+        AtomicBoolean created = new AtomicBoolean(false);
+        PendingRotation pending = pendingRotations.compute(cg, (k, v) -> {
+            PendingRotation rotation = v;
+            if (rotation == null) {
+                rotation = new PendingRotation();
+                created.set(true);
+            }
+            rotation.reasons.add(reason);
+            return rotation;
+        });
+
+        if (created.get()) {
+            ses.schedule(() -> {
+                // Requests arriving after this point need a certificate built from newer state, so they start a new
+                // rotation rather than joining this one
+                if (pendingRotations.remove(cg, pending)) {
+                    rotationExecutor.execute(() -> rotate(cg, pending));
+                }
+            }, window.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            logger.atDebug().kv("subject", cg.subject).kv("reason", reason)
+                    .log("Merged certificate rotation request into pending rotation");
+        }
+        return pending.future;
+    }
+
+    /**
+     * Check whether the last rotation of a certificate used the given host addresses. Whichever component requested
+     * it, only a successful rotation counts, and the host addresses are only known once the certificate is rotated
+     * through this scheduler.
+     *
+     * @param cg            certificate generator
+     * @param hostAddresses cached host addresses
+     * @return true if the certificate was last rotated for these host addresses
+     */
+    public boolean isRotatedFor(CertificateGenerator cg, List<String> hostAddresses) {
+        return hostAddresses.equals(rotatedHostAddresses.get(cg));
+    }
+
+    /**
+     * Drop any pending rotation for a generator which is no longer in use.
+     *
+     * @param cg certificate generator
+     */
+    public void cancel(CertificateGenerator cg) {
+        // Forget in flight rotations first, so that they don't record their host addresses once this returns
+        inFlightRotations.remove(cg);
+        rotatedHostAddresses.remove(cg);
+        PendingRotation pending = pendingRotations.remove(cg);
+        if (pending != null) {
+            pending.future.complete(null);
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void rotate(CertificateGenerator cg, PendingRotation rotation) {
+        // Generators which don't use host addresses, or which skip the rotation, never read them
+        AtomicReference<List<String>> hostAddresses = new AtomicReference<>();
+        inFlightRotations.merge(cg, 1, Integer::sum);
+        try {
+            cg.generateCertificate(() -> {
+                List<String> cachedHostAddresses = connectivityInformation.getCachedHostAddresses();
+                hostAddresses.set(cachedHostAddresses);
+                return cachedHostAddresses;
+            }, String.join(", ", rotation.reasons));
+            if (hostAddresses.get() != null) {
+                // Recording under the in flight entry orders it with cancel(), a generator cancelled while it was
+                // being rotated is left out
+                inFlightRotations.computeIfPresent(cg, (k, count) -> {
+                    rotatedHostAddresses.put(k, hostAddresses.get());
+                    return count;
+                });
+            }
+            rotation.future.complete(null);
+        } catch (CertificateGenerationException | RuntimeException e) {
+            rotatedHostAddresses.remove(cg);
+            rotation.future.completeExceptionally(e);
+        } finally {
+            inFlightRotations.computeIfPresent(cg, (k, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private static class PendingRotation {
+        private final Set<String> reasons = new LinkedHashSet<>();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+    }
+}
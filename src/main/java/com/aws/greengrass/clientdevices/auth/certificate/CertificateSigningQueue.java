@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateSigned;
+import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+import org.bouncycastle.operator.OperatorCreationException;
+
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Queues certificate signing requests in front of the CA key. PKCS#11 tokens have a limited number of sessions and
+ * most of them serialize signing, so signings with an HSM backed CA key are limited to the configured concurrency and
+ * served in arrival order. Signings with a software key are not queued.
+ *
+ * <p>The time spent waiting for the token and the time spent signing are reported separately through
+ * {@link CertificateSigned} events.
+ */
+public class CertificateSigningQueue {
+    private static final Logger logger = LogManager.getLogger(CertificateSigningQueue.class);
+    public static final int DEFAULT_HSM_CONCURRENCY = 1;
+
+    private final DomainEvents domainEvents;
+    private volatile Semaphore hsmPermits = new Semaphore(DEFAULT_HSM_CONCURRENCY, true);
+    private int hsmConcurrency = DEFAULT_HSM_CONCURRENCY;
+
+    /**
+     * Construct a new CertificateSigningQueue.
+     *
+     * @param domainEvents Domain event router
+     */
+    public CertificateSigningQueue(DomainEvents domainEvents) {
+        this.domainEvents = domainEvents;
+    }
+
+    /**
+     * Set how many certificates may be signed concurrently with an HSM backed CA key. Signings already waiting keep
+     * the previous limit.
+     *
+     * @param concurrency maximum number of concurrent signings, usually the number of token sessions
+     */
+    public synchronized void setHsmConcurrency(int concurrency) {
+        int newConcurrency = Math.max(1, concurrency);
+        if (newConcurrency != hsmConcurrency) {
+            logger.atInfo().kv("concurrency", newConcurrency).log("Updating HSM certificate signing concurrency");
+            hsmConcurrency = newConcurrency;
+            hsmPermits = new Semaphore(newConcurrency, true);
+        }
+    }
+
+    /**
+     * Issue a certificate once the CA key is available for signing.
+     *
+     * @param providerType provider of the CA key
+     * @param issuer       issues the certificate
+     * @return issued certificate
+     * @throws CertificateGenerationException if interrupted while waiting to sign
+     * @throws NoSuchAlgorithmException       NoSuchAlgorithmException
+     * @throws OperatorCreationException      OperatorCreationException
+     * @throws CertificateException           CertificateException
+     * @throws IOException                    IOException
+     */
+    public X509Certificate issue(CertificateHelper.ProviderType providerType, Issuer issuer)
+            throws CertificateGenerationException, NoSuchAlgorithmException, OperatorCreationException,
+            CertificateException, IOException {
+        long enqueued = System.nanoTime();
+        // Keep the semaphore which was acquired, the limit may be updated while signing
+        Semaphore permits = CertificateHelper.ProviderType.HSM.equals(providerType) ? hsmPermits : null;
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CertificateGenerationException("Interrupted while waiting to sign certificate", e);
+            }
+        }
+
+        long signingStart = System.nanoTime();
+        try {
+            return issuer.issue();
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+            long signingEnd = System.nanoTime();
+            domainEvents.emit(new CertificateSigned(providerType, Duration.ofNanos(signingStart - enqueued),
+                    Duration.ofNanos(signingEnd - signingStart)));
+        }
+    }
+
+    @FunctionalInterface
+    public interface Issuer {
+        X509Certificate issue()
+                throws NoSuchAlgorithmException, OperatorCreationException, CertificateException, IOException;
+    }
+}
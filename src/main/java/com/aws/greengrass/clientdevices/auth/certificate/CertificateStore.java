@@ -20,6 +20,7 @@ import com.aws.greengrass.util.FileSystemPermission;
 import com.aws.greengrass.util.platforms.Platform;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Value;
 import org.bouncycastle.cert.CertIOException;
 import org.bouncycastle.operator.OperatorCreationException;
 
@@ -37,12 +38,15 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.security.interfaces.ECKey;
 import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.RSAKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.spec.ECGenParameterSpec;
 import java.time.Instant;
@@ -84,12 +88,18 @@ public class CertificateStore {
     private PrivateKey caPrivateKey;
     @Getter
     private CertificateHelper.ProviderType providerType;
+    @Getter
+    private final CertificateSigningQueue signingQueue;
 
 
     public enum CAType {
         RSA_2048, ECDSA_P256
     }
 
+    public enum KeyType {
+        RSA_2048, RSA_4096, ECDSA_P256
+    }
+
     @Inject
     public CertificateStore(Kernel kernel, DomainEvents eventEmitter, SecurityService securityService)
             throws IOException {
@@ -108,6 +118,7 @@ public class CertificateStore {
         this.workPath = workPath;
         this.eventEmitter = eventEmitter;
         this.securityService = securityService;
+        this.signingQueue = new CertificateSigningQueue(eventEmitter);
     }
 
     public String getCaPassphrase() {
@@ -214,6 +225,19 @@ public class CertificateStore {
         return certChain[0];
     }
 
+    /**
+     * Get the CA chain, private key and provider type as they were configured together, so that a certificate issued
+     * while the CA is being replaced is signed with the key matching its issuer.
+     *
+     * @return CA used to issue certificates
+     * @throws KeyStoreException if no CA is configured
+     */
+    public synchronized CertificateAuthority getCertificateAuthority() throws KeyStoreException {
+        if (caCertificateChain == null || caPrivateKey == null) {
+            throw new KeyStoreException("No CA certificate configured");
+        }
+        return new CertificateAuthority(caCertificateChain, caPrivateKey, providerType);
+    }
 
     /**
      * Sets the CA chain and private key that are used to generate certificates. It combines setting both values at the
@@ -347,6 +371,49 @@ public class CertificateStore {
         return kpg.generateKeyPair();
     }
 
+    /**
+     * Generates a key pair of the given type.
+     *
+     * @param keyType key type
+     * @return KeyPair
+     * @throws NoSuchAlgorithmException if unable to generate a key of the given type
+     */
+    public static KeyPair newKeyPair(KeyType keyType) throws NoSuchAlgorithmException {
+        switch (keyType) {
+            case RSA_2048:
+                return newRSAKeyPair(2048);
+            case RSA_4096:
+                return newRSAKeyPair(4096);
+            case ECDSA_P256:
+                try {
+                    return newECKeyPair();
+                } catch (InvalidAlgorithmParameterException e) {
+                    throw new NoSuchAlgorithmException(String.format("Algorithm %s not supported", keyType), e);
+                }
+            default:
+                throw new NoSuchAlgorithmException(String.format("Algorithm %s not supported", keyType));
+        }
+    }
+
+    /**
+     * Check whether a public key is of the given type.
+     *
+     * @param key     public key
+     * @param keyType key type
+     * @return true if the key is of the given type
+     */
+    public static boolean isKeyOfType(PublicKey key, KeyType keyType) {
+        String algorithm = key.getAlgorithm();
+        if (algorithm.equals(CertificateHelper.KEY_TYPE_RSA)) {
+            int bitLength = ((RSAKey) key).getModulus().bitLength();
+            return keyType.equals(KeyType.RSA_2048) && bitLength == 2048
+                    || keyType.equals(KeyType.RSA_4096) && bitLength == 4096;
+        } else if (keyType.equals(KeyType.ECDSA_P256) && algorithm.equals(CertificateHelper.KEY_TYPE_EC)) {
+            return ((ECKey) key).getParams().getCurve().getField().getFieldSize() == 256;
+        }
+        return false;
+    }
+
     private KeyStore loadDefaultKeyStore(CAType caType)
             throws KeyStoreException, IOException, CertificateException, NoSuchAlgorithmException,
             UnrecoverableKeyException {
@@ -418,4 +485,23 @@ public class CertificateStore {
     static char byteToAsciiCharacter(byte randomByte) {
         return (char) ((randomByte & 0x7F) % ('~' - ' ') + ' ');
     }
+
+    /**
+     * CA chain, private key and provider type used together to issue certificates.
+     */
+    @Value
+    public static class CertificateAuthority {
+        X509Certificate[] certificateChain;
+        PrivateKey privateKey;
+        CertificateHelper.ProviderType providerType;
+
+        /**
+         * Get the certificate of the CA issuing certificates, which is the first of the chain.
+         *
+         * @return CA certificate
+         */
+        public X509Certificate getCertificate() {
+            return certificateChain[0];
+        }
+    }
 }
@@ -19,15 +19,36 @@ public class CertificatesConfig {
     static final int DEFAULT_SERVER_CERT_EXPIRY_SECONDS = 60 * 60 * 24 * 7; // 7 days
     static final int DEFAULT_CLIENT_CERT_EXPIRY_SECONDS = 60 * 60 * 24 * 7; // 7 days
     static final boolean DEFAULT_DISABLE_CERTIFICATE_ROTATION = false;
+    static final int DEFAULT_KEY_PAIR_POOL_SIZE = 2;
+    static final CertificateStore.KeyType DEFAULT_KEY_TYPE = CertificateStore.KeyType.RSA_4096;
+    static final boolean DEFAULT_SHARE_SERVER_CERTIFICATES = false;
+    static final int DEFAULT_HSM_SIGNING_CONCURRENCY = CertificateSigningQueue.DEFAULT_HSM_CONCURRENCY;
+    static final boolean DEFAULT_INCLUDE_LOCAL_NETWORK_ADDRESSES = false;
 
     private static final String CERTIFICATES_CONFIGURATION = "certificates";
     private static final String SERVER_CERT_VALIDITY_SECONDS = "serverCertificateValiditySeconds";
     private static final String DISABLE_CERTIFICATE_ROTATION = "disableCertificateRotation";
+    private static final String KEY_PAIR_POOL_SIZE = "keyPairPoolSize";
+    private static final String KEY_TYPE = "keyType";
+    private static final String SHARE_SERVER_CERTIFICATES = "shareServerCertificates";
+    private static final String HSM_SIGNING_CONCURRENCY = "hsmSigningConcurrency";
+    private static final String INCLUDE_LOCAL_NETWORK_ADDRESSES = "includeLocalNetworkAddresses";
 
     static final String[] PATH_SERVER_CERT_EXPIRY_SECONDS =
             {KernelConfigResolver.CONFIGURATION_CONFIG_KEY, CERTIFICATES_CONFIGURATION, SERVER_CERT_VALIDITY_SECONDS};
     static final String[] PATH_DISABLE_CERTIFICATE_ROTATION =
             {KernelConfigResolver.CONFIGURATION_CONFIG_KEY, CERTIFICATES_CONFIGURATION, DISABLE_CERTIFICATE_ROTATION};
+    static final String[] PATH_KEY_PAIR_POOL_SIZE =
+            {KernelConfigResolver.CONFIGURATION_CONFIG_KEY, CERTIFICATES_CONFIGURATION, KEY_PAIR_POOL_SIZE};
+    static final String[] PATH_KEY_TYPE =
+            {KernelConfigResolver.CONFIGURATION_CONFIG_KEY, CERTIFICATES_CONFIGURATION, KEY_TYPE};
+    static final String[] PATH_SHARE_SERVER_CERTIFICATES =
+            {KernelConfigResolver.CONFIGURATION_CONFIG_KEY, CERTIFICATES_CONFIGURATION, SHARE_SERVER_CERTIFICATES};
+    static final String[] PATH_HSM_SIGNING_CONCURRENCY =
+            {KernelConfigResolver.CONFIGURATION_CONFIG_KEY, CERTIFICATES_CONFIGURATION, HSM_SIGNING_CONCURRENCY};
+    static final String[] PATH_INCLUDE_LOCAL_NETWORK_ADDRESSES =
+            {KernelConfigResolver.CONFIGURATION_CONFIG_KEY, CERTIFICATES_CONFIGURATION,
+                    INCLUDE_LOCAL_NETWORK_ADDRESSES};
 
     private final Topics configuration;
 
@@ -75,4 +96,74 @@ public class CertificatesConfig {
         return Coerce.toBoolean(
                 configuration.findOrDefault(DEFAULT_DISABLE_CERTIFICATE_ROTATION, PATH_DISABLE_CERTIFICATE_ROTATION));
     }
+
+    /**
+     * Get the number of key pairs to keep pre-generated for certificate subscriptions.
+     *
+     * @return key pair pool size, 0 if key pairs should only be generated on demand
+     */
+    public int getKeyPairPoolSize() {
+        int poolSize = Coerce.toInt(configuration.findOrDefault(DEFAULT_KEY_PAIR_POOL_SIZE, PATH_KEY_PAIR_POOL_SIZE));
+        if (poolSize < 0) {
+            LOGGER.atWarn().kv(KEY_PAIR_POOL_SIZE, poolSize).log("Invalid key pair pool size, disabling the pool");
+            return 0;
+        }
+        return poolSize;
+    }
+
+    /**
+     * Get the key type used for server and client certificate key pairs.
+     *
+     * @return key type
+     */
+    public CertificateStore.KeyType getKeyType() {
+        String keyType = Coerce.toString(configuration.findOrDefault(DEFAULT_KEY_TYPE.name(), PATH_KEY_TYPE));
+        for (CertificateStore.KeyType supported : CertificateStore.KeyType.values()) {
+            if (supported.name().equals(keyType)) {
+                return supported;
+            }
+        }
+        LOGGER.atWarn().kv(KEY_TYPE, keyType).kv("default", DEFAULT_KEY_TYPE)
+                .log("Unsupported key type, using the default");
+        return DEFAULT_KEY_TYPE;
+    }
+
+    /**
+     * Check whether server certificate subscriptions requesting identical certificates share a single certificate
+     * and key pair.
+     *
+     * @return true if identical server certificates are shared
+     */
+    public boolean isServerCertificateSharingEnabled() {
+        return Coerce.toBoolean(
+                configuration.findOrDefault(DEFAULT_SHARE_SERVER_CERTIFICATES, PATH_SHARE_SERVER_CERTIFICATES));
+    }
+
+    /**
+     * Get how many certificates may be signed concurrently when the CA key is on a hardware security module. This
+     * should not exceed the number of sessions supported by the token.
+     *
+     * @return maximum concurrent HSM signings
+     */
+    public int getHsmSigningConcurrency() {
+        int concurrency = Coerce.toInt(
+                configuration.findOrDefault(DEFAULT_HSM_SIGNING_CONCURRENCY, PATH_HSM_SIGNING_CONCURRENCY));
+        if (concurrency < 1) {
+            LOGGER.atWarn().kv(HSM_SIGNING_CONCURRENCY, concurrency).kv("default", DEFAULT_HSM_SIGNING_CONCURRENCY)
+                    .log("Invalid HSM signing concurrency, using the default");
+            return DEFAULT_HSM_SIGNING_CONCURRENCY;
+        }
+        return concurrency;
+    }
+
+    /**
+     * Check whether the addresses of the local network interfaces are added to server certificate SANs, alongside
+     * the connectivity information from the cloud.
+     *
+     * @return true if local network addresses are included in server certificates
+     */
+    public boolean isLocalNetworkAddressesIncluded() {
+        return Coerce.toBoolean(configuration.findOrDefault(DEFAULT_INCLUDE_LOCAL_NETWORK_ADDRESSES,
+                PATH_INCLUDE_LOCAL_NETWORK_ADDRESSES));
+    }
 }
@@ -55,19 +55,25 @@ public class ClientCertificateGenerator extends CertificateGenerator {
                     .log("Certificate rotation is disabled, current certificate will NOT be rotated");
             return;
         }
+        checkKeyType(logger);
 
         Instant now = Instant.now(clock);
 
         try {
-            certificate = CertificateHelper.issueClientCertificate(certificateStore.getCACertificate(),
-                    certificateStore.getCAPrivateKey(), subject, publicKey, Date.from(now),
-                    Date.from(now.plusSeconds(certificatesConfig.getClientCertValiditySeconds())),
-                    certificateStore.getProviderType());
+            // The CA is read once, before waiting for the signing queue, so that a CA rotation meanwhile does not
+            // mismatch the issuer and the signing key
+            CertificateStore.CertificateAuthority ca = certificateStore.getCertificateAuthority();
+            certificate = certificateStore.getSigningQueue().issue(ca.getProviderType(),
+                    () -> CertificateHelper.issueClientCertificate(ca.getCertificate(), ca.getPrivateKey(),
+                            subject, publicKey, Date.from(now),
+                            Date.from(now.plusSeconds(certificatesConfig.getClientCertValiditySeconds())),
+                            ca.getProviderType()));
 
             logger.atInfo().kv("subject", subject).kv("reason", reason).kv("certExpiry", getExpiryTime())
                     .log("New client certificate generated");
+            notifyCertificateIssued();
 
-            callback.accept(certificate, certificateStore.getCaCertificateChain());
+            callback.accept(certificate, ca.getCertificateChain());
         } catch (NoSuchAlgorithmException | OperatorCreationException | CertificateException | IOException
                 | KeyStoreException e) {
             throw new CertificateGenerationException(e);
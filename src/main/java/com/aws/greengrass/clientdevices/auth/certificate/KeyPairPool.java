@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.KeyPairPoolEvent;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+import lombok.AllArgsConstructor;
+
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.inject.Inject;
+
+/**
+ * Pool of pre-generated key pairs handed out to certificate subscribers.
+ *
+ * <p>Generating a key pair can take several seconds on constrained devices, so the pool keeps a configurable number
+ * of them ready and tops itself up on a low priority background thread after each key is taken. When the pool is
+ * empty, or only holds keys of a type which is no longer configured, the key pair is generated on the caller's thread
+ * instead.
+ */
+public class KeyPairPool {
+    private static final Logger logger = LogManager.getLogger(KeyPairPool.class);
+    private final DomainEvents domainEvents;
+    private final ConcurrentLinkedQueue<PooledKeyPair> keyPairs = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+    private volatile CertificatesConfig certificatesConfig;
+    private ExecutorService refillExecutor;
+
+    /**
+     * Construct a new key pair pool.
+     *
+     * @param domainEvents Domain event router
+     */
+    @Inject
+    public KeyPairPool(DomainEvents domainEvents) {
+        this.domainEvents = domainEvents;
+    }
+
+    public void updateCertificatesConfiguration(CertificatesConfig certificatesConfig) {
+        this.certificatesConfig = certificatesConfig;
+        refill();
+    }
+
+    /**
+     * Start filling the pool in the background.
+     */
+    public synchronized void start() {
+        if (refillExecutor == null) {
+            refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cda-key-pair-pool");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        refill();
+    }
+
+    /**
+     * Stop filling the pool. Key pairs which are already generated are kept.
+     */
+    public synchronized void stop() {
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+            refillExecutor = null;
+        }
+        refilling.set(false);
+    }
+
+    /**
+     * Take a key pair from the pool, generating one if none is ready.
+     *
+     * @param keyType type of key pair to take
+     * @return key pair which is not handed out to anyone else
+     * @throws NoSuchAlgorithmException if unable to generate a key pair
+     */
+    public KeyPair take(CertificateStore.KeyType keyType) throws NoSuchAlgorithmException {
+        KeyPair keyPair = null;
+        PooledKeyPair pooled = keyPairs.poll();
+        // Keys of a previously configured type are dropped, the pool refills with the current type
+        while (pooled != null && keyPair == null) {
+            if (pooled.keyType == keyType) {
+                keyPair = pooled.keyPair;
+            } else {
+                pooled = keyPairs.poll();
+            }
+        }
+
+        if (keyPair == null) {
+            domainEvents.emit(new KeyPairPoolEvent(KeyPairPoolEvent.Result.MISS));
+            keyPair = CertificateStore.newKeyPair(keyType);
+        } else {
+            domainEvents.emit(new KeyPairPoolEvent(KeyPairPoolEvent.Result.HIT));
+        }
+        refill();
+        return keyPair;
+    }
+
+    public int size() {
+        return keyPairs.size();
+    }
+
+    private int getCapacity() {
+        CertificatesConfig config = certificatesConfig;
+        return config == null ? 0 : config.getKeyPairPoolSize();
+    }
+
+    private synchronized void refill() {
+        if (refillExecutor == null || keyPairs.size() >= getCapacity() || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        refillExecutor.execute(this::fill);
+    }
+
+    private void fill() {
+        boolean failed = true;
+        try {
+            while (!Thread.currentThread().isInterrupted() && keyPairs.size() < getCapacity()) {
+                CertificateStore.KeyType keyType = certificatesConfig.getKeyType();
+                keyPairs.add(new PooledKeyPair(keyType, CertificateStore.newKeyPair(keyType)));
+            }
+            failed = false;
+        } catch (NoSuchAlgorithmException e) {
+            logger.atError().cause(e).log("Unable to pre-generate key pair");
+        } finally {
+            refilling.set(false);
+        }
+        // A key may have been taken after the last size check, in which case nobody else triggered a refill
+        if (!failed && !Thread.currentThread().isInterrupted()) {
+            refill();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class PooledKeyPair {
+        private final CertificateStore.KeyType keyType;
+        private final KeyPair keyPair;
+    }
+}
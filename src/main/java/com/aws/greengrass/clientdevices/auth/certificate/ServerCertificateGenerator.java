@@ -55,6 +55,7 @@ public class ServerCertificateGenerator extends CertificateGenerator {
                     .log("Certificate rotation is disabled, current certificate will NOT be rotated");
             return;
         }
+        checkKeyType(logger);
 
         Instant now = Instant.now(clock);
 
@@ -65,11 +66,17 @@ public class ServerCertificateGenerator extends CertificateGenerator {
         List<String> connectivityInfo = new ArrayList<>(connectivityInfoSupplier.get());
         connectivityInfo.add("localhost");
 
+        X509Certificate[] caCertificateChain;
         try {
-            certificate = CertificateHelper.issueServerCertificate(certificateStore.getCACertificate(),
-                    certificateStore.getCAPrivateKey(), subject, publicKey, connectivityInfo, Date.from(now),
-                    Date.from(now.plusSeconds(certificatesConfig.getServerCertValiditySeconds())),
-                    certificateStore.getProviderType());
+            // The CA is read once, before waiting for the signing queue, so that a CA rotation meanwhile does not
+            // mismatch the issuer and the signing key
+            CertificateStore.CertificateAuthority ca = certificateStore.getCertificateAuthority();
+            caCertificateChain = ca.getCertificateChain();
+            certificate = certificateStore.getSigningQueue().issue(ca.getProviderType(),
+                    () -> CertificateHelper.issueServerCertificate(ca.getCertificate(), ca.getPrivateKey(),
+                            subject, publicKey, connectivityInfo, Date.from(now),
+                            Date.from(now.plusSeconds(certificatesConfig.getServerCertValiditySeconds())),
+                            ca.getProviderType()));
         } catch (NoSuchAlgorithmException | OperatorCreationException | CertificateException | IOException
                 | KeyStoreException e) {
             logger.atError().cause(e).log("Failed to generate new server certificate");
@@ -78,7 +85,8 @@ public class ServerCertificateGenerator extends CertificateGenerator {
 
         logger.atInfo().kv("subject", subject).kv("reason", reason).kv("connectivityInfo", connectivityInfo)
                 .kv("certExpiry", getExpiryTime()).log("New server certificate generated");
+        notifyCertificateIssued();
 
-        callback.accept(certificate, certificateStore.getCaCertificateChain());
+        callback.accept(certificate, caCertificateChain);
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.CertificateUpdateEvent;
+import com.aws.greengrass.clientdevices.auth.api.GetCertificateRequest;
+import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Value;
+import org.bouncycastle.asn1.x500.X500Name;
+
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
+
+/**
+ * A server certificate and key pair shared by all subscriptions requesting an identical certificate. The certificate
+ * is issued once per rotation and fanned out to every subscriber as a {@link CertificateUpdateEvent}.
+ *
+ * <p>An instance is registered before its key pair is taken and its generator started, so that this slow work does
+ * not hold up other subscriptions. Subscribers joining meanwhile wait for the generator with
+ * {@link #awaitGenerator()}.</p>
+ */
+public class SharedServerCertificate implements BiConsumer<X509Certificate, X509Certificate[]> {
+    @Getter
+    private final Key key;
+    // Set before the generator is started, so before any certificate is issued
+    @Getter
+    @Setter
+    private volatile KeyPair keyPair;
+    private final CompletableFuture<CertificateGenerator> generator = new CompletableFuture<>();
+    private final Set<GetCertificateRequest> subscribers = new LinkedHashSet<>();
+    private CertificateUpdateEvent latestUpdate;
+
+    /**
+     * Construct a new SharedServerCertificate.
+     *
+     * @param key identity of the certificates served by this instance
+     */
+    public SharedServerCertificate(Key key) {
+        this.key = key;
+    }
+
+    /**
+     * Get the generator issuing the shared certificate.
+     *
+     * @return generator, or null if it is not started yet or failed to start
+     */
+    public CertificateGenerator getGenerator() {
+        return generator.getNow(null);
+    }
+
+    /**
+     * Set the generator issuing the shared certificate, once it is started.
+     *
+     * @param generator certificate generator
+     */
+    public void setGenerator(CertificateGenerator generator) {
+        this.generator.complete(generator);
+    }
+
+    /**
+     * Record that the generator could not be started, failing the subscribers waiting for it.
+     *
+     * @param cause failure cause
+     */
+    public void failGenerator(Throwable cause) {
+        generator.completeExceptionally(cause);
+    }
+
+    /**
+     * Wait for the generator to be started.
+     *
+     * @return certificate generator
+     * @throws CertificateGenerationException if the generator could not be started
+     */
+    public CertificateGenerator awaitGenerator() throws CertificateGenerationException {
+        try {
+            return generator.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CertificateGenerationException(e);
+        } catch (ExecutionException e) {
+            throw new CertificateGenerationException(e.getCause());
+        }
+    }
+
+    /**
+     * Add a subscriber. If a certificate was already issued, it is sent to the new subscriber right away.
+     *
+     * @param request subscription request
+     */
+    public synchronized void addSubscriber(GetCertificateRequest request) {
+        if (subscribers.add(request) && latestUpdate != null) {
+            request.getCertificateUpdateConsumer().accept(latestUpdate);
+        }
+    }
+
+    /**
+     * Remove a subscriber.
+     *
+     * @param request subscription request
+     * @return true if no subscribers remain
+     */
+    public synchronized boolean removeSubscriber(GetCertificateRequest request) {
+        subscribers.remove(request);
+        return subscribers.isEmpty();
+    }
+
+    @Override
+    public synchronized void accept(X509Certificate certificate, X509Certificate[] caCertificates) {
+        latestUpdate = new CertificateUpdateEvent(keyPair, certificate, caCertificates);
+        for (GetCertificateRequest subscriber : subscribers) {
+            subscriber.getCertificateUpdateConsumer().accept(latestUpdate);
+        }
+    }
+
+    /**
+     * Identity of a shared server certificate. Server certificates all take their SANs from the same connectivity
+     * information, so subscriptions with the same subject and key type request identical certificates.
+     */
+    @Value
+    public static class Key {
+        X500Name subject;
+        CertificateStore.KeyType keyType;
+    }
+}
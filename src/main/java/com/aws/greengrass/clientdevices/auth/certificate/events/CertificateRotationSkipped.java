@@ -0,0 +1,18 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate.events;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+public class CertificateRotationSkipped implements DomainEvent {
+    @Getter
+    private int certificateCount;
+    @Getter
+    private String reason;
+}
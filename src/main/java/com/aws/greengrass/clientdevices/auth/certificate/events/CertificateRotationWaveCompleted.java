@@ -0,0 +1,22 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate.events;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@AllArgsConstructor
+public class CertificateRotationWaveCompleted implements DomainEvent {
+    @Getter
+    private int certificateCount;
+    @Getter
+    private int failureCount;
+    @Getter
+    private Duration latency;
+}
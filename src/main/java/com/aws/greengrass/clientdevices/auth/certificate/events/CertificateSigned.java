@@ -0,0 +1,23 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate.events;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvent;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@AllArgsConstructor
+public class CertificateSigned implements DomainEvent {
+    @Getter
+    private CertificateHelper.ProviderType providerType;
+    @Getter
+    private Duration queueWait;
+    @Getter
+    private Duration signingTime;
+}
@@ -7,9 +7,8 @@ package com.aws.greengrass.clientdevices.auth.certificate.handlers;
 
 import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateGenerator;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
 import com.aws.greengrass.clientdevices.auth.certificate.events.CACertificateChainChanged;
-import com.aws.greengrass.clientdevices.auth.connectivity.ConnectivityInformation;
-import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
@@ -24,7 +23,7 @@ import javax.inject.Inject;
 //  to multiple events, call a use case and not store state.
 public class CertificateRotationHandler implements Consumer<CACertificateChainChanged> {
     private static final Logger logger = LogManager.getLogger(CertificateRotationHandler.class);
-    private final ConnectivityInformation connectivityInformation;
+    private final CertificateRotationScheduler rotationScheduler;
 
     private final Set<CertificateGenerator> monitoredCertificateGenerators = new CopyOnWriteArraySet<>();
     private final DomainEvents domainEvents;
@@ -32,12 +31,12 @@ public class CertificateRotationHandler implements Consumer<CACertificateChainCh
     /**
      * Construct a new ConfigurationMonitor.
      *
-     * @param connectivityInformation Connectivity Info Provider
-     * @param domainEvents            domain events service
+     * @param rotationScheduler Certificate rotation scheduler
+     * @param domainEvents      domain events service
      */
     @Inject
-    public CertificateRotationHandler(ConnectivityInformation connectivityInformation, DomainEvents domainEvents) {
-        this.connectivityInformation = connectivityInformation;
+    public CertificateRotationHandler(CertificateRotationScheduler rotationScheduler, DomainEvents domainEvents) {
+        this.rotationScheduler = rotationScheduler;
         this.domainEvents = domainEvents;
     }
 
@@ -75,14 +74,7 @@ public class CertificateRotationHandler implements Consumer<CACertificateChainCh
             return;
         }
 
-        for (CertificateGenerator generator : monitoredCertificateGenerators) {
-            try {
-                generator.generateCertificate(connectivityInformation::getCachedHostAddresses,
-                        "Certificate Configuration Changed");
-            } catch (CertificateGenerationException e) {
-                logger.atError().cause(e).log("Failed to rotate server certificate");
-            }
-        }
+        rotationScheduler.requestRotations(monitoredCertificateGenerators, "Certificate Configuration Changed");
     }
 }
 
@@ -7,7 +7,6 @@ package com.aws.greengrass.clientdevices.auth.certificate.infra;
 
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
-import com.aws.greengrass.clientdevices.auth.iot.Certificate;
 import com.aws.greengrass.clientdevices.auth.iot.CertificateRegistry;
 import com.aws.greengrass.clientdevices.auth.iot.IotAuthClient;
 import com.aws.greengrass.clientdevices.auth.iot.Thing;
@@ -26,13 +25,17 @@ import software.amazon.awssdk.services.greengrassv2data.model.ThrottlingExceptio
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -50,7 +53,13 @@ public class BackgroundCertificateRefresh implements Runnable, Consumer<NetworkS
     private final UseCases useCases;
     private final NetworkStateProvider networkState;
     private static final int DEFAULT_INTERVAL_SECONDS = 60 * 60 * 24; // Once a day
+    private static final int CLEANUP_BATCH_SIZE = 100;
     private static final Logger logger = LogManager.getLogger(BackgroundCertificateRefresh.class);
+    private static final RetryUtils.RetryConfig DEFAULT_RETRY_CONFIG =
+            RetryUtils.RetryConfig.builder().initialRetryInterval(Duration.ofSeconds(30))
+                    .maxRetryInterval(Duration.ofMinutes(3)).maxAttempt(3)
+                    .retryableExceptions(Arrays.asList(ThrottlingException.class, InternalServerException.class))
+                    .build();
     private final ClientCertificateStore pemStore;
     private final ThingRegistry thingRegistry;
     private final IotAuthClient iotAuthClient;
@@ -60,6 +69,7 @@ public class BackgroundCertificateRefresh implements Runnable, Consumer<NetworkS
     private final ScheduledThreadPoolExecutor scheduler;
     private final AtomicReference<Instant> nextScheduledRun = new AtomicReference<>();
     private final AtomicReference<Instant> lastRan = new AtomicReference<>();
+    private volatile RetryUtils.RetryConfig retryConfig = DEFAULT_RETRY_CONFIG;
 
 
     /**
@@ -134,6 +144,15 @@ public class BackgroundCertificateRefresh implements Runnable, Consumer<NetworkS
         return lastRan.get();
     }
 
+    /**
+     * Sets how listing the things associated with the core device is retried when a page fails.
+     *
+     * @param retryConfig retry configuration
+     */
+    public void setRetryConfig(RetryUtils.RetryConfig retryConfig) {
+        this.retryConfig = retryConfig;
+    }
+
     /**
      * Runs verifyIotCertificate useCase for all the registered client certificate PEMs.
      */
@@ -150,11 +169,9 @@ public class BackgroundCertificateRefresh implements Runnable, Consumer<NetworkS
 
         logger.info("Running background task: Refreshing client certificates");
 
-        Optional<Set<String>> thingNamesAssociatedWithCore = getThingsAssociatedWithCoreDevice();
-        thingNamesAssociatedWithCore.ifPresent(thingNames -> {
-            this.refresh(thingNames);
+        if (refresh()) {
             lastRan.set(Instant.now());
-        });
+        }
         this.scheduleNextRun();
     }
 
@@ -190,54 +207,62 @@ public class BackgroundCertificateRefresh implements Runnable, Consumer<NetworkS
     }
 
     /**
-     * Returns ThingAssociations which has information about what Things are associated with the core device and which
-     * things are no longer associated with the core device.
+     * Refreshes the things associated with the core device and removes the ones that are no longer associated from
+     * the local registries. Pages of associated things are processed as they arrive and diffed against a sorted index
+     * of the local thing names, so only local state is kept in memory regardless of the number of associated things.
+     * When a page fails the listing is retried from the start, skipping over the things refreshed by the previous
+     * attempts. Nothing is removed unless all the pages were retrieved.
+     *
+     * @return true if the registries were reconciled with the cloud
      */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    private Optional<Set<String>> getThingsAssociatedWithCoreDevice() {
-        RetryUtils.RetryConfig retryConfig =
-                RetryUtils.RetryConfig.builder().initialRetryInterval(Duration.ofSeconds(30))
-                        .maxRetryInterval(Duration.ofMinutes(3)).maxAttempt(3)
-                        .retryableExceptions(Arrays.asList(ThrottlingException.class, InternalServerException.class))
-                        .build();
+    private boolean refresh() {
+        // Local things get removed from the index as they are found in the cloud, whatever remains is no longer
+        // associated with the core device
+        NavigableSet<String> unseenLocalThings =
+                thingRegistry.getAllThingNames().collect(Collectors.toCollection(TreeSet::new));
+        Set<String> certificatesAttachedToThings = new HashSet<>();
 
         try {
-            Stream<List<AssociatedClientDevice>> cloudAssociatedDevices =
-                    RetryUtils.runWithRetry(retryConfig, iotAuthClient::getThingsAssociatedWithCoreDevice,
-                            "get-things-associated-with-core-device", logger);
-
-            Set<String> cloudThings =
-                    cloudAssociatedDevices.flatMap(List::stream).map(AssociatedClientDevice::thingName)
-                            .collect(Collectors.toSet());
-
-            return Optional.of(cloudThings);
+            RetryUtils.runWithRetry(retryConfig, () -> {
+                try (Stream<List<AssociatedClientDevice>> cloudAssociatedDevices =
+                             iotAuthClient.getThingsAssociatedWithCoreDevice()) {
+                    cloudAssociatedDevices.forEach(
+                            page -> refreshPage(page, unseenLocalThings, certificatesAttachedToThings));
+                }
+                return null;
+            }, "get-things-associated-with-core-device", logger);
         } catch (AccessDeniedException e) {
             logger.atInfo().log(
                 "Did not refresh local certificates. To enable certificate refresh add a policy to the core device"
                         + " that grants the greengrass:ListClientDevicesAssociatedWithCoreDevice permission");
+            return false;
         } catch (Exception e) {
             logger.atWarn().cause(e)
                     .log("Failed to get things associated to the core device. Retry will be scheduled later");
+            return false;
         }
 
-        return Optional.empty();
+        // Clean up the registries by providing the names of the things that are no longer associated and
+        // the ids of the certificates that are still attached to a thing.
+        cleanUpRegistries(unseenLocalThings, certificatesAttachedToThings);
+        return true;
     }
 
-    private void refresh(Set<String> thingNamesAttachedToCore) {
-        Set<String> certificatesAttachedToThings = new HashSet<>();
-
-        for (String thingName : thingNamesAttachedToCore) {
-            Set<String> certificateIdAttachedToThing = this.refreshCertificateAttachments(thingName);
-            certificatesAttachedToThings.addAll(certificateIdAttachedToThing);
-        }
+    private void refreshPage(List<AssociatedClientDevice> page, NavigableSet<String> unseenLocalThings,
+                             Set<String> certificatesAttachedToThings) {
+        for (AssociatedClientDevice associatedDevice : page) {
+            // Things that are not stored locally have nothing to refresh
+            if (!unseenLocalThings.remove(associatedDevice.thingName())) {
+                continue;
+            }
 
-        for (String certificateId : certificatesAttachedToThings) {
-            this.refreshCertificateValidity(certificateId);
+            for (String certificateId : refreshCertificateAttachments(associatedDevice.thingName())) {
+                if (certificatesAttachedToThings.add(certificateId)) {
+                    this.refreshCertificateValidity(certificateId);
+                }
+            }
         }
-
-        // Clean up the registries by providing the names of the things that should still be attached and
-        // the ids of the certificates that are still attached to a thing.
-        cleanUpRegistries(thingNamesAttachedToCore, certificatesAttachedToThings);
     }
 
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
@@ -284,20 +309,46 @@ public class BackgroundCertificateRefresh implements Runnable, Consumer<NetworkS
         }
 
         try {
-            useCases.get(VerifyIotCertificate.class).apply(certPem.get());
+            // Refreshing a record is not client device activity, so it must not be tracked by the continuous refresh
+            useCases.get(VerifyIotCertificate.class).applyFromCloud(certPem.get());
         } catch (RuntimeException e) {
             logger.atWarn().kv("certificateId", certificateId).cause(e).log("Failed to verify certificate validity");
         }
     }
 
-    private void cleanUpRegistries(Set<String> attachedThings, Set<String> certificatesAttachedToThings) {
-        Stream<Thing> localThings = thingRegistry.getAllThings();
-        Stream<Certificate> localCerts = certificateRegistry.getAllCertificates();
+    private void cleanUpRegistries(Set<String> thingsNoLongerAssociated, Set<String> certificatesAttachedToThings) {
+        deleteInBatches(thingsNoLongerAssociated.iterator(), thingRegistry::deleteThing, "things");
+
+        try (Stream<String> localCertificateIds = certificateRegistry.getAllCertificateIds()) {
+            deleteInBatches(localCertificateIds.filter(id -> !certificatesAttachedToThings.contains(id)).iterator(),
+                    certificateRegistry::deleteCertificate, "certificates");
+        }
+    }
 
-        localThings.filter(thing -> !attachedThings.contains(thing.getThingName())).forEach(thingRegistry::deleteThing);
+    private void deleteInBatches(Iterator<String> ids, Consumer<String> delete, String kind) {
+        List<String> batch = new ArrayList<>(CLEANUP_BATCH_SIZE);
+        int deleted = 0;
 
-        localCerts.filter(certificate -> !certificatesAttachedToThings.contains(certificate.getCertificateId()))
-                .forEach(certificateRegistry::deleteCertificate);
+        while (ids.hasNext()) {
+            batch.add(ids.next());
+            if (batch.size() < CLEANUP_BATCH_SIZE && ids.hasNext()) {
+                continue;
+            }
+
+            batch.forEach(delete);
+            deleted += batch.size();
+            batch.clear();
+
+            if (Thread.currentThread().isInterrupted()) {
+                logger.atInfo().kv("deleted", deleted).log("Interrupted while removing {} from the registry", kind);
+                return;
+            }
+        }
+
+        if (deleted > 0) {
+            logger.atInfo().kv("deleted", deleted)
+                    .log("Removed {} no longer associated with the core device from the registry", kind);
+        }
     }
 
     private boolean isNetworkDown() {
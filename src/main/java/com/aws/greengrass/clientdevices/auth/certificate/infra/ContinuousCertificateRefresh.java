@@ -0,0 +1,490 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate.infra;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.api.UseCases;
+import com.aws.greengrass.clientdevices.auth.configuration.events.SecurityConfigurationChanged;
+import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
+import com.aws.greengrass.clientdevices.auth.iot.Certificate;
+import com.aws.greengrass.clientdevices.auth.iot.CertificateRegistry;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.iot.dto.VerifyThingAttachedToCertificateDTO;
+import com.aws.greengrass.clientdevices.auth.iot.events.ClientDeviceActive;
+import com.aws.greengrass.clientdevices.auth.iot.events.ThingSessionCreated;
+import com.aws.greengrass.clientdevices.auth.iot.infra.ThingRegistry;
+import com.aws.greengrass.clientdevices.auth.iot.usecases.VerifyIotCertificate;
+import com.aws.greengrass.clientdevices.auth.iot.usecases.VerifyThingAttachedToCertificate;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+import lombok.Value;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+import static com.aws.greengrass.clientdevices.auth.configuration.SecurityConfiguration.DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES;
+
+/**
+ * Keeps the locally stored certificate and thing attachment records of recently active client devices fresh.
+ * <p>
+ * Records are kept in a queue ordered by the time their clientDeviceTrustDurationMinutes window expires and each one
+ * is re-verified with the cloud shortly before it goes stale, so that requests from the device can be answered from
+ * the fresh local record. A random jitter is added to the refresh time so that cloud calls are spread out instead of
+ * happening in a single burst, and records which are already due, such as those of a device tracked again, are spread
+ * over the next trust window. Records of devices that have not verified their identity, created a session or been
+ * authorized for a while are dropped and left to the daily {@link BackgroundCertificateRefresh}.
+ * </p>
+ * <p>
+ * When the network comes back up all the tracked records are re-verified right away, most recently used first and
+ * with a bounded number of concurrent cloud calls, so that devices reconnecting find fresh local records.
+ * </p>
+ */
+public class ContinuousCertificateRefresh implements Consumer<NetworkStateProvider.ConnectionState> {
+    private static final Logger logger = LogManager.getLogger(ContinuousCertificateRefresh.class);
+    // Records are refreshed once only this fraction of their trust window is left, minus up to the same amount
+    // of jitter
+    private static final double REFRESH_LEAD_FRACTION = 0.1;
+    private static final Duration MIN_REFRESH_DELAY = Duration.ofSeconds(15);
+    static final Duration ACTIVE_RECORD_WINDOW = Duration.ofHours(24);
+    static final int PRE_WARM_CONCURRENCY = 4;
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ExecutorService executorService;
+    private final ThingRegistry thingRegistry;
+    private final CertificateRegistry certificateRegistry;
+    private final ClientCertificateStore pemStore;
+    private final NetworkStateProvider networkState;
+    private final DomainEvents domainEvents;
+    private final UseCases useCases;
+    private final Random random = new Random();
+    private final AtomicInteger trustDurationMinutes = new AtomicInteger(DEFAULT_CLIENT_DEVICE_TRUST_DURATION_MINUTES);
+    private final AtomicBoolean preWarming = new AtomicBoolean(false);
+
+    // Holds exactly the records in the records map, a record being replaced in both when it is tracked again
+    private final TreeSet<RefreshRecord> queue = new TreeSet<>(Comparator.comparing(RefreshRecord::getRefreshAt)
+            .thenComparing(r -> r.getKey().getCertificateId())
+            .thenComparing(r -> r.getKey().getThingName(), Comparator.nullsFirst(Comparator.naturalOrder())));
+    private final Map<RecordKey, RefreshRecord> records = new HashMap<>();
+    // Records that came due while the network was down, refreshed once it is back up
+    private final Map<RecordKey, RefreshRecord> offlineRecords = new HashMap<>();
+    private ScheduledFuture<?> scheduledFuture;
+    private Instant nextWakeUp;
+    private boolean running;
+    private boolean listening;
+
+
+    /**
+     * Creates an instance of the ContinuousCertificateRefresh.
+     *
+     * @param scheduler           - A ScheduledThreadPoolExecutor
+     * @param executorService     - Executor used to re-verify records in parallel
+     * @param thingRegistry       - A thingRegistry
+     * @param certificateRegistry - A certificateRegistry
+     * @param pemStore            - Store for the client certificates
+     * @param networkState        - A network state
+     * @param domainEvents        - Domain event router
+     * @param useCases            - useCases service
+     */
+    @Inject
+    public ContinuousCertificateRefresh(ScheduledThreadPoolExecutor scheduler, ExecutorService executorService,
+                                        ThingRegistry thingRegistry, CertificateRegistry certificateRegistry,
+                                        ClientCertificateStore pemStore, NetworkStateProvider networkState,
+                                        DomainEvents domainEvents, UseCases useCases) {
+        this.scheduler = scheduler;
+        this.executorService = executorService;
+        this.thingRegistry = thingRegistry;
+        this.certificateRegistry = certificateRegistry;
+        this.pemStore = pemStore;
+        this.networkState = networkState;
+        this.domainEvents = domainEvents;
+        this.useCases = useCases;
+    }
+
+    /**
+     * Start tracking client device sessions and refreshing their records.
+     */
+    public synchronized void start() {
+        if (!listening) {
+            domainEvents.registerListener(this::onThingSessionCreated, ThingSessionCreated.class);
+            domainEvents.registerListener(this::onSecurityConfigurationChanged, SecurityConfigurationChanged.class);
+            domainEvents.registerAsyncListener(this::onClientDeviceActive, ClientDeviceActive.class);
+            listening = true;
+        }
+        running = true;
+        scheduleWakeUp();
+    }
+
+    /**
+     * Stops refreshing records and forgets the ones that were tracked.
+     */
+    public synchronized void stop() {
+        running = false;
+        queue.clear();
+        records.clear();
+        offlineRecords.clear();
+        cancelWakeUp();
+    }
+
+    /**
+     * Return true if the refresh has started.
+     */
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the number of records currently scheduled to be refreshed.
+     */
+    public synchronized int getTrackedRecordCount() {
+        return records.size();
+    }
+
+    /**
+     * Returns the Instant the next record is due to be refreshed, or null if nothing is scheduled.
+     */
+    public synchronized Instant getNextScheduledRefresh() {
+        RefreshRecord head = peekCurrent();
+        return head == null ? null : head.getRefreshAt();
+    }
+
+    /**
+     * Handler to react to network changes. Pre-warms the local records once the network is back up.
+     *
+     * @param connectionState - A network state
+     */
+    @Override
+    public void accept(NetworkStateProvider.ConnectionState connectionState) {
+        if (connectionState == NetworkStateProvider.ConnectionState.NETWORK_UP) {
+            preWarm();
+        }
+    }
+
+    /**
+     * Re-verifies every tracked record, most recently used first, using at most PRE_WARM_CONCURRENCY concurrent
+     * workers. Each record is rescheduled according to its new trust window once verified.
+     */
+    private void preWarm() {
+        if (!preWarming.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<RefreshRecord> toVerify = collectRecordsToPreWarm();
+        if (toVerify.isEmpty()) {
+            preWarming.set(false);
+            return;
+        }
+
+        logger.atDebug().kv("records", toVerify.size()).log("Pre-warming client device records");
+        Queue<RefreshRecord> pending = new ConcurrentLinkedQueue<>(toVerify);
+        AtomicInteger remainingWorkers = new AtomicInteger(Math.min(PRE_WARM_CONCURRENCY, toVerify.size()));
+
+        for (int i = remainingWorkers.get(); i > 0; i--) {
+            executorService.execute(() -> {
+                try {
+                    RefreshRecord record = pending.poll();
+                    while (record != null) {
+                        if (isNetworkDown()) {
+                            deferUntilNetworkUp(record);
+                        } else {
+                            refresh(record);
+                        }
+                        record = pending.poll();
+                    }
+                } finally {
+                    if (remainingWorkers.decrementAndGet() == 0) {
+                        preWarming.set(false);
+                    }
+                }
+            });
+        }
+    }
+
+    private synchronized List<RefreshRecord> collectRecordsToPreWarm() {
+        if (!running) {
+            return new ArrayList<>();
+        }
+
+        Map<RecordKey, RefreshRecord> toVerify = new HashMap<>(records);
+        offlineRecords.forEach(toVerify::putIfAbsent);
+        offlineRecords.clear();
+
+        Instant now = Instant.now();
+        List<RefreshRecord> mostRecentlyUsedFirst = new ArrayList<>();
+        for (RefreshRecord record : toVerify.values()) {
+            if (Duration.between(record.getLastActive(), now).compareTo(ACTIVE_RECORD_WINDOW) < 0) {
+                mostRecentlyUsedFirst.add(record);
+            }
+        }
+        mostRecentlyUsedFirst.sort(Comparator.comparing(RefreshRecord::getLastActive).reversed());
+        return mostRecentlyUsedFirst;
+    }
+
+    void onThingSessionCreated(ThingSessionCreated event) {
+        Instant now = Instant.now();
+        trackThingAttachment(event.getThingName(), event.getCertificateId(), now);
+        trackCertificate(event.getCertificateId(), now);
+    }
+
+    void onClientDeviceActive(ClientDeviceActive event) {
+        RecordKey certificateKey = new RecordKey(null, event.getCertificateId());
+        if (!markActive(certificateKey, event.getActiveAt())) {
+            trackCertificate(event.getCertificateId(), event.getActiveAt());
+        }
+        if (event.getThingName() != null) {
+            RecordKey thingKey = new RecordKey(event.getThingName(), event.getCertificateId());
+            if (!markActive(thingKey, event.getActiveAt())) {
+                trackThingAttachment(event.getThingName(), event.getCertificateId(), event.getActiveAt());
+            }
+        }
+    }
+
+    /**
+     * Updates the last activity of a tracked or deferred record.
+     *
+     * @return false if the record isn't tracked, and should be
+     */
+    private synchronized boolean markActive(RecordKey key, Instant activeAt) {
+        if (!running) {
+            return true;
+        }
+        RefreshRecord deferred = offlineRecords.get(key);
+        if (deferred != null) {
+            offlineRecords.put(key, new RefreshRecord(key, deferred.getRefreshAt(),
+                    mostRecent(activeAt, deferred)));
+            return true;
+        }
+        RefreshRecord current = records.get(key);
+        if (current == null) {
+            return false;
+        }
+        if (current.getLastActive().isBefore(activeAt)) {
+            enqueue(new RefreshRecord(key, current.getRefreshAt(), activeAt));
+        }
+        return true;
+    }
+
+    void onSecurityConfigurationChanged(SecurityConfigurationChanged event) {
+        trustDurationMinutes.set(event.getConfiguration().getClientDeviceTrustDurationMinutes());
+    }
+
+    /**
+     * Refreshes all the records whose refresh time has passed and schedules the next wake up.
+     */
+    public void refreshDueRecords() {
+        for (RefreshRecord record : pollDueRecords()) {
+            if (isNetworkDown()) {
+                deferUntilNetworkUp(record);
+                continue;
+            }
+
+            refresh(record);
+        }
+
+        synchronized (this) {
+            scheduleWakeUp();
+        }
+    }
+
+    private void refresh(RefreshRecord record) {
+        if (record.getKey().getThingName() == null) {
+            refreshCertificate(record);
+        } else {
+            refreshThingAttachment(record);
+        }
+    }
+
+    private synchronized List<RefreshRecord> pollDueRecords() {
+        List<RefreshRecord> due = new ArrayList<>();
+        Instant now = Instant.now();
+
+        while (!queue.isEmpty() && !queue.first().getRefreshAt().isAfter(now)) {
+            RefreshRecord head = queue.pollFirst();
+            records.remove(head.getKey());
+            if (Duration.between(head.getLastActive(), now).compareTo(ACTIVE_RECORD_WINDOW) < 0) {
+                due.add(head);
+            }
+        }
+
+        return due;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void refreshThingAttachment(RefreshRecord record) {
+        String thingName = record.getKey().getThingName();
+        String certificateId = record.getKey().getCertificateId();
+
+        try {
+            useCases.get(VerifyThingAttachedToCertificate.class)
+                    .apply(new VerifyThingAttachedToCertificateDTO(thingName, certificateId, true));
+        } catch (RuntimeException e) {
+            logger.atWarn().cause(e).kv("thingName", thingName).kv("certificateId", certificateId)
+                    .log("Failed to refresh thing certificate attachment");
+        }
+
+        trackThingAttachment(thingName, certificateId, record.getLastActive());
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void refreshCertificate(RefreshRecord record) {
+        String certificateId = record.getKey().getCertificateId();
+
+        try {
+            Optional<String> certPem = pemStore.getPem(certificateId);
+            if (!certPem.isPresent()) {
+                logger.atDebug().kv("certificateId", certificateId)
+                        .log("Certificate pem no longer stored. Not refreshing certificate");
+                return;
+            }
+            useCases.get(VerifyIotCertificate.class).applyFromCloud(certPem.get());
+        } catch (IOException | RuntimeException e) {
+            logger.atWarn().cause(e).kv("certificateId", certificateId).log("Failed to refresh certificate validity");
+        }
+
+        trackCertificate(certificateId, record.getLastActive());
+    }
+
+    private void trackThingAttachment(String thingName, String certificateId, Instant lastActive) {
+        Thing thing = thingRegistry.getThing(thingName);
+        if (Objects.isNull(thing)) {
+            return;
+        }
+
+        thing.certificateLastAttachedOn(certificateId).ifPresent(lastVerified ->
+                track(new RecordKey(thingName, certificateId), lastVerified, lastActive));
+    }
+
+    private void trackCertificate(String certificateId, Instant lastActive) {
+        certificateRegistry.getCertificateById(certificateId).map(Certificate::getStatusLastUpdated)
+                .ifPresent(lastVerified -> track(new RecordKey(null, certificateId), lastVerified, lastActive));
+    }
+
+    private synchronized void track(RecordKey key, Instant lastVerified, Instant lastActive) {
+        if (!running) {
+            return;
+        }
+
+        // A record tracked again is scheduled anew, so it no longer needs to wait for the network
+        Instant mostRecentActivity = mostRecent(mostRecent(lastActive, records.get(key)), offlineRecords.remove(key));
+        enqueue(new RefreshRecord(key, computeRefreshAt(lastVerified), mostRecentActivity));
+    }
+
+    private static Instant mostRecent(Instant lastActive, RefreshRecord record) {
+        if (record != null && record.getLastActive().isAfter(lastActive)) {
+            return record.getLastActive();
+        }
+        return lastActive;
+    }
+
+    private synchronized void deferUntilNetworkUp(RefreshRecord record) {
+        if (running) {
+            RefreshRecord previous = offlineRecords.get(record.getKey());
+            offlineRecords.put(record.getKey(), new RefreshRecord(record.getKey(), record.getRefreshAt(),
+                    mostRecent(record.getLastActive(), previous)));
+        }
+    }
+
+    private void enqueue(RefreshRecord record) {
+        RefreshRecord previous = records.put(record.getKey(), record);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        queue.add(record);
+
+        if (nextWakeUp == null || record.getRefreshAt().isBefore(nextWakeUp)) {
+            scheduleWakeUp();
+        }
+    }
+
+    /**
+     * Records are refreshed shortly before their trust window expires. Records that are already due (or about to be)
+     * are spread over the next trust window so that they don't all hit the cloud at once.
+     */
+    private Instant computeRefreshAt(Instant lastVerified) {
+        Duration trustWindow = getTrustWindow();
+        long leadMillis = (long) (trustWindow.toMillis() * REFRESH_LEAD_FRACTION);
+        long jitterMillis = (long) (random.nextDouble() * leadMillis);
+        Instant refreshAt = lastVerified.plus(trustWindow).minusMillis(leadMillis + jitterMillis);
+
+        if (refreshAt.isBefore(Instant.now().plus(MIN_REFRESH_DELAY))) {
+            return spreadOverTrustWindow();
+        }
+        return refreshAt;
+    }
+
+    private Instant spreadOverTrustWindow() {
+        long trustWindowMillis = getTrustWindow().toMillis();
+        return Instant.now().plus(MIN_REFRESH_DELAY).plusMillis((long) (random.nextDouble() * trustWindowMillis));
+    }
+
+    private Duration getTrustWindow() {
+        return Duration.ofMinutes(trustDurationMinutes.get());
+    }
+
+    private RefreshRecord peekCurrent() {
+        return queue.isEmpty() ? null : queue.first();
+    }
+
+    private void scheduleWakeUp() {
+        cancelWakeUp();
+        RefreshRecord head = peekCurrent();
+        if (!running || head == null) {
+            return;
+        }
+
+        nextWakeUp = head.getRefreshAt();
+        long delayMillis = Math.max(0, Duration.between(Instant.now(), nextWakeUp).toMillis());
+        scheduledFuture = scheduler.schedule(this::refreshDueRecords, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    private void cancelWakeUp() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+            scheduledFuture = null;
+        }
+        nextWakeUp = null;
+    }
+
+    private boolean isNetworkDown() {
+        return networkState.getConnectionState() == NetworkStateProvider.ConnectionState.NETWORK_DOWN;
+    }
+
+    /**
+     * Identifies a tracked record. Certificate records have no thing name.
+     */
+    @Value
+    static class RecordKey {
+        String thingName;
+        String certificateId;
+    }
+
+    @Value
+    static class RefreshRecord {
+        RecordKey key;
+        Instant refreshAt;
+        Instant lastActive;
+    }
+}
@@ -30,6 +30,8 @@ import static com.aws.greengrass.lifecyclemanager.GreengrassService.RUNTIME_STOR
  * |         |---- cloudRequestQueueSize: "..."
  * |         |---- maxConcurrentCloudRequests: "..."
  * |         |---- maxActiveAuthTokens: "..."
+ * |         |---- networkStateSettleWindowMillis: "..."
+ * |         |---- certificateRotationWindowMillis: "..."
  * |    |---- deviceGroups:
  * |         |---- definitions : {}
  * |         |---- policies : {}
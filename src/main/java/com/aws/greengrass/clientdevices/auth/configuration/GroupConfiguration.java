@@ -12,6 +12,8 @@ import com.aws.greengrass.util.Utils;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 
 import java.util.Collections;
@@ -36,6 +38,11 @@ public class GroupConfiguration {
 
     Map<String, Set<Permission>> groupToPermissionsMap;
 
+    // group name to compiled group permissions, derived from the permissions above
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Map<String, GroupPermissions> groupPermissions;
+
     @Builder
     GroupConfiguration(ConfigurationFormatVersion formatVersion, Map<String, GroupDefinition> definitions,
                        Map<String, Map<String, AuthorizationPolicyStatement>> policies) throws AuthorizationException {
@@ -43,6 +50,7 @@ public class GroupConfiguration {
         this.definitions = definitions == null ? Collections.emptyMap() : definitions;
         this.policies = policies == null ? Collections.emptyMap() : policies;
         this.groupToPermissionsMap = constructGroupToPermissionsMap();
+        this.groupPermissions = compileGroupPermissions();
     }
 
     @JsonPOJOBuilder(withPrefix = "")
@@ -65,6 +73,14 @@ public class GroupConfiguration {
         return groupToPermissionsMap;
     }
 
+    private Map<String, GroupPermissions> compileGroupPermissions() {
+        Map<String, GroupPermissions> compiledPermissions = new HashMap<>();
+        for (Map.Entry<String, Set<Permission>> entry : groupToPermissionsMap.entrySet()) {
+            compiledPermissions.put(entry.getKey(), GroupPermissions.of(entry.getKey(), entry.getValue()));
+        }
+        return compiledPermissions;
+    }
+
     private Set<Permission> constructGroupPermission(String groupName,
                                                      Map<String, AuthorizationPolicyStatement> policyStatementMap) {
         Set<Permission> permissions = new HashSet<>();
@@ -7,8 +7,10 @@ package com.aws.greengrass.clientdevices.auth.configuration;
 
 import com.aws.greengrass.clientdevices.auth.session.Session;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -27,11 +29,14 @@ public class GroupManager {
     }
 
     /**
-     * find applicable policy permissions to evaluate for the given device request.
+     * find applicable policy permissions to evaluate for the given device request. Resources are returned as
+     * configured, with policy variables left unbound.
      *
      * @param session session used to retrieve cached device attributes
      * @return Map of group name to applicable permission
+     * @deprecated use {@link #getApplicableGroupPermissions(Session)}, which binds policy variables to the session
      */
+    @Deprecated
     public Map<String, Set<Permission>> getApplicablePolicyPermissions(Session session) {
         GroupConfiguration config = groupConfigurationRef.get();
         if (config == null) {
@@ -42,6 +47,30 @@ public class GroupManager {
                 .collect(Collectors.toMap(group -> group, group -> config.getGroupToPermissionsMap().get(group)));
     }
 
+    /**
+     * find compiled permissions of the groups applicable to the given device request, with policy variables bound to
+     * the session. They are kept with the session until the group configuration changes, so only the first request of
+     * a session matches groups and binds variables.
+     *
+     * @param session session used to retrieve cached device attributes
+     * @return compiled permissions of each matching group
+     */
+    public List<GroupPermissions> getApplicableGroupPermissions(Session session) {
+        GroupConfiguration config = groupConfigurationRef.get();
+        if (config == null) {
+            return Collections.emptyList();
+        }
+        return session.getDerivedValue(config, s -> bindGroupPermissions(config, s));
+    }
+
+    private List<GroupPermissions> bindGroupPermissions(GroupConfiguration config, Session session) {
+        List<GroupPermissions> groupPermissions = new ArrayList<>();
+        for (String group : findMatchingGroups(config.getDefinitions(), session)) {
+            groupPermissions.add(config.getGroupPermissions().get(group).bind(session));
+        }
+        return Collections.unmodifiableList(groupPermissions);
+    }
+
     private Set<String> findMatchingGroups(Map<String, GroupDefinition> groupDefinitionMap, Session session) {
         Set<String> matchingGroups = new HashSet<>();
 
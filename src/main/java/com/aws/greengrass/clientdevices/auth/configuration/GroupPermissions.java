@@ -0,0 +1,198 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.session.Session;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Permissions of a device group, compiled for lookup when the group configuration is built. Permissions are indexed by
+ * operation, then by resource, so that evaluating a request takes a few hash lookups however many resources a policy
+ * lists.
+ *
+ * <p>Resources of the MQTT topic and topic filter types may use the {@code +} and {@code #} wildcards, with MQTT
+ * semantics. Such resources are compiled into a {@link TopicTrie} per resource type, so they are matched in time
+ * proportional to the number of topic levels.</p>
+ *
+ * <p>Resources may also use policy variables, such as {@code ${iot:Connection.Thing.ThingName}}. They are parsed into
+ * templates when the group configuration is built, and only apply to the view returned by {@link #bind(Session)}.
+ * Views are kept with their session by {@link GroupManager}, so a session's permissions are bound once rather than on
+ * every request.</p>
+ */
+public final class GroupPermissions {
+    private static final String ANY = "*";
+    private static final char SEPARATOR = ':';
+    private static final Set<String> TOPIC_RESOURCE_TYPES =
+            new HashSet<>(Arrays.asList("mqtt:topic", "mqtt:topicfilter"));
+
+    @Getter
+    private final String groupName;
+    private final Map<String, Resources> operations = new HashMap<>();
+    // Permissions with resource templates, and the variables they use
+    private final Map<Permission, ResourceTemplate> templates = new LinkedHashMap<>();
+    private final Set<PolicyVariable> variables = EnumSet.noneOf(PolicyVariable.class);
+    // For a bound view, the permissions which don't depend on the session
+    private final GroupPermissions unbound;
+
+    private GroupPermissions(String groupName, GroupPermissions unbound) {
+        this.groupName = groupName;
+        this.unbound = unbound;
+    }
+
+    /**
+     * Compile the permissions of a group. Permissions of other principals are ignored.
+     *
+     * @param groupName   group name
+     * @param permissions group permissions
+     * @return compiled group permissions
+     */
+    public static GroupPermissions of(String groupName, Collection<Permission> permissions) {
+        GroupPermissions groupPermissions = new GroupPermissions(groupName, null);
+        if (permissions != null) {
+            for (Permission permission : permissions) {
+                if (groupName.equals(permission.getPrincipal()) || ANY.equals(permission.getPrincipal())) {
+                    ResourceTemplate template = ResourceTemplate.parse(permission.getResource());
+                    if (template == null) {
+                        groupPermissions.add(permission);
+                    } else {
+                        groupPermissions.templates.put(permission, template);
+                        template.addVariablesTo(groupPermissions.variables);
+                    }
+                }
+            }
+        }
+        return groupPermissions;
+    }
+
+    /**
+     * Get the view of these permissions for a session, with policy variables bound to the session's attributes.
+     * Permissions using a variable which the session has no value for are left out.
+     *
+     * @param session session
+     * @return permissions bound to the session
+     */
+    public GroupPermissions bind(Session session) {
+        if (templates.isEmpty()) {
+            return this;
+        }
+        Map<PolicyVariable, String> values = new EnumMap<>(PolicyVariable.class);
+        for (PolicyVariable variable : variables) {
+            String value = variable.resolve(session);
+            if (value != null) {
+                values.put(variable, value);
+            }
+        }
+        return bindTemplates(values);
+    }
+
+    private GroupPermissions bindTemplates(Map<PolicyVariable, String> values) {
+        GroupPermissions view = new GroupPermissions(groupName, this);
+        for (Map.Entry<Permission, ResourceTemplate> entry : templates.entrySet()) {
+            String resource = entry.getValue().bind(values);
+            if (resource != null) {
+                Permission permission = entry.getKey();
+                view.add(Permission.builder().principal(permission.getPrincipal())
+                        .operation(permission.getOperation()).resource(resource).build());
+            }
+        }
+        return view;
+    }
+
+    private void add(Permission permission) {
+        operations.computeIfAbsent(permission.getOperation(), o -> new Resources()).add(permission);
+    }
+
+    /**
+     * Find a permission allowing an operation on a resource. Besides exact matches, a permission matches if its
+     * operation is {@code service:*} or {@code *}, or if its resource is {@code service:resourceType:*}, {@code *} or
+     * an MQTT topic filter matching the resource name.
+     *
+     * @param operation operation in the form of 'service:action'
+     * @param resource  resource in the form of 'service:resourceType:resourceName'
+     * @return a matching permission, or null if none matches
+     */
+    public Permission findPermission(String operation, String resource) {
+        Permission permission = unbound == null ? null : unbound.findPermission(operation, resource);
+        if (permission != null || operations.isEmpty()) {
+            return permission;
+        }
+        int serviceEnd = operation.indexOf(SEPARATOR);
+        int typeEnd = resource.indexOf(SEPARATOR, resource.indexOf(SEPARATOR) + 1);
+        String resourceType = typeEnd < 0 ? null : resource.substring(0, typeEnd);
+        String resourceName = typeEnd < 0 ? null : resource.substring(typeEnd + 1);
+
+        permission = find(operations.get(operation), resource, resourceType, resourceName);
+        if (permission == null && serviceEnd >= 0) {
+            permission = find(operations.get(operation.substring(0, serviceEnd + 1) + ANY), resource, resourceType,
+                    resourceName);
+        }
+        if (permission == null) {
+            permission = find(operations.get(ANY), resource, resourceType, resourceName);
+        }
+        return permission;
+    }
+
+    private static Permission find(Resources resources, String resource, String resourceType,
+                                   String resourceName) {
+        if (resources == null) {
+            return null;
+        }
+        Permission permission = resources.exact.get(resource);
+        if (permission != null || resourceType == null) {
+            return permission == null ? resources.any : permission;
+        }
+        permission = resources.anyName.get(resourceType);
+        if (permission != null) {
+            return permission;
+        }
+        if (resources.any != null) {
+            return resources.any;
+        }
+        TopicTrie<Permission> topicFilters = resources.topicFilters.get(resourceType);
+        return topicFilters == null ? null : topicFilters.match(resourceName);
+    }
+
+    private static final class Resources {
+        private final Map<String, Permission> exact = new HashMap<>();
+        // Permissions for any resource name, by resource type
+        private final Map<String, Permission> anyName = new HashMap<>();
+        // Permissions for topic filters containing wildcards, by resource type
+        private final Map<String, TopicTrie<Permission>> topicFilters = new HashMap<>();
+        private Permission any;
+
+        void add(Permission permission) {
+            String resource = permission.getResource();
+            if (ANY.equals(resource)) {
+                any = permission;
+                return;
+            }
+            int typeEnd = resource.indexOf(SEPARATOR, resource.indexOf(SEPARATOR) + 1);
+            if (typeEnd > 0) {
+                String resourceType = resource.substring(0, typeEnd);
+                String resourceName = resource.substring(typeEnd + 1);
+                if (ANY.equals(resourceName)) {
+                    anyName.putIfAbsent(resourceType, permission);
+                    return;
+                }
+                if (TOPIC_RESOURCE_TYPES.contains(resourceType) && TopicTrie.hasValidWildcards(resourceName)) {
+                    topicFilters.computeIfAbsent(resourceType, t -> new TopicTrie<>()).add(resourceName, permission);
+                    return;
+                }
+            }
+            exact.putIfAbsent(resource, permission);
+        }
+    }
+}
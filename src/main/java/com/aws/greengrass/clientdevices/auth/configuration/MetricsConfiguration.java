@@ -16,6 +16,7 @@ import lombok.Getter;
  * |    |---- metrics:
  * |          |---- disableMetrics
  * |          |---- aggregatePeriod
+ * |          |---- openMetricsPort
  * </p>
  */
 
@@ -23,15 +24,22 @@ public final class MetricsConfiguration {
     public static final String METRICS_TOPIC = "metrics";
     public static final String DISABLE_METRICS = "disableMetrics";
     public static final String AGGREGATE_PERIOD = "aggregatePeriod";
+    public static final String OPEN_METRICS_PORT = "openMetricsPort";
     public static final int DEFAULT_PERIODIC_AGGREGATE_INTERVAL_SEC = 3_600;
+    // The local OpenMetrics endpoint is disabled unless a port is configured
+    public static final int OPEN_METRICS_DISABLED = 0;
+    private static final int MAX_PORT = 65_535;
     @Getter
     private boolean disableMetrics;
     @Getter
     private int aggregatePeriod;
+    @Getter
+    private int openMetricsPort;
 
-    private MetricsConfiguration(boolean disableMetrics, int aggregatePeriod) {
+    private MetricsConfiguration(boolean disableMetrics, int aggregatePeriod, int openMetricsPort) {
         this.disableMetrics = disableMetrics;
         this.aggregatePeriod = aggregatePeriod;
+        this.openMetricsPort = openMetricsPort;
     }
 
     /**
@@ -44,7 +52,8 @@ public final class MetricsConfiguration {
         Topics metricsTopic = configurationTopics.lookupTopics(METRICS_TOPIC);
 
         return new MetricsConfiguration(getDisableMetricsFlagFromConfiguration(metricsTopic),
-                getAggregatePeriodFromConfiguration(metricsTopic));
+                getAggregatePeriodFromConfiguration(metricsTopic),
+                getOpenMetricsPortFromConfiguration(metricsTopic));
     }
 
     /**
@@ -55,13 +64,24 @@ public final class MetricsConfiguration {
      */
     public boolean hasChanged(MetricsConfiguration config) {
         return config.isDisableMetrics() != isDisableMetrics()
-                || config.getAggregatePeriod() != getAggregatePeriod();
+                || config.getAggregatePeriod() != getAggregatePeriod()
+                || config.getOpenMetricsPort() != getOpenMetricsPort();
     }
 
     private static boolean getDisableMetricsFlagFromConfiguration(Topics metricsTopic) {
         return Coerce.toBoolean(metricsTopic.find(DISABLE_METRICS));
     }
 
+    private static int getOpenMetricsPortFromConfiguration(Topics metricsTopic) {
+        int port = Coerce.toInt(metricsTopic.find(OPEN_METRICS_PORT));
+
+        if (port <= 0 || port > MAX_PORT) {
+            return OPEN_METRICS_DISABLED;
+        } else {
+            return port;
+        }
+    }
+
     private static int getAggregatePeriodFromConfiguration(Topics metricsTopic) {
         int aggregatePeriod = Coerce.toInt(metricsTopic.find(AGGREGATE_PERIOD));
 
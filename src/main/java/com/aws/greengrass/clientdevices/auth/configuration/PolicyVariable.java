@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.session.Session;
+import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Policy variables which may be used in policy statement resources, such as
+ * {@code mqtt:topic:devices/${iot:Connection.Thing.ThingName}/#}. Each variable is resolved from a session
+ * attribute.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+enum PolicyVariable {
+    THING_NAME("iot:Connection.Thing.ThingName", Thing.NAMESPACE, "ThingName");
+
+    @Getter
+    private final String name;
+    private final String attributeNamespace;
+    private final String attributeName;
+
+    /**
+     * Find a policy variable by name.
+     *
+     * @param name variable name, without the enclosing <code>${}</code>
+     * @return policy variable, or null if the variable is not supported
+     */
+    static PolicyVariable fromName(String name) {
+        for (PolicyVariable variable : values()) {
+            if (variable.name.equals(name)) {
+                return variable;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the variable for a session.
+     *
+     * @param session session
+     * @return variable value, or null if the session does not have the attribute
+     */
+    String resolve(Session session) {
+        DeviceAttribute attribute = session.getSessionAttribute(attributeNamespace, attributeName);
+        return attribute == null ? null : attribute.getValue();
+    }
+}
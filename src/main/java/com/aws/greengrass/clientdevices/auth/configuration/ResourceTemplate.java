@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Policy resource containing policy variables, parsed once into literal parts and variables so that binding it to a
+ * session is a single concatenation. Text which looks like a variable but names an unsupported one is kept literally.
+ */
+final class ResourceTemplate {
+    private static final String VARIABLE_START = "${";
+    private static final char VARIABLE_END = '}';
+
+    // literals[i] precedes variables[i], and the last literal follows the last variable
+    private final String[] literals;
+    private final PolicyVariable[] variables;
+
+    private ResourceTemplate(String[] literals, PolicyVariable[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    /**
+     * Parse a policy resource.
+     *
+     * @param resource policy resource
+     * @return template, or null if the resource does not contain supported policy variables
+     */
+    static ResourceTemplate parse(String resource) {
+        List<String> literals = new ArrayList<>();
+        List<PolicyVariable> variables = new ArrayList<>();
+        int literalStart = 0;
+        int variableStart = resource.indexOf(VARIABLE_START);
+        while (variableStart >= 0) {
+            int variableEnd = resource.indexOf(VARIABLE_END, variableStart);
+            if (variableEnd < 0) {
+                break;
+            }
+            PolicyVariable variable =
+                    PolicyVariable.fromName(resource.substring(variableStart + VARIABLE_START.length(), variableEnd));
+            if (variable != null) {
+                literals.add(resource.substring(literalStart, variableStart));
+                variables.add(variable);
+                literalStart = variableEnd + 1;
+            }
+            variableStart = resource.indexOf(VARIABLE_START, variableEnd + 1);
+        }
+        if (variables.isEmpty()) {
+            return null;
+        }
+        literals.add(resource.substring(literalStart));
+        return new ResourceTemplate(literals.toArray(new String[0]), variables.toArray(new PolicyVariable[0]));
+    }
+
+    /**
+     * Add the variables used by this template to a set.
+     *
+     * @param set set of variables
+     */
+    void addVariablesTo(Set<PolicyVariable> set) {
+        Collections.addAll(set, variables);
+    }
+
+    /**
+     * Substitute variable values into the template.
+     *
+     * @param values variable values
+     * @return resource, or null if a variable has no value
+     */
+    String bind(Map<PolicyVariable, String> values) {
+        StringBuilder resource = new StringBuilder(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            String value = values.get(variables[i]);
+            if (value == null) {
+                return null;
+            }
+            resource.append(value).append(literals[i + 1]);
+        }
+        return resource.toString();
+    }
+}
@@ -227,7 +227,20 @@ public final class RuntimeConfiguration {
             return Stream.empty();
         }
 
-        return v1ThingTopics.children.keySet().stream().map(Coerce::toString).map(this::getThingV1).map(Optional::get);
+        return getThingNamesV1().map(this::getThingV1).filter(Optional::isPresent).map(Optional::get);
+    }
+
+    /**
+     * Returns the names of all the Things that have been stored, without loading them.
+     */
+    public Stream<String> getThingNamesV1() {
+        Topics v1ThingTopics = config.findTopics(THINGS_KEY, THINGS_V1_KEY);
+
+        if (v1ThingTopics == null) {
+            return Stream.empty();
+        }
+
+        return v1ThingTopics.children.keySet().stream().map(Coerce::toString);
     }
 
 
@@ -244,7 +257,19 @@ public final class RuntimeConfiguration {
             return Stream.empty();
         }
 
-        return v1CertTopics.children.keySet().stream().map(Coerce::toString).map(this::getCertificateV1)
-                .map(Optional::get);
+        return getCertificateIdsV1().map(this::getCertificateV1).filter(Optional::isPresent).map(Optional::get);
+    }
+
+    /**
+     * Returns the ids of all the stored certificates, without loading them.
+     */
+    public Stream<String> getCertificateIdsV1() {
+        Topics v1CertTopics = config.findTopics(CERTS_KEY, CERTS_V1_KEY);
+
+        if (v1CertTopics == null) {
+            return Stream.empty();
+        }
+
+        return v1CertTopics.children.keySet().stream().map(Coerce::toString);
     }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie of MQTT topic filters, one level per node, used to match policy resources containing the {@code +} and
+ * {@code #} wildcards. Finding the filter matching a topic walks the trie level by level, so it takes time
+ * proportional to the number of topic levels rather than the number of filters.
+ *
+ * <p>Requested names may be topic filters themselves, as for subscriptions. A requested {@code +} level is only
+ * matched by a {@code +} filter level, and a requested {@code #} level only by a {@code #} filter level, so a filter
+ * matches a requested filter only if it covers every topic the requested filter can match. As in MQTT, wildcards in
+ * the first filter level do not match topics starting with {@code $}.</p>
+ *
+ * @param <V> value stored for each filter
+ */
+final class TopicTrie<V> {
+    static final char LEVEL_SEPARATOR = '/';
+    static final String SINGLE_LEVEL_WILDCARD = "+";
+    static final String MULTI_LEVEL_WILDCARD = "#";
+    private static final char SYSTEM_TOPIC_PREFIX = '$';
+
+    private final Node<V> root = new Node<>();
+
+    /**
+     * Check whether a topic filter contains valid wildcards. Wildcards must take a whole level, and {@code #} must be
+     * the last level.
+     *
+     * @param filter topic filter
+     * @return true if the filter contains wildcards and they are valid
+     */
+    static boolean hasValidWildcards(String filter) {
+        boolean hasWildcards = false;
+        int start = 0;
+        while (start <= filter.length()) {
+            int end = levelEnd(filter, start);
+            String level = filter.substring(start, end);
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                hasWildcards = true;
+            } else if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                if (end != filter.length()) {
+                    return false;
+                }
+                hasWildcards = true;
+            } else if (level.indexOf('+') >= 0 || level.indexOf('#') >= 0) {
+                return false;
+            }
+            start = end + 1;
+        }
+        return hasWildcards;
+    }
+
+    /**
+     * Add a topic filter, unless it was added before.
+     *
+     * @param filter topic filter
+     * @param value  value to return when the filter matches
+     */
+    void add(String filter, V value) {
+        Node<V> node = root;
+        int start = 0;
+        while (start <= filter.length()) {
+            int end = levelEnd(filter, start);
+            String level = filter.substring(start, end);
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                if (node.multiLevelValue == null) {
+                    node.multiLevelValue = value;
+                }
+                return;
+            }
+            node = node.child(level);
+            start = end + 1;
+        }
+        if (node.value == null) {
+            node.value = value;
+        }
+    }
+
+    /**
+     * Find a topic filter matching a topic or topic filter.
+     *
+     * @param topic topic or topic filter
+     * @return value of a matching filter, or null if no filter matches
+     */
+    V match(String topic) {
+        boolean systemTopic = !topic.isEmpty() && topic.charAt(0) == SYSTEM_TOPIC_PREFIX;
+        return match(root, topic, 0, systemTopic);
+    }
+
+    private V match(Node<V> node, String topic, int start, boolean systemTopic) {
+        boolean wildcardsAllowed = start != 0 || !systemTopic;
+        if (node.multiLevelValue != null && wildcardsAllowed) {
+            return node.multiLevelValue;
+        }
+        if (start > topic.length()) {
+            return node.value;
+        }
+
+        int end = levelEnd(topic, start);
+        if (end - start == 1 && topic.charAt(start) == '#') {
+            // Only a multi-level wildcard, checked above, covers a requested multi-level wildcard
+            return null;
+        }
+        boolean singleLevelWildcard = end - start == 1 && topic.charAt(start) == '+';
+        if (!singleLevelWildcard && node.children != null) {
+            Node<V> child = node.children.get(topic.substring(start, end));
+            if (child != null) {
+                V value = match(child, topic, end + 1, systemTopic);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        if (node.singleLevel != null && wildcardsAllowed) {
+            return match(node.singleLevel, topic, end + 1, systemTopic);
+        }
+        return null;
+    }
+
+    private static int levelEnd(String topic, int start) {
+        int end = topic.indexOf(LEVEL_SEPARATOR, start);
+        return end < 0 ? topic.length() : end;
+    }
+
+    private static final class Node<V> {
+        private Map<String, Node<V>> children;
+        private Node<V> singleLevel;
+        // Value of a filter ending at this node
+        private V value;
+        // Value of a filter ending with a multi-level wildcard after this node
+        private V multiLevelValue;
+
+        Node<V> child(String level) {
+            if (SINGLE_LEVEL_WILDCARD.equals(level)) {
+                if (singleLevel == null) {
+                    singleLevel = new Node<>();
+                }
+                return singleLevel;
+            }
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(level, l -> new Node<>());
+        }
+    }
+}
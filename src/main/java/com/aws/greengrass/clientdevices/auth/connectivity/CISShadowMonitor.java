@@ -5,8 +5,10 @@
 
 package com.aws.greengrass.clientdevices.auth.connectivity;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateGenerator;
-import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateRotationSkipped;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.deployment.DeviceConfiguration;
 import com.aws.greengrass.logging.api.Logger;
@@ -30,6 +32,7 @@ import software.amazon.awssdk.services.greengrassv2data.model.InternalServerExce
 import software.amazon.awssdk.services.greengrassv2data.model.ThrottlingException;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +47,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 @SuppressWarnings("PMD.ImmutableField")
@@ -71,6 +75,8 @@ public class CISShadowMonitor implements Consumer<NetworkStateProvider.Connectio
     private final ExecutorService executorService;
     private final String shadowName;
     private final ConnectivityInformation connectivityInformation;
+    private final CertificateRotationScheduler rotationScheduler;
+    private final DomainEvents domainEvents;
 
     /**
      * Constructor.
@@ -79,23 +85,29 @@ public class CISShadowMonitor implements Consumer<NetworkStateProvider.Connectio
      * @param executorService         Executor service
      * @param deviceConfiguration     Device configuration
      * @param connectivityInformation Connectivity Info Provider
+     * @param rotationScheduler       Certificate rotation scheduler
+     * @param domainEvents            Domain event router
      */
     @Inject
     public CISShadowMonitor(MqttClient mqttClient, ExecutorService executorService,
-                            DeviceConfiguration deviceConfiguration, ConnectivityInformation connectivityInformation) {
+                            DeviceConfiguration deviceConfiguration, ConnectivityInformation connectivityInformation,
+                            CertificateRotationScheduler rotationScheduler, DomainEvents domainEvents) {
         this(null, null, executorService, Coerce.toString(deviceConfiguration.getThingName()) + CIS_SHADOW_SUFFIX,
-                connectivityInformation);
+                connectivityInformation, rotationScheduler, domainEvents);
         this.connection = new WrapperMqttClientConnection(mqttClient);
         this.iotShadowClient = new IotShadowClient(this.connection);
     }
 
     CISShadowMonitor(MqttClientConnection connection, IotShadowClient iotShadowClient, ExecutorService executorService,
-                     String shadowName, ConnectivityInformation connectivityInformation) {
+                     String shadowName, ConnectivityInformation connectivityInformation,
+                     CertificateRotationScheduler rotationScheduler, DomainEvents domainEvents) {
         this.connection = connection;
         this.iotShadowClient = iotShadowClient;
         this.executorService = executorService;
         this.shadowName = shadowName;
         this.connectivityInformation = connectivityInformation;
+        this.rotationScheduler = rotationScheduler;
+        this.domainEvents = domainEvents;
     }
 
     /**
@@ -144,6 +156,15 @@ public class CISShadowMonitor implements Consumer<NetworkStateProvider.Connectio
         monitoredCertificateGenerators.remove(certificateGenerator);
     }
 
+    /**
+     * Get the number of certificates rotated when connectivity information changes.
+     *
+     * @return number of monitored certificate generators
+     */
+    public int getMonitoredCertificateGeneratorCount() {
+        return monitoredCertificateGenerators.size();
+    }
+
     private void subscribeToShadowTopics() throws InterruptedException {
         while (true) {
             if (Thread.currentThread().isInterrupted()) {
@@ -233,13 +254,7 @@ public class CISShadowMonitor implements Consumer<NetworkStateProvider.Connectio
                 return;
             }
 
-            try {
-                for (CertificateGenerator cg : monitoredCertificateGenerators) {
-                    cg.generateCertificate(connectivityInformation::getCachedHostAddresses,
-                            "connectivity info was updated");
-                }
-            } catch (CertificateGenerationException e) {
-                LOGGER.atError().kv(VERSION, version).cause(e).log("Failed to generate new certificates");
+            if (!rotateCertificatesIfHostAddressesChanged(version)) {
                 return;
             }
 
@@ -255,6 +270,37 @@ public class CISShadowMonitor implements Consumer<NetworkStateProvider.Connectio
         });
     }
 
+    /**
+     * Rotate the monitored certificates, except those last rotated for the host addresses currently used as SANs. A
+     * new CIS version doesn't necessarily mean different host addresses.
+     *
+     * @param version CIS shadow version
+     * @return false if rotation failed
+     */
+    private boolean rotateCertificatesIfHostAddressesChanged(String version) {
+        List<String> hostAddresses = connectivityInformation.getCachedHostAddresses();
+        List<CertificateGenerator> generators = new ArrayList<>(monitoredCertificateGenerators);
+        List<CertificateGenerator> outdatedGenerators = generators.stream()
+                .filter(cg -> !rotationScheduler.isRotatedFor(cg, hostAddresses)).collect(Collectors.toList());
+        if (outdatedGenerators.isEmpty()) {
+            LOGGER.atInfo().kv(VERSION, version).log("Host addresses are unchanged. Skipping cert re-generation");
+            domainEvents.emit(new CertificateRotationSkipped(generators.size(), "host addresses are unchanged"));
+            return true;
+        }
+
+        try {
+            rotationScheduler.requestRotations(outdatedGenerators, "connectivity info was updated").get();
+        } catch (InterruptedException e) {
+            LOGGER.atDebug().kv(VERSION, version).cause(e).log("Interrupted while rotating certificates");
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.atError().kv(VERSION, version).cause(e.getCause()).log("Failed to generate new certificates");
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Asynchronously update the CIS shadow's reported state for the given shadow version.
      *
@@ -16,10 +16,12 @@ import software.amazon.awssdk.services.greengrassv2data.model.GetConnectivityInf
 import software.amazon.awssdk.services.greengrassv2data.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.greengrassv2data.model.ValidationException;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -35,7 +37,7 @@ public class ConnectivityInformation {
     private final GreengrassServiceClientFactory clientFactory;
 
     // TODO: Legacy structure to be removed later
-    protected volatile List<String> cachedHostAddresses = Collections.emptyList();
+    private volatile CachedHostAddresses cachedHostAddresses = CachedHostAddresses.of(Collections.emptyList());
 
     private final Map<String, Set<HostAddress>> connectivityInformationMap = new ConcurrentHashMap<>();
 
@@ -54,12 +56,21 @@ public class ConnectivityInformation {
     }
 
     /**
-     * Get cached connectivity info.
+     * Get cached connectivity info, combined from all connectivity sources.
      *
      * @return list of cached connectivity info items
      */
     public List<String> getCachedHostAddresses() {
-        return cachedHostAddresses;
+        return cachedHostAddresses.getHostAddresses();
+    }
+
+    /**
+     * Replace the cached connectivity info.
+     *
+     * @param hostAddresses host addresses, normalized before being cached
+     */
+    protected void updateCachedHostAddresses(Collection<String> hostAddresses) {
+        cachedHostAddresses = CachedHostAddresses.of(hostAddresses);
     }
 
     /**
@@ -76,14 +87,15 @@ public class ConnectivityInformation {
         try {
             GetConnectivityInfoResponse getConnectivityInfoResponse =
                     clientFactory.getGreengrassV2DataClient().getConnectivityInfo(getConnectivityInfoRequest);
-            if (getConnectivityInfoResponse.hasConnectivityInfo()) {
-                // Filter out port and metadata since it is not needed
-                connectivityInfoList = getConnectivityInfoResponse.connectivityInfo();
-                cachedHostAddresses = new ArrayList<>(
-                        connectivityInfoList.stream().map(ci -> ci.hostAddress()).collect(Collectors.toSet()));
+            if (!getConnectivityInfoResponse.hasConnectivityInfo()) {
+                // Keep the last known CIS addresses, as server certificates would otherwise lose them on rotation
+                return connectivityInfoList;
             }
+            // Filter out port and metadata since it is not needed
+            connectivityInfoList = getConnectivityInfoResponse.connectivityInfo();
         } catch (ValidationException | ResourceNotFoundException e) {
             LOGGER.atWarn().cause(e).log("Connectivity info doesn't exist");
+            return connectivityInfoList;
         }
 
         // NOTE: Eventually this code will move into infrastructure and connectivity information
@@ -93,6 +105,7 @@ public class ConnectivityInformation {
         //   returns the expected data after we receive a CIS update.
         // Phase 2) Introduce new certificate rotation workflows that use GetConnectivityInformationUseCase
         //   instead of getCachedHostAddresses(). This will decouple cert rotation and connectivity info domains.
+        //   Until then, the cached host addresses are derived from all recorded sources.
         // Phase 3) Remove this code entirely. CISShadowMonitor will update via RecordConnectivityChangesUseCase.
         Set<HostAddress> hostAddresses = connectivityInfoList.stream().map(HostAddress::of).collect(Collectors.toSet());
         recordConnectivityInformationForSource("connectivity-information-service", hostAddresses);
@@ -115,10 +128,70 @@ public class ConnectivityInformation {
      *
      * @param source                 connectivity information source.
      * @param sourceConnectivityInfo connectivity information.
+     * @return host addresses added to and removed from the aggregated connectivity information
      */
-    public void recordConnectivityInformationForSource(String source, Set<HostAddress> sourceConnectivityInfo) {
+    public synchronized RecordConnectivityChangesResponse recordConnectivityInformationForSource(
+            String source, Set<HostAddress> sourceConnectivityInfo) {
         LOGGER.atInfo().kv("source", source).kv("connectivityInformation", sourceConnectivityInfo)
                 .log("Updating connectivity information");
+        // Synchronized so that the diff is computed against the state this update was applied to
+        Set<HostAddress> previousConnectivityInfo = getAggregatedConnectivityInformation();
         connectivityInformationMap.put(source, sourceConnectivityInfo);
+        Set<HostAddress> newConnectivityInfo = getAggregatedConnectivityInformation();
+        // Server certificates get SANs from every source
+        updateCachedHostAddresses(
+                newConnectivityInfo.stream().map(HostAddress::getHost).collect(Collectors.toList()));
+
+        Set<HostAddress> addedAddresses = new HashSet<>(newConnectivityInfo);
+        addedAddresses.removeAll(previousConnectivityInfo);
+        Set<HostAddress> removedAddresses = new HashSet<>(previousConnectivityInfo);
+        removedAddresses.removeAll(newConnectivityInfo);
+        return new RecordConnectivityChangesResponse(addedAddresses, removedAddresses);
+    }
+
+    /**
+     * Normalized, sorted and deduplicated host addresses. The hash is computed once, so comparing snapshots which
+     * differ is cheap and comparing equal snapshots costs a single list comparison.
+     */
+    public static final class CachedHostAddresses {
+        private final List<String> hostAddresses;
+        private final int hash;
+
+        private CachedHostAddresses(List<String> hostAddresses) {
+            this.hostAddresses = hostAddresses;
+            this.hash = hostAddresses.hashCode();
+        }
+
+        static CachedHostAddresses of(Collection<String> hostAddresses) {
+            return new CachedHostAddresses(Collections.unmodifiableList(
+                    hostAddresses.stream().map(HostAddress::normalize).filter(Objects::nonNull)
+                            .filter(host -> !host.isEmpty()).distinct().sorted().collect(Collectors.toList())));
+        }
+
+        public List<String> getHostAddresses() {
+            return hostAddresses;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CachedHostAddresses)) {
+                return false;
+            }
+            CachedHostAddresses other = (CachedHostAddresses) o;
+            return hash == other.hash && hostAddresses.equals(other.hostAddresses);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return hostAddresses.toString();
+        }
     }
 }
@@ -9,18 +9,51 @@ import lombok.Value;
 import org.apache.http.conn.util.InetAddressUtils;
 import software.amazon.awssdk.services.greengrassv2data.model.ConnectivityInfo;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Locale;
+
 @Value
 public final class HostAddress {
     private final String host;
 
     public static HostAddress of(String hostAddress) {
-        return new HostAddress(hostAddress);
+        return new HostAddress(normalize(hostAddress));
     }
 
     public static HostAddress of(ConnectivityInfo connectivityInfo) {
         return HostAddress.of(connectivityInfo.hostAddress());
     }
 
+    /**
+     * Normalize a host address, so that spellings of the same host compare equal. Host names are case-insensitive and
+     * may be written fully qualified with a trailing dot, and IPv6 addresses have several textual forms.
+     *
+     * @param hostAddress host name or IP address
+     * @return normalized host address
+     */
+    static String normalize(String hostAddress) {
+        if (hostAddress == null) {
+            return null;
+        }
+        String host = hostAddress.trim().toLowerCase(Locale.ROOT);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        if (InetAddressUtils.isIPv6Address(host)) {
+            try {
+                // Parsing a literal never does a name lookup
+                return InetAddress.getByName(host).getHostAddress();
+            } catch (UnknownHostException e) {
+                return host;
+            }
+        }
+        while (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        return host;
+    }
+
     /**
      * Checks if the connectivity information is a valid IPv4 or IPv6 address.
      *
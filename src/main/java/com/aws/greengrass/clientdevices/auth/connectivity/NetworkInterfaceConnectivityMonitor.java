@@ -0,0 +1,198 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.connectivity;
+
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateGenerator;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificatesConfig;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+
+/**
+ * Connectivity source for the addresses of the local network interfaces. Interfaces are polled, which only reads
+ * kernel state, and connectivity information is recorded and server certificates rotated only when the set of
+ * addresses changes. This picks up DHCP address changes without waiting for the cloud connectivity information.
+ */
+public class NetworkInterfaceConnectivityMonitor {
+    private static final Logger LOGGER = LogManager.getLogger(NetworkInterfaceConnectivityMonitor.class);
+    static final String CONNECTIVITY_SOURCE = "network-interfaces";
+    static final Duration POLL_INTERVAL = Duration.ofSeconds(10);
+
+    private final ScheduledExecutorService ses;
+    private final ConnectivityInformation connectivityInformation;
+    private final CertificateRotationScheduler rotationScheduler;
+    private final AddressSource addressSource;
+    private final List<CertificateGenerator> monitoredCertificateGenerators = new CopyOnWriteArrayList<>();
+    private final Object pollLock = new Object();
+    private Set<HostAddress> lastAddresses = Collections.emptySet();
+    private volatile boolean enabled;
+    private boolean running;
+    private ScheduledFuture<?> pollFuture;
+
+    /**
+     * Construct a new NetworkInterfaceConnectivityMonitor.
+     *
+     * @param ses                     ScheduledExecutorService to poll network interfaces
+     * @param connectivityInformation Connectivity information
+     * @param rotationScheduler       Certificate rotation scheduler
+     */
+    @Inject
+    public NetworkInterfaceConnectivityMonitor(ScheduledExecutorService ses,
+                                               ConnectivityInformation connectivityInformation,
+                                               CertificateRotationScheduler rotationScheduler) {
+        this(ses, connectivityInformation, rotationScheduler,
+                NetworkInterfaceConnectivityMonitor::getNetworkInterfaceAddresses);
+    }
+
+    NetworkInterfaceConnectivityMonitor(ScheduledExecutorService ses, ConnectivityInformation connectivityInformation,
+                                        CertificateRotationScheduler rotationScheduler, AddressSource addressSource) {
+        this.ses = ses;
+        this.connectivityInformation = connectivityInformation;
+        this.rotationScheduler = rotationScheduler;
+        this.addressSource = addressSource;
+    }
+
+    /**
+     * Enable or disable the monitor according to configuration. Addresses recorded while the monitor was enabled are
+     * removed when it is disabled.
+     *
+     * @param certificatesConfig certificates configuration
+     */
+    public synchronized void updateCertificatesConfiguration(CertificatesConfig certificatesConfig) {
+        boolean wasEnabled = enabled;
+        enabled = certificatesConfig.isLocalNetworkAddressesIncluded();
+        reschedule();
+        if (wasEnabled && !enabled) {
+            ses.execute(() -> record(Collections.emptySet()));
+        }
+    }
+
+    /**
+     * Start polling network interfaces, if enabled.
+     */
+    public synchronized void startMonitor() {
+        running = true;
+        reschedule();
+    }
+
+    /**
+     * Stop polling network interfaces.
+     */
+    public synchronized void stopMonitor() {
+        running = false;
+        reschedule();
+    }
+
+    /**
+     * Add cert to network interface monitor.
+     *
+     * @param certificateGenerator CertificateGenerator instance for the certificate
+     */
+    public void addToMonitor(CertificateGenerator certificateGenerator) {
+        monitoredCertificateGenerators.add(certificateGenerator);
+    }
+
+    /**
+     * Remove cert from network interface monitor.
+     *
+     * @param certificateGenerator CertificateGenerator instance for the certificate
+     */
+    public void removeFromMonitor(CertificateGenerator certificateGenerator) {
+        monitoredCertificateGenerators.remove(certificateGenerator);
+    }
+
+    private void reschedule() {
+        if (running && enabled) {
+            if (pollFuture == null) {
+                pollFuture = ses.scheduleWithFixedDelay(this::pollOnce, 0, POLL_INTERVAL.toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+        } else if (pollFuture != null) {
+            pollFuture.cancel(false);
+            pollFuture = null;
+        }
+    }
+
+    void pollOnce() {
+        Set<HostAddress> addresses;
+        try {
+            addresses = addressSource.getHostAddresses();
+        } catch (SocketException e) {
+            LOGGER.atWarn().cause(e).log("Unable to read network interface addresses");
+            return;
+        }
+        if (enabled) {
+            record(addresses);
+        }
+    }
+
+    private void record(Set<HostAddress> addresses) {
+        synchronized (pollLock) {
+            if (addresses.equals(lastAddresses)) {
+                return;
+            }
+            lastAddresses = addresses;
+            RecordConnectivityChangesResponse changes =
+                    connectivityInformation.recordConnectivityInformationForSource(CONNECTIVITY_SOURCE, addresses);
+            if (changes.didChange() && !monitoredCertificateGenerators.isEmpty()) {
+                LOGGER.atInfo().kv("added", changes.getAddedHostAddresses())
+                        .kv("removed", changes.getRemovedHostAddresses())
+                        .log("Local network addresses changed. Rotating server certificates");
+                rotationScheduler.requestRotations(monitoredCertificateGenerators, "local network addresses changed");
+            }
+        }
+    }
+
+    /**
+     * Get the addresses of all network interfaces which are up. Loopback and link-local addresses are left out, since
+     * they are the same on every device or only valid on a single link.
+     *
+     * @return network interface addresses
+     * @throws SocketException if unable to read network interfaces
+     */
+    static Set<HostAddress> getNetworkInterfaceAddresses() throws SocketException {
+        Set<HostAddress> addresses = new HashSet<>();
+        Enumeration<NetworkInterface> interfaces = NetworkInterface.getNetworkInterfaces();
+        if (interfaces == null) {
+            return addresses;
+        }
+        for (NetworkInterface networkInterface : Collections.list(interfaces)) {
+            if (!networkInterface.isUp() || networkInterface.isLoopback()) {
+                continue;
+            }
+            for (InetAddress address : Collections.list(networkInterface.getInetAddresses())) {
+                if (address.isLoopbackAddress() || address.isLinkLocalAddress()) {
+                    continue;
+                }
+                String host = address.getHostAddress();
+                // Drop the IPv6 scope, it is not part of the address clients connect to
+                int scope = host.indexOf('%');
+                addresses.add(HostAddress.of(scope < 0 ? host : host.substring(0, scope)));
+            }
+        }
+        return addresses;
+    }
+
+    @FunctionalInterface
+    interface AddressSource {
+        Set<HostAddress> getHostAddresses() throws SocketException;
+    }
+}
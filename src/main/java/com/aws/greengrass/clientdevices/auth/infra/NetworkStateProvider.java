@@ -5,13 +5,22 @@
 
 package com.aws.greengrass.clientdevices.auth.infra;
 
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
 import com.aws.greengrass.mqttclient.CallbackEventManager;
 import com.aws.greengrass.mqttclient.MqttClient;
 import software.amazon.awssdk.crt.mqtt.MqttClientConnectionEvents;
 
-import java.util.ArrayList;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import javax.inject.Inject;
 
@@ -24,12 +33,39 @@ public interface NetworkStateProvider {
 
     ConnectionState getConnectionState();
 
+    /**
+     * Returns when the network last came up, so that local records verified before then can be told apart from
+     * records verified over the current connection.
+     *
+     * @return when the network last came up, or the epoch if unknown
+     */
+    default Instant getLastNetworkUp() {
+        return Instant.EPOCH;
+    }
 
+    /**
+     * Dispatches connection state changes once the connection has settled. Changes that happen within the settle
+     * window are coalesced and only the last state is dispatched. A connection which keeps flapping has its state
+     * dispatched {@link #MAX_SETTLE_WINDOWS} settle windows after the first pending change at the latest. Each handler
+     * runs asynchronously and independently of the others; if a handler is still busy when a new state arrives it only
+     * receives the latest one.
+     */
     class Default implements NetworkStateProvider {
+        public static final Duration DEFAULT_SETTLE_WINDOW = Duration.ofSeconds(5);
+        static final int MAX_SETTLE_WINDOWS = 4;
+        private static final Logger logger = LogManager.getLogger(Default.class);
         private final ExecutorService executorService;
+        private final ScheduledExecutorService ses;
 
         private final MqttClient mqttClient;
-        private final List<Consumer<ConnectionState>> handlers = new ArrayList<>();
+        private final List<HandlerDispatcher> handlers = new CopyOnWriteArrayList<>();
+        private volatile Duration settleWindow = DEFAULT_SETTLE_WINDOW;
+        private ConnectionState pendingState;
+        private ScheduledFuture<?> pendingDispatch;
+        private long pendingSinceNanos;
+        // Identifies the latest scheduled dispatch, so that a replaced one which already started does nothing
+        private long dispatchGeneration;
+        private volatile Instant lastNetworkUp = Instant.EPOCH;
 
         private final CallbackEventManager.OnConnectCallback onConnect = curSessionPresent -> {
             emitNetworkUp();
@@ -52,17 +88,32 @@ public interface NetworkStateProvider {
          *
          * @param mqttClient      MqttClient wrapper.
          * @param executorService Executor service used to dispatch connection state change events.
+         * @param ses             Scheduled executor service used to wait for the connection state to settle.
          */
         @Inject
-        public Default(MqttClient mqttClient, ExecutorService executorService) {
+        public Default(MqttClient mqttClient, ExecutorService executorService, ScheduledExecutorService ses) {
             this.mqttClient = mqttClient;
             mqttClient.addToCallbackEvents(onConnect, callbacks);
             this.executorService = executorService;
+            this.ses = ses;
         }
 
         @Override
         public void registerHandler(Consumer<NetworkStateProvider.ConnectionState> networkChangeHandler) {
-            handlers.add(networkChangeHandler);
+            handlers.add(new HandlerDispatcher(networkChangeHandler));
+        }
+
+        /**
+         * Sets how long the connection state has to remain unchanged before it is dispatched to the handlers.
+         *
+         * @param settleWindow settle window, a zero duration dispatches changes right away
+         */
+        public void setSettleWindow(Duration settleWindow) {
+            if (settleWindow.isNegative()) {
+                logger.atWarn().kv("settleWindow", settleWindow).log("Ignoring negative network state settle window");
+                return;
+            }
+            this.settleWindow = settleWindow;
         }
 
         /**
@@ -86,23 +137,59 @@ public interface NetworkStateProvider {
             }
         }
 
+        @Override
+        public Instant getLastNetworkUp() {
+            return lastNetworkUp;
+        }
+
         private void emitNetworkUp() {
+            // Recorded right away rather than once the connection settles, as it only makes verification stricter
+            lastNetworkUp = Instant.now();
             if (isRunning()) {
-                executorService.submit(() -> {
-                    for (Consumer<NetworkStateProvider.ConnectionState> handler : handlers) {
-                        handler.accept(NetworkStateProvider.ConnectionState.NETWORK_UP);
-                    }
-                });
+                scheduleDispatch(NetworkStateProvider.ConnectionState.NETWORK_UP);
             }
         }
 
         private void emitNetworkDown() {
             if (isRunning()) {
-                executorService.submit(() -> {
-                    for (Consumer<NetworkStateProvider.ConnectionState> handler : handlers) {
-                        handler.accept(NetworkStateProvider.ConnectionState.NETWORK_DOWN);
-                    }
-                });
+                scheduleDispatch(NetworkStateProvider.ConnectionState.NETWORK_DOWN);
+            }
+        }
+
+        private synchronized void scheduleDispatch(NetworkStateProvider.ConnectionState state) {
+            long now = System.nanoTime();
+            if (pendingDispatch == null) {
+                pendingSinceNanos = now;
+            } else {
+                pendingDispatch.cancel(false);
+            }
+            pendingState = state;
+
+            long settleNanos = settleWindow.toNanos();
+            long deadline = pendingSinceNanos + settleNanos * MAX_SETTLE_WINDOWS;
+            long delay = Math.max(0, Math.min(settleNanos, deadline - now));
+            long generation = ++dispatchGeneration;
+            pendingDispatch = ses.schedule(() -> dispatch(generation), delay, TimeUnit.NANOSECONDS);
+        }
+
+        @SuppressWarnings("PMD.NullAssignment")
+        private void dispatch(long generation) {
+            NetworkStateProvider.ConnectionState state;
+            synchronized (this) {
+                if (generation != dispatchGeneration) {
+                    return;
+                }
+                state = pendingState;
+                pendingState = null;
+                pendingDispatch = null;
+            }
+
+            if (state == null) {
+                return;
+            }
+
+            for (HandlerDispatcher handler : handlers) {
+                handler.offer(state);
             }
         }
 
@@ -111,6 +198,51 @@ public interface NetworkStateProvider {
         private boolean isRunning() {
             return true;
         }
+
+        /**
+         * Runs a handler on the executor service, at most one invocation at a time. States offered while the handler
+         * is busy replace each other so that the handler only gets the latest one once it is done.
+         */
+        private final class HandlerDispatcher {
+            private final Consumer<NetworkStateProvider.ConnectionState> handler;
+            private final AtomicReference<NetworkStateProvider.ConnectionState> nextState = new AtomicReference<>();
+            private final AtomicBoolean running = new AtomicBoolean(false);
+
+            private HandlerDispatcher(Consumer<NetworkStateProvider.ConnectionState> handler) {
+                this.handler = handler;
+            }
+
+            private void offer(NetworkStateProvider.ConnectionState state) {
+                nextState.set(state);
+                if (running.compareAndSet(false, true)) {
+                    executorService.execute(this::drain);
+                }
+            }
+
+            @SuppressWarnings("PMD.AvoidCatchingGenericException")
+            private void drain() {
+                try {
+                    NetworkStateProvider.ConnectionState state = nextState.getAndSet(null);
+                    while (state != null) {
+                        try {
+                            handler.accept(state);
+                        } catch (RuntimeException e) {
+                            logger.atError().cause(e).kv("state", state)
+                                    .kv("eventHandler", handler.getClass().getSimpleName())
+                                    .log("Network state change handler failed");
+                        }
+                        state = nextState.getAndSet(null);
+                    }
+                } finally {
+                    running.set(false);
+                }
+
+                // A state may have been offered after the last check but before the flag was cleared
+                if (nextState.get() != null && running.compareAndSet(false, true)) {
+                    executorService.execute(this::drain);
+                }
+            }
+        }
     }
 
 }
@@ -57,6 +57,16 @@ public class CertificateRegistry {
         return dto.map(this::certificateV1DTOToCert);
     }
 
+    /**
+     * Retrieve certificate by certificate id.
+     *
+     * @param certificateId certificate id
+     * @return certificate object
+     */
+    public Optional<Certificate> getCertificateById(String certificateId) {
+        return runtimeConfiguration.getCertificateV1(certificateId).map(this::certificateV1DTOToCert);
+    }
+
     /**
      * Get a new certificate, creating and storing one if it does not exist.
      * </p>
@@ -133,4 +143,11 @@ public class CertificateRegistry {
     public Stream<Certificate> getAllCertificates() {
         return runtimeConfiguration.getAllCertificatesV1().map(this::certificateV1DTOToCert);
     }
+
+    /**
+     * Gets the ids of all the certificates stored in the registry.
+     */
+    public Stream<String> getAllCertificateIds() {
+        return runtimeConfiguration.getCertificateIdsV1();
+    }
 }
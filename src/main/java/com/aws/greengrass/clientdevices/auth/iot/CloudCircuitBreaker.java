@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.iot.events.CloudCircuitBreakerEvent;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import javax.inject.Inject;
+
+/**
+ * Circuit breaker guarding the IoT Core data plane calls made on the client device verification path.
+ *
+ * <p>Call outcomes are tracked over a sliding window of the most recent calls, where a call that takes longer than
+ * {@link #SLOW_CALL_THRESHOLD} counts as a failure. Once the failure rate of the window crosses
+ * {@link #FAILURE_RATE_THRESHOLD} the breaker opens and calls are rejected without reaching the cloud, so callers
+ * fall back to locally stored data. After {@link #OPEN_DURATION} a single probe call is let through (half-open); its
+ * outcome either closes the breaker or opens it again.
+ */
+public class CloudCircuitBreaker {
+    private static final Logger logger = LogManager.getLogger(CloudCircuitBreaker.class);
+    static final int WINDOW_SIZE = 20;
+    static final int MIN_CALLS = 5;
+    static final double FAILURE_RATE_THRESHOLD = 0.5;
+    static final Duration SLOW_CALL_THRESHOLD = Duration.ofSeconds(5);
+    static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final Clock clock;
+    private final DomainEvents domainEvents;
+
+    // Ring buffer of the most recent call outcomes, true meaning the call failed
+    private final boolean[] window = new boolean[WINDOW_SIZE];
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private boolean probeInFlight;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Construct a new circuit breaker.
+     *
+     * @param clock        Clock
+     * @param domainEvents Domain event router
+     */
+    @Inject
+    public CloudCircuitBreaker(Clock clock, DomainEvents domainEvents) {
+        this.clock = clock;
+        this.domainEvents = domainEvents;
+    }
+
+    /**
+     * Check whether a cloud call may go ahead. Every permitted call must be followed by either
+     * {@link #onSuccess(Duration)} or {@link #onFailure()}.
+     *
+     * @return true if the call is permitted, false if it should be short-circuited
+     */
+    public boolean tryAcquire() {
+        CloudCircuitBreakerEvent.Status transition = null;
+        boolean permitted;
+        synchronized (this) {
+            if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(OPEN_DURATION))) {
+                state = State.HALF_OPEN;
+                probeInFlight = false;
+                transition = CloudCircuitBreakerEvent.Status.HALF_OPENED;
+            }
+            if (state == State.CLOSED) {
+                permitted = true;
+            } else if (state == State.HALF_OPEN && !probeInFlight) {
+                probeInFlight = true;
+                permitted = true;
+            } else {
+                permitted = false;
+            }
+        }
+
+        if (transition != null) {
+            emit(transition);
+        }
+        if (!permitted) {
+            domainEvents.emit(new CloudCircuitBreakerEvent(CloudCircuitBreakerEvent.Status.SHORT_CIRCUITED));
+        }
+        return permitted;
+    }
+
+    /**
+     * Record a call that reached the cloud and got an answer back.
+     *
+     * @param latency time taken by the call
+     */
+    public void onSuccess(Duration latency) {
+        record(latency.compareTo(SLOW_CALL_THRESHOLD) >= 0);
+    }
+
+    /**
+     * Record a call that failed to get an answer from the cloud.
+     */
+    public void onFailure() {
+        record(true);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        CloudCircuitBreakerEvent.Status transition = null;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+                if (failed) {
+                    open();
+                    transition = CloudCircuitBreakerEvent.Status.OPENED;
+                } else {
+                    close();
+                    transition = CloudCircuitBreakerEvent.Status.CLOSED;
+                }
+            } else if (state == State.CLOSED) {
+                addToWindow(failed);
+                if (windowCount >= MIN_CALLS && windowFailures >= FAILURE_RATE_THRESHOLD * windowCount) {
+                    open();
+                    transition = CloudCircuitBreakerEvent.Status.OPENED;
+                }
+            }
+            // Outcomes of calls which started before the breaker opened are ignored
+        }
+
+        if (transition != null) {
+            emit(transition);
+        }
+    }
+
+    private void addToWindow(boolean failed) {
+        if (windowCount == WINDOW_SIZE) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % WINDOW_SIZE;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.instant();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void emit(CloudCircuitBreakerEvent.Status transition) {
+        logger.atInfo().kv("transition", transition).log("Cloud circuit breaker state changed");
+        domainEvents.emit(new CloudCircuitBreakerEvent(transition));
+    }
+}
@@ -6,6 +6,7 @@
 package com.aws.greengrass.clientdevices.auth.iot;
 
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
+import com.aws.greengrass.clientdevices.auth.metrics.jfr.FlightRecorderEvents;
 import com.aws.greengrass.deployment.DeviceConfiguration;
 import com.aws.greengrass.deployment.exceptions.DeviceConfigurationException;
 import com.aws.greengrass.logging.api.Logger;
@@ -34,6 +35,7 @@ import software.amazon.awssdk.services.greengrassv2data.model.VerifyClientDevice
 import software.amazon.awssdk.services.greengrassv2data.model.VerifyClientDeviceIoTCertificateAssociationRequest;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -49,16 +51,22 @@ public interface IotAuthClient {
 
     boolean isThingAttachedToCertificate(Thing thing, String certificateId);
 
-
+    /**
+     * Returns the pages of client devices associated with the core device. Pages are requested as the stream is
+     * consumed and the stream must be closed once done with it.
+     */
     Stream<List<AssociatedClientDevice>> getThingsAssociatedWithCoreDevice();
 
     class Default implements IotAuthClient {
         private static final Logger logger = LogManager.getLogger(Default.class);
         private static final String CERTPEM_KEY = "certificatePem";
+        private static final String SHORT_CIRCUIT_MESSAGE =
+                "Cloud circuit breaker is open, skipping call to IoT Core";
 
         private final DeviceConfiguration deviceConfiguration;
         private final GreengrassV2DataClientFactory ggV2DataClientFactory;
         private final LazyCredentialProvider lazyCredentialProvider;
+        private final CloudCircuitBreaker circuitBreaker;
 
         /**
          * Default IotAuthClient constructor.
@@ -66,13 +74,15 @@ public interface IotAuthClient {
          * @param deviceConfiguration    greengrass core device configuration
          * @param ggV2DataClientFactory  greengrass v2 data client factory
          * @param lazyCredentialProvider credetial provider for the GG client
+         * @param circuitBreaker         circuit breaker guarding the data plane calls
          */
         @Inject
         Default(DeviceConfiguration deviceConfiguration, GreengrassV2DataClientFactory ggV2DataClientFactory,
-                LazyCredentialProvider lazyCredentialProvider) {
+                LazyCredentialProvider lazyCredentialProvider, CloudCircuitBreaker circuitBreaker) {
             this.deviceConfiguration = deviceConfiguration;
             this.ggV2DataClientFactory = ggV2DataClientFactory;
             this.lazyCredentialProvider = lazyCredentialProvider;
+            this.circuitBreaker = circuitBreaker;
         }
 
         @Override
@@ -84,22 +94,37 @@ public interface IotAuthClient {
 
             VerifyClientDeviceIdentityRequest request =
                     VerifyClientDeviceIdentityRequest.builder().clientDeviceCertificate(certificatePem).build();
+            if (!circuitBreaker.tryAcquire()) {
+                logger.atDebug().kv(CERTPEM_KEY, certificatePem).log(SHORT_CIRCUIT_MESSAGE);
+                throw new CloudServiceInteractionException(SHORT_CIRCUIT_MESSAGE);
+            }
+            long start = System.nanoTime();
+            Object jfrEvent = FlightRecorderEvents.beginCloudCall();
+            boolean succeeded = false;
             try (GreengrassV2DataClient client = ggV2DataClientFactory.getClient()) {
                 VerifyClientDeviceIdentityResponse response = client.verifyClientDeviceIdentity(request);
+                circuitBreaker.onSuccess(elapsedSince(start));
+                succeeded = true;
                 return Optional.of(response.clientDeviceCertificateId());
             } catch (ValidationException | ResourceNotFoundException e) {
+                circuitBreaker.onSuccess(elapsedSince(start));
+                succeeded = true;
                 logger.atWarn().cause(e).kv(CERTPEM_KEY, certificatePem)
                         .log("Certificate doesn't exist or isn't active");
                 return Optional.empty();
             } catch (DeviceConfigurationException e) {
+                circuitBreaker.onFailure();
                 logger.atError().cause(e).kv(CERTPEM_KEY, certificatePem).log("Failed to construct GG v2 Data client. "
                         + "Check that the core device configuration is valid");
                 throw new CloudServiceInteractionException("Failed to construct GG v2 Data client", e);
             } catch (Exception e) {
+                circuitBreaker.onFailure();
                 logger.atError().cause(e).kv(CERTPEM_KEY, certificatePem)
                         .log("Failed to verify client device identity with cloud. Check that the core device's IoT "
                                 + "policy grants the greengrass:VerifyClientDeviceIdentity permission");
                 throw new CloudServiceInteractionException("Failed to verify client device identity", e);
+            } finally {
+                FlightRecorderEvents.endCloudCall(jfrEvent, "VerifyClientDeviceIdentity", succeeded);
             }
         }
 
@@ -111,24 +136,39 @@ public interface IotAuthClient {
 
             VerifyClientDeviceIdentityRequest request =
                     VerifyClientDeviceIdentityRequest.builder().clientDeviceCertificate(certificatePem).build();
+            if (!circuitBreaker.tryAcquire()) {
+                logger.atDebug().kv(CERTPEM_KEY, certificatePem).log(SHORT_CIRCUIT_MESSAGE);
+                return Optional.empty();
+            }
+            long start = System.nanoTime();
+            Object jfrEvent = FlightRecorderEvents.beginCloudCall();
+            boolean succeeded = false;
             try (GreengrassV2DataClient client = ggV2DataClientFactory.getClient()) {
                 // We can ignore the response since it contains only the cert ID, which we directly compute
                 client.verifyClientDeviceIdentity(request);
+                circuitBreaker.onSuccess(elapsedSince(start));
+                succeeded = true;
                 cert.setStatus(Certificate.Status.ACTIVE);
             } catch (ValidationException | ResourceNotFoundException e) {
+                circuitBreaker.onSuccess(elapsedSince(start));
+                succeeded = true;
                 logger.atWarn().cause(e).kv(CERTPEM_KEY, certificatePem)
                         .log("Certificate doesn't exist or isn't active");
                 cert.setStatus(Certificate.Status.UNKNOWN);
             } catch (DeviceConfigurationException e) {
+                circuitBreaker.onFailure();
                 logger.atError().cause(e).kv(CERTPEM_KEY, certificatePem).log("Failed to construct GG v2 Data client. "
                         + "Check that the core device configuration is valid");
                 return Optional.empty();
             } catch (Exception e) {
+                circuitBreaker.onFailure();
                 // TODO: don't log at error level for network failures
                 logger.atError().cause(e).kv(CERTPEM_KEY, certificatePem)
                         .log("Failed to verify client device identity with cloud. Check that the core device's IoT "
                                 + "policy grants the greengrass:VerifyClientDeviceIdentity permission");
                 return Optional.empty();
+            } finally {
+                FlightRecorderEvents.endCloudCall(jfrEvent, "VerifyClientDeviceIdentity", succeeded);
             }
 
             return Optional.of(cert);
@@ -157,27 +197,43 @@ public interface IotAuthClient {
                     VerifyClientDeviceIoTCertificateAssociationRequest.builder()
                             .clientDeviceThingName(thing.getThingName()).clientDeviceCertificateId(certificateId)
                             .build();
+            if (!circuitBreaker.tryAcquire()) {
+                logger.atDebug().kv("thingName", thing.getThingName()).kv("certificateId", certificateId)
+                        .log(SHORT_CIRCUIT_MESSAGE);
+                throw new CloudServiceInteractionException(SHORT_CIRCUIT_MESSAGE);
+            }
+            long start = System.nanoTime();
+            Object jfrEvent = FlightRecorderEvents.beginCloudCall();
+            boolean succeeded = false;
             try (GreengrassV2DataClient client = ggV2DataClientFactory.getClient()) {
                 client.verifyClientDeviceIoTCertificateAssociation(request);
+                circuitBreaker.onSuccess(elapsedSince(start));
+                succeeded = true;
                 logger.atDebug().kv("thingName", thing.getThingName()).kv("certificateId", certificateId)
                         .log("Thing is attached to certificate");
                 return true;
             } catch (ValidationException | ResourceNotFoundException e) {
+                circuitBreaker.onSuccess(elapsedSince(start));
+                succeeded = true;
                 logger.atDebug().cause(e).kv("thingName", thing.getThingName()).kv("certificateId", certificateId)
                         .log("Thing is not attached to certificate");
                 return false;
             } catch (DeviceConfigurationException e) {
+                circuitBreaker.onFailure();
                 logger.atError().cause(e).kv("thingName", thing.getThingName())
                         .log("Failed to construct GG v2 Data client. "
                                 + "Check that the core device configuration is valid");
                 throw new CloudServiceInteractionException("Failed to construct GG v2 Data client", e);
             } catch (Exception e) {
+                circuitBreaker.onFailure();
                 logger.atError().cause(e).kv("thingName", thing.getThingName()).kv("certificateId", certificateId)
                         .log("Failed to verify certificate thing association. Check that the core device's IoT policy"
                                 + " grants the greengrass:VerifyClientDeviceIoTCertificateAssociation permission");
                 throw new CloudServiceInteractionException(
                         String.format("Failed to verify certificate %s thing %s association", certificateId,
                                 thing.getThingName()), e);
+            } finally {
+                FlightRecorderEvents.endCloudCall(jfrEvent, "VerifyClientDeviceIoTCertificateAssociation", succeeded);
             }
         }
 
@@ -188,15 +244,25 @@ public interface IotAuthClient {
             ListClientDevicesAssociatedWithCoreDeviceRequest request =
                     ListClientDevicesAssociatedWithCoreDeviceRequest.builder().coreDeviceThingName(thingName).build();
 
-            try (GreengrassV2Client client = getGGV2Client()) {
+            // Pages are fetched lazily as the stream is consumed, so the client is only closed with the stream
+            GreengrassV2Client client = getGGV2Client();
+            try {
                 ListClientDevicesAssociatedWithCoreDeviceIterable responses =
                         client.listClientDevicesAssociatedWithCoreDevicePaginator(request);
 
                 return responses.stream()
-                        .map(ListClientDevicesAssociatedWithCoreDeviceResponse::associatedClientDevices);
+                        .map(ListClientDevicesAssociatedWithCoreDeviceResponse::associatedClientDevices)
+                        .onClose(client::close);
+            } catch (RuntimeException e) {
+                client.close();
+                throw e;
             }
         }
 
+        private static Duration elapsedSince(long startNanos) {
+            return Duration.ofNanos(System.nanoTime() - startNanos);
+        }
+
         // TODO: This should not live here ideally it should be returned by the clientFactory but we
         //  are adding it here to avoid introducing new changes to the nucleus
         private GreengrassV2Client getGGV2Client() {
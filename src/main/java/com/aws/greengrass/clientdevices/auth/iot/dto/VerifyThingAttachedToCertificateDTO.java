@@ -14,5 +14,17 @@ import lombok.Value;
 public class VerifyThingAttachedToCertificateDTO {
     String thingName;
     String certificateId;
+    // Skip a fresh local attachment record and go to the cloud, as done when refreshing the record
+    boolean cloudVerificationRequired;
+
+    /**
+     * Verify a thing attachment, answering from a fresh local record if there is one.
+     *
+     * @param thingName     thing name
+     * @param certificateId certificate ID
+     */
+    public VerifyThingAttachedToCertificateDTO(String thingName, String certificateId) {
+        this(thingName, certificateId, false);
+    }
 }
 
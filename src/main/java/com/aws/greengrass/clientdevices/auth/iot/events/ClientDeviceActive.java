@@ -0,0 +1,26 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot.events;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Emitted when a client device verifies its identity or is authorized. The thing name is null when the device is only
+ * known by its certificate.
+ */
+@AllArgsConstructor
+public class ClientDeviceActive implements DomainEvent {
+    @Getter
+    private String thingName;
+    @Getter
+    private String certificateId;
+    @Getter
+    private Instant activeAt;
+}
@@ -116,13 +116,29 @@ public class ThingRegistry {
         return runtimeConfig.getAllThingsV1().map(this::dtoToThing);
     }
 
+    /**
+     * Gets the names of all the things stored in the registry.
+     */
+    public Stream<String> getAllThingNames() {
+        return runtimeConfig.getThingNamesV1();
+    }
+
     /**
      * Deletes a thing from the repository.
      *
      * @param thing thing to remove
      */
     public void deleteThing(Thing thing) {
-        runtimeConfig.removeThingV1(thing.getThingName());
+        deleteThing(thing.getThingName());
+    }
+
+    /**
+     * Deletes a thing from the repository provided its name.
+     *
+     * @param thingName name of the thing to remove
+     */
+    public void deleteThing(String thingName) {
+        runtimeConfig.removeThingV1(thingName);
     }
 
     private Thing dtoToThing(ThingV1DTO dto) {
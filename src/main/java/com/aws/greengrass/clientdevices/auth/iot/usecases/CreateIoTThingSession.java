@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.clientdevices.auth.iot.usecases;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
@@ -14,9 +15,11 @@ import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
 import com.aws.greengrass.clientdevices.auth.iot.Thing;
 import com.aws.greengrass.clientdevices.auth.iot.dto.CreateSessionDTO;
 import com.aws.greengrass.clientdevices.auth.iot.dto.VerifyThingAttachedToCertificateDTO;
+import com.aws.greengrass.clientdevices.auth.iot.events.ThingSessionCreated;
 import com.aws.greengrass.clientdevices.auth.iot.infra.ThingRegistry;
 import com.aws.greengrass.clientdevices.auth.session.Session;
 import com.aws.greengrass.clientdevices.auth.session.SessionImpl;
+import com.aws.greengrass.clientdevices.auth.session.StageTimer;
 
 import java.util.Optional;
 import javax.inject.Inject;
@@ -25,6 +28,7 @@ public class CreateIoTThingSession implements UseCases.UseCase<Session, CreateSe
     private final ThingRegistry thingRegistry;
     private final CertificateRegistry certificateRegistry;
     private final UseCases useCases;
+    private final DomainEvents domainEvents;
 
 
     /**
@@ -33,13 +37,15 @@ public class CreateIoTThingSession implements UseCases.UseCase<Session, CreateSe
      * @param thingRegistry       Thing Registry
      * @param certificateRegistry Certificate Registry
      * @param useCases            UseCases service
+     * @param domainEvents        Domain event router
      */
     @Inject
     public CreateIoTThingSession(ThingRegistry thingRegistry, CertificateRegistry certificateRegistry,
-                                 UseCases useCases) {
+                                 UseCases useCases, DomainEvents domainEvents) {
         this.thingRegistry = thingRegistry;
         this.certificateRegistry = certificateRegistry;
         this.useCases = useCases;
+        this.domainEvents = domainEvents;
     }
 
 
@@ -55,19 +61,31 @@ public class CreateIoTThingSession implements UseCases.UseCase<Session, CreateSe
         Optional<Certificate> certificate;
 
         try {
-            certificate = certificateRegistry.getCertificateFromPem(certificatePem);
+            long registryStart = StageTimer.startStage();
+            try {
+                certificate = certificateRegistry.getCertificateFromPem(certificatePem);
+            } finally {
+                StageTimer.endStage(StageTimer.Stage.CERTIFICATE_REGISTRY, registryStart);
+            }
 
             if (!certificate.isPresent() || !certificate.get().isActive()) {
                 throw new AuthenticationException("Certificate isn't active");
             }
 
-            Thing thing = thingRegistry.getOrCreateThing(thingName);
+            Thing thing;
+            long writeStart = StageTimer.startStage();
+            try {
+                thing = thingRegistry.getOrCreateThing(thingName);
+            } finally {
+                StageTimer.endStage(StageTimer.Stage.REGISTRY_WRITE, writeStart);
+            }
 
             VerifyThingAttachedToCertificate verify = useCases.get(VerifyThingAttachedToCertificate.class);
             Boolean thingAttachedResult = verify.apply(
                     new VerifyThingAttachedToCertificateDTO(thingName, certificate.get().getCertificateId()));
 
             if (thingAttachedResult) {
+                domainEvents.emit(new ThingSessionCreated(thingName, certificate.get().getCertificateId()));
                 return new SessionImpl(certificate.get(), thing);
             }
         } catch (CloudServiceInteractionException | InvalidCertificateException e) {
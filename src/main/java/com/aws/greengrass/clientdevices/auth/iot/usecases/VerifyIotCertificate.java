@@ -5,15 +5,19 @@
 
 package com.aws.greengrass.clientdevices.auth.iot.usecases;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.clientdevices.auth.iot.Certificate;
 import com.aws.greengrass.clientdevices.auth.iot.CertificateRegistry;
 import com.aws.greengrass.clientdevices.auth.iot.InvalidCertificateException;
 import com.aws.greengrass.clientdevices.auth.iot.IotAuthClient;
+import com.aws.greengrass.clientdevices.auth.iot.events.ClientDeviceActive;
+import com.aws.greengrass.clientdevices.auth.session.StageTimer;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
+import java.time.Instant;
 import java.util.Optional;
 import javax.inject.Inject;
 
@@ -27,7 +31,7 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
     private final IotAuthClient iotAuthClient;
     private final CertificateRegistry certificateRegistry;
     private final NetworkStateProvider networkState;
-
+    private final DomainEvents domainEvents;
 
     /**
      * Verify a certificate with IoT Core.
@@ -35,21 +39,40 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
      * @param iotAuthClient       IoT auth client
      * @param certificateRegistry Certificate Registry
      * @param networkState        Network state
+     * @param domainEvents        Domain event router
      */
     @Inject
     public VerifyIotCertificate(IotAuthClient iotAuthClient, CertificateRegistry certificateRegistry,
-                                NetworkStateProvider networkState) {
+                                NetworkStateProvider networkState, DomainEvents domainEvents) {
         this.iotAuthClient = iotAuthClient;
         this.certificateRegistry = certificateRegistry;
         this.networkState = networkState;
+        this.domainEvents = domainEvents;
     }
 
     @Override
     public Boolean apply(String certificatePem) {
-        // If we think we have network connectivity, then opportunistically go to the
-        // cloud for verification.
+        return verify(certificatePem, false);
+    }
+
+    /**
+     * Verify a certificate with IoT Core even if the local registry has fresh information about it, as done when
+     * refreshing the local record. Falls back to the local registry if the network is down. Unlike
+     * {@link #apply(String)}, the client device is not reported active.
+     *
+     * @param certificatePem certificate PEM
+     * @return whether the certificate is active
+     */
+    public Boolean applyFromCloud(String certificatePem) {
+        return verify(certificatePem, true);
+    }
+
+    private Boolean verify(String certificatePem, boolean cloudVerificationRequired) {
+        // If the local registry has information about the certificate which is still within its
+        // trust duration, and was verified since the network last came up, then answer from it,
+        // unless cloud verification is required.
         // If the local registry doesn't have information about the certificate, or if
-        // certificate information is outdated, then also go to the cloud, regardless
+        // certificate information is outdated, then go to the cloud, regardless
         // of whether we think we're connected. It may seem a bit odd to attempt when we
         // don't think we're online, but we don't 100% trust our network state heuristic,
         // so this guarantees that we at least try once.
@@ -58,9 +81,20 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
         Certificate cert;
 
         try {
-            cert = certificateRegistry.getOrCreateCertificate(certificatePem);
-            if (!cert.isActive() || isNetworkUp()) {
-                cloudCert = iotAuthClient.getIotCertificate(certificatePem);
+            long registryStart = StageTimer.startStage();
+            try {
+                cert = certificateRegistry.getOrCreateCertificate(certificatePem);
+            } finally {
+                StageTimer.endStage(StageTimer.Stage.CERTIFICATE_REGISTRY, registryStart);
+            }
+            boolean verifiedSinceNetworkUp = cert.getStatusLastUpdated().isAfter(networkState.getLastNetworkUp());
+            if (!cert.isActive() || (cloudVerificationRequired || !verifiedSinceNetworkUp) && isNetworkUp()) {
+                long cloudStart = StageTimer.startStage();
+                try {
+                    cloudCert = iotAuthClient.getIotCertificate(certificatePem);
+                } finally {
+                    StageTimer.endStage(StageTimer.Stage.CLOUD_CERTIFICATE_VERIFICATION, cloudStart);
+                }
             }
         } catch (InvalidCertificateException e) {
             logger.atWarn().kv("certificatePem", certificatePem).log("Unable to process certificate", e);
@@ -70,17 +104,22 @@ public class VerifyIotCertificate implements UseCases.UseCase<Boolean, String> {
         // Information from the cloud is authoritative - update local registry if it is available
         if (cloudCert.isPresent()) {
             cert = cloudCert.get();
+            long writeStart = StageTimer.startStage();
             if (cert.isActive()) {
                 certificateRegistry.updateCertificate(cloudCert.get());
             } else {
                 certificateRegistry.deleteCertificate(cloudCert.get());
             }
+            StageTimer.endStage(StageTimer.Stage.REGISTRY_WRITE, writeStart);
         }
 
         String verificationSource = cloudCert.isPresent() ? CLOUD_VERIFICATION_SOURCE : LOCAL_VERIFICATION_SOURCE;
         logger.atDebug().kv("certificateId", cert.getCertificateId()).kv(VERIFICATION_SOURCE, verificationSource)
                 .log(cert.isActive() ? "Certificate is active" : "Certificate is not active");
 
+        if (cert.isActive() && !cloudVerificationRequired) {
+            domainEvents.emit(new ClientDeviceActive(null, cert.getCertificateId(), Instant.now()));
+        }
         return cert.isActive();
     }
 
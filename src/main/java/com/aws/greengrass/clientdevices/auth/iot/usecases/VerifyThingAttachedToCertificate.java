@@ -12,6 +12,7 @@ import com.aws.greengrass.clientdevices.auth.iot.IotAuthClient;
 import com.aws.greengrass.clientdevices.auth.iot.Thing;
 import com.aws.greengrass.clientdevices.auth.iot.dto.VerifyThingAttachedToCertificateDTO;
 import com.aws.greengrass.clientdevices.auth.iot.infra.ThingRegistry;
+import com.aws.greengrass.clientdevices.auth.session.StageTimer;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
 
@@ -52,15 +53,28 @@ public class VerifyThingAttachedToCertificate
         logger.atDebug().kv("thing", thing.getThingName()).kv("certificate", certificateId)
                 .log("Network up, verifying thing attached to certificate from cloud");
 
-        if (iotAuthClient.isThingAttachedToCertificate(thing, certificateId)) {
-            thing.attachCertificate(certificateId);
-            thingRegistry.updateThing(thing);
-            return true;
+        boolean attached;
+        long checkStart = StageTimer.startStage();
+        try {
+            attached = iotAuthClient.isThingAttachedToCertificate(thing, certificateId);
+        } finally {
+            StageTimer.endStage(StageTimer.Stage.THING_ATTACHMENT_CHECK, checkStart);
         }
 
-        thing.detachCertificate(certificateId);
+        if (attached) {
+            thing.attachCertificate(certificateId);
+        } else {
+            thing.detachCertificate(certificateId);
+        }
+        long writeStart = StageTimer.startStage();
         thingRegistry.updateThing(thing);
-        return false;
+        StageTimer.endStage(StageTimer.Stage.REGISTRY_WRITE, writeStart);
+        return attached;
+    }
+
+    private boolean isAttachedSinceNetworkUp(Thing thing, String certificateId) {
+        return thing.isCertificateAttached(certificateId) && thing.certificateLastAttachedOn(certificateId)
+                .filter(lastVerified -> lastVerified.isAfter(networkState.getLastNetworkUp())).isPresent();
     }
 
     private boolean isNetworkUp() {
@@ -68,9 +82,11 @@ public class VerifyThingAttachedToCertificate
     }
 
     /**
-     * Verifies if a certificate is attached to a thing. When the device is online it will try to verify it from the
-     * cloud and update the local values in case the device goes offline. When offline, the assertion will be based on
-     * the locally stored values.
+     * Verifies if a certificate is attached to a thing. A locally stored attachment which is still within its trust
+     * duration, and was verified since the network last came up, answers right away unless the DTO requires cloud
+     * verification. Otherwise, when the device is online it
+     * will try to verify it from the cloud and update the local values in case the device goes offline. When offline,
+     * the assertion will be based on the locally stored values.
      *
      * @param dto - VerifyCertificateAttachedToThingDTO
      */
@@ -82,6 +98,12 @@ public class VerifyThingAttachedToCertificate
             return false;
         }
 
+        if (!dto.isCloudVerificationRequired() && isAttachedSinceNetworkUp(thing, dto.getCertificateId())) {
+            logger.atDebug().kv("thing", thing.getThingName()).kv("certificate", dto.getCertificateId())
+                    .log("Verified thing attached to certificate from fresh local record");
+            return true;
+        }
+
         try {
             if (isNetworkUp()) {
                 return verifyFromCloud(thing, dto.getCertificateId());
@@ -7,29 +7,14 @@ package com.aws.greengrass.clientdevices.auth.metrics;
 
 import com.aws.greengrass.telemetry.impl.Metric;
 import com.aws.greengrass.telemetry.impl.MetricFactory;
-import com.aws.greengrass.telemetry.models.TelemetryAggregation;
 import com.aws.greengrass.telemetry.models.TelemetryUnit;
 
 import java.time.Clock;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 public class ClientDeviceAuthMetrics {
-    private final AtomicLong subscribeToCertificateUpdatesSuccess = new AtomicLong();
-    private final AtomicLong subscribeToCertificateUpdatesFailure = new AtomicLong();
-    private final AtomicLong verifyClientDeviceIdentitySuccess = new AtomicLong();
-    private final AtomicLong verifyClientDeviceIdentityFailure = new AtomicLong();
-    private final AtomicLong authorizeClientDeviceActionSuccess = new AtomicLong();
-    private final AtomicLong authorizeClientDeviceActionFailure = new AtomicLong();
-    private final AtomicLong getClientDeviceAuthTokenSuccess = new AtomicLong();
-    private final AtomicLong getClientDeviceAuthTokenFailure = new AtomicLong();
-    private final AtomicLong serviceError = new AtomicLong();
-    private final MetricFactory mf = new MetricFactory(NAMESPACE);
-    private final Clock clock;
     private static final String NAMESPACE = "aws.greengrass.clientdevices.Auth";
     static final String METRIC_SUBSCRIBE_TO_CERTIFICATE_UPDATES_SUCCESS =
             "SubscribeToCertificateUpdates.Success";
@@ -49,6 +34,93 @@ public class ClientDeviceAuthMetrics {
             "GetClientDeviceAuthToken.Failure";
     static final String METRIC_SERVICE_ERROR =
             "ServiceError";
+    static final String METRIC_CLOUD_CIRCUIT_BREAKER_OPEN =
+            "CloudCircuitBreaker.Open";
+    static final String METRIC_CLOUD_CIRCUIT_BREAKER_HALF_OPEN =
+            "CloudCircuitBreaker.HalfOpen";
+    static final String METRIC_CLOUD_CIRCUIT_BREAKER_CLOSED =
+            "CloudCircuitBreaker.Closed";
+    static final String METRIC_CLOUD_CIRCUIT_BREAKER_SHORT_CIRCUIT =
+            "CloudCircuitBreaker.ShortCircuit";
+    static final String METRIC_KEY_PAIR_POOL_HIT =
+            "KeyPairPool.Hit";
+    static final String METRIC_KEY_PAIR_POOL_MISS =
+            "KeyPairPool.Miss";
+    static final String METRIC_CERTIFICATE_ROTATION_FAILURE =
+            "CertificateRotation.Failure";
+    static final String METRIC_CERTIFICATE_ROTATION_WAVE_LATENCY =
+            "CertificateRotation.WaveLatency";
+    static final String METRIC_CERTIFICATE_ROTATION_SKIPPED =
+            "CertificateRotation.Skipped";
+    static final String METRIC_CERTIFICATE_SIGNING_QUEUE_WAIT =
+            "CertificateSigning.QueueWait";
+    static final String METRIC_CERTIFICATE_SIGNING_SIGN_TIME =
+            "CertificateSigning.SignTime";
+    static final String METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_LATENCY =
+            "VerifyClientDeviceIdentity.Latency";
+    static final String METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_LATENCY =
+            "GetClientDeviceAuthToken.Latency";
+    static final String METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_LATENCY =
+            "AuthorizeClientDeviceActions.Latency";
+    static final String METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_BATCH_LATENCY =
+            "AuthorizeClientDeviceActionsBatch.Latency";
+    static final String METRIC_CERTIFICATE_ISSUANCE_LATENCY =
+            "CertificateIssuance.Latency";
+    static final String METRIC_REQUEST_STAGE_LATENCY_FORMAT =
+            "RequestStage.%s.Latency";
+    static final String LATENCY_P50_SUFFIX = MetricRegistry.LATENCY_P50_SUFFIX;
+    static final String LATENCY_P90_SUFFIX = MetricRegistry.LATENCY_P90_SUFFIX;
+    static final String LATENCY_P99_SUFFIX = MetricRegistry.LATENCY_P99_SUFFIX;
+    static final String LATENCY_MAX_SUFFIX = MetricRegistry.LATENCY_MAX_SUFFIX;
+
+    private final MetricRegistry registry = new MetricRegistry(NAMESPACE);
+    private final MetricRegistry.Counter subscribeToCertificateUpdatesSuccess =
+            registry.counter(METRIC_SUBSCRIBE_TO_CERTIFICATE_UPDATES_SUCCESS);
+    private final MetricRegistry.Counter subscribeToCertificateUpdatesFailure =
+            registry.counter(METRIC_SUBSCRIBE_TO_CERTIFICATE_UPDATES_FAILURE);
+    private final MetricRegistry.Counter verifyClientDeviceIdentitySuccess =
+            registry.counter(METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_SUCCESS);
+    private final MetricRegistry.Counter verifyClientDeviceIdentityFailure =
+            registry.counter(METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_FAILURE);
+    private final MetricRegistry.Counter authorizeClientDeviceActionSuccess =
+            registry.counter(METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_SUCCESS);
+    private final MetricRegistry.Counter authorizeClientDeviceActionFailure =
+            registry.counter(METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_FAILURE);
+    private final MetricRegistry.Counter getClientDeviceAuthTokenSuccess =
+            registry.counter(METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_SUCCESS);
+    private final MetricRegistry.Counter getClientDeviceAuthTokenFailure =
+            registry.counter(METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_FAILURE);
+    private final MetricRegistry.Counter serviceError = registry.counter(METRIC_SERVICE_ERROR);
+    private final MetricRegistry.Counter cloudCircuitBreakerOpen = registry.counter(METRIC_CLOUD_CIRCUIT_BREAKER_OPEN);
+    private final MetricRegistry.Counter cloudCircuitBreakerHalfOpen =
+            registry.counter(METRIC_CLOUD_CIRCUIT_BREAKER_HALF_OPEN);
+    private final MetricRegistry.Counter cloudCircuitBreakerClosed =
+            registry.counter(METRIC_CLOUD_CIRCUIT_BREAKER_CLOSED);
+    private final MetricRegistry.Counter cloudCircuitBreakerShortCircuit =
+            registry.counter(METRIC_CLOUD_CIRCUIT_BREAKER_SHORT_CIRCUIT);
+    private final MetricRegistry.Counter keyPairPoolHit = registry.counter(METRIC_KEY_PAIR_POOL_HIT);
+    private final MetricRegistry.Counter keyPairPoolMiss = registry.counter(METRIC_KEY_PAIR_POOL_MISS);
+    private final MetricRegistry.Counter certificateRotationFailure =
+            registry.counter(METRIC_CERTIFICATE_ROTATION_FAILURE);
+    private final MetricRegistry.Maximum certificateRotationWaveLatency =
+            registry.maximum(METRIC_CERTIFICATE_ROTATION_WAVE_LATENCY, TelemetryUnit.Milliseconds);
+    private final MetricRegistry.Counter certificateRotationSkipped =
+            registry.counter(METRIC_CERTIFICATE_ROTATION_SKIPPED);
+    private final MetricRegistry.Maximum certificateSigningQueueWait =
+            registry.maximum(METRIC_CERTIFICATE_SIGNING_QUEUE_WAIT, TelemetryUnit.Milliseconds);
+    private final MetricRegistry.Maximum certificateSigningSignTime =
+            registry.maximum(METRIC_CERTIFICATE_SIGNING_SIGN_TIME, TelemetryUnit.Milliseconds);
+    private final LatencyHistogram verifyClientDeviceIdentityLatency =
+            registry.latency(METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_LATENCY);
+    private final LatencyHistogram getClientDeviceAuthTokenLatency =
+            registry.latency(METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_LATENCY);
+    private final LatencyHistogram authorizeClientDeviceActionLatency =
+            registry.latency(METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_LATENCY);
+    private final LatencyHistogram authorizeClientDeviceActionsBatchLatency =
+            registry.latency(METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_BATCH_LATENCY);
+    private final LatencyHistogram certificateIssuanceLatency = registry.latency(METRIC_CERTIFICATE_ISSUANCE_LATENCY);
+    private final MetricFactory mf = new MetricFactory(NAMESPACE);
+    private final Clock clock;
 
     /**
      * Constructor for Client Device Auth Metrics.
@@ -77,166 +149,217 @@ public class ClientDeviceAuthMetrics {
      * @return a list of {@link Metric}
      */
     public List<Metric> collectMetrics() {
-        List<Metric> metricsList = new ArrayList<>();
-        long timestamp = Instant.now(clock).toEpochMilli();
-
-        Metric metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_SUBSCRIBE_TO_CERTIFICATE_UPDATES_SUCCESS)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(subscribeToCertificateUpdatesSuccess.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_SUBSCRIBE_TO_CERTIFICATE_UPDATES_FAILURE)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(subscribeToCertificateUpdatesFailure.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_SUCCESS)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(verifyClientDeviceIdentitySuccess.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_FAILURE)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(verifyClientDeviceIdentityFailure.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_SUCCESS)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(authorizeClientDeviceActionSuccess.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_FAILURE)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(authorizeClientDeviceActionFailure.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_SUCCESS)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(getClientDeviceAuthTokenSuccess.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_FAILURE)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(getClientDeviceAuthTokenFailure.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metric = Metric.builder()
-                .namespace(NAMESPACE)
-                .name(METRIC_SERVICE_ERROR)
-                .unit(TelemetryUnit.Count)
-                .aggregation(TelemetryAggregation.Sum)
-                .value(serviceError.getAndSet(0L))
-                .timestamp(timestamp)
-                .build();
-        metricsList.add(metric);
-
-        metricsList = metricsList.stream()
-                .filter(m -> !m.getValue().equals(0L))
-                .collect(Collectors.toList());
-
-        return metricsList;
+        return registry.collect(Instant.now(clock).toEpochMilli());
+    }
+
+    /**
+     * Get the registry holding the CDA metrics.
+     *
+     * @return metric registry
+     */
+    public MetricRegistry getRegistry() {
+        return registry;
     }
 
     /**
      * Increments the SubscribeToCertificateUpdates.Success metric.
      */
     public void subscribeSuccess() {
-        subscribeToCertificateUpdatesSuccess.incrementAndGet();
+        subscribeToCertificateUpdatesSuccess.increment();
     }
 
     /**
      * Increments the SubscribeToCertificateUpdates.Failure metric
      */
     public void subscribeFailure() {
-        subscribeToCertificateUpdatesFailure.incrementAndGet();
+        subscribeToCertificateUpdatesFailure.increment();
     }
 
     /**
      * Increments the VerifyClientDeviceIdentity.Success metric.
      */
     public void verifyDeviceIdentitySuccess() {
-        verifyClientDeviceIdentitySuccess.incrementAndGet();
+        verifyClientDeviceIdentitySuccess.increment();
     }
 
     /**
      * Increments the VerifyClientDeviceIdentity.Failure metric.
      */
     public void verifyDeviceIdentityFailure() {
-        verifyClientDeviceIdentityFailure.incrementAndGet();
+        verifyClientDeviceIdentityFailure.increment();
     }
 
     /**
      * Increments the AuthorizeClientDeviceAction.Success metric.
      */
     public void authorizeActionSuccess() {
-        authorizeClientDeviceActionSuccess.incrementAndGet();
+        authorizeClientDeviceActionSuccess.increment();
     }
 
     /**
      * Increments the AuthorizeClientDeviceAction.Failure metric.
      */
     public void authorizeActionFailure() {
-        authorizeClientDeviceActionFailure.incrementAndGet();
+        authorizeClientDeviceActionFailure.increment();
     }
 
     /**
      * Increments the GetClientDeviceAuthToken.Success metric
      */
     public void authTokenSuccess() {
-        getClientDeviceAuthTokenSuccess.incrementAndGet();
+        getClientDeviceAuthTokenSuccess.increment();
     }
 
     /**
      * Increments the GetClientDeviceAuthToken.Failure metric
      */
     public void authTokenFailure() {
-        getClientDeviceAuthTokenFailure.incrementAndGet();
+        getClientDeviceAuthTokenFailure.increment();
     }
 
     /**
      * Increments the ServiceError metric.
      */
     public void incrementServiceError() {
-        serviceError.incrementAndGet();
+        serviceError.increment();
+    }
+
+    /**
+     * Increments the CloudCircuitBreaker.Open metric.
+     */
+    public void cloudCircuitBreakerOpened() {
+        cloudCircuitBreakerOpen.increment();
+    }
+
+    /**
+     * Increments the CloudCircuitBreaker.HalfOpen metric.
+     */
+    public void cloudCircuitBreakerHalfOpened() {
+        cloudCircuitBreakerHalfOpen.increment();
+    }
+
+    /**
+     * Increments the CloudCircuitBreaker.Closed metric.
+     */
+    public void cloudCircuitBreakerClosed() {
+        cloudCircuitBreakerClosed.increment();
+    }
+
+    /**
+     * Increments the CloudCircuitBreaker.ShortCircuit metric.
+     */
+    public void cloudCircuitBreakerShortCircuited() {
+        cloudCircuitBreakerShortCircuit.increment();
+    }
+
+    /**
+     * Increments the KeyPairPool.Hit metric.
+     */
+    public void keyPairPoolHit() {
+        keyPairPoolHit.increment();
+    }
+
+    /**
+     * Increments the KeyPairPool.Miss metric.
+     */
+    public void keyPairPoolMiss() {
+        keyPairPoolMiss.increment();
+    }
+
+    /**
+     * Records a completed certificate rotation wave. The CertificateRotation.WaveLatency metric keeps the slowest wave
+     * of the aggregation period.
+     *
+     * @param failures  number of certificates which failed to rotate
+     * @param latencyMs time taken by the wave in milliseconds
+     */
+    public void certificateRotationWave(long failures, long latencyMs) {
+        certificateRotationFailure.add(failures);
+        certificateRotationWaveLatency.record(latencyMs);
+    }
+
+    /**
+     * Increments the CertificateRotation.Skipped metric by the number of certificates which were not rotated.
+     *
+     * @param certificates number of certificates for which rotation was skipped
+     */
+    public void certificateRotationSkipped(long certificates) {
+        certificateRotationSkipped.add(certificates);
+    }
+
+    /**
+     * Records a signed certificate. The CertificateSigning.QueueWait and CertificateSigning.SignTime metrics keep the
+     * slowest signing of the aggregation period.
+     *
+     * @param queueWaitMs   time spent waiting for the CA key in milliseconds
+     * @param signingTimeMs time spent signing in milliseconds
+     */
+    public void certificateSigned(long queueWaitMs, long signingTimeMs) {
+        certificateSigningQueueWait.record(queueWaitMs);
+        certificateSigningSignTime.record(signingTimeMs);
+    }
+
+    /**
+     * Records the latency of a VerifyClientDeviceIdentity call.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void verifyDeviceIdentityLatency(long nanos) {
+        verifyClientDeviceIdentityLatency.recordNanos(nanos);
+    }
+
+    /**
+     * Records the latency of a GetClientDeviceAuthToken call.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void authTokenLatency(long nanos) {
+        getClientDeviceAuthTokenLatency.recordNanos(nanos);
+    }
+
+    /**
+     * Records the latency of an AuthorizeClientDeviceAction call.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void authorizeActionLatency(long nanos) {
+        authorizeClientDeviceActionLatency.recordNanos(nanos);
+    }
+
+    /**
+     * Records the outcome of a batch AuthorizeClientDeviceAction call. Each action counts towards the
+     * AuthorizeClientDeviceAction.Success or Failure metric, and the latency of the whole batch is recorded.
+     *
+     * @param allowed number of allowed actions
+     * @param denied  number of denied actions
+     * @param nanos   latency of the batch in nanoseconds
+     */
+    public void authorizeActionBatch(long allowed, long denied, long nanos) {
+        if (allowed != 0) {
+            authorizeClientDeviceActionSuccess.add(allowed);
+        }
+        if (denied != 0) {
+            authorizeClientDeviceActionFailure.add(denied);
+        }
+        authorizeClientDeviceActionsBatchLatency.recordNanos(nanos);
+    }
+
+    /**
+     * Records the latency of a certificate issuance, including time spent waiting for the CA key.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void certificateIssuanceLatency(long nanos) {
+        certificateIssuanceLatency.recordNanos(nanos);
+    }
+
+    /**
+     * Records the time spent in one stage of a session creation or identity verification request.
+     *
+     * @param stage stage name
+     * @param nanos time spent in the stage in nanoseconds
+     */
+    public void requestStageLatency(String stage, long nanos) {
+        registry.latency(String.format(METRIC_REQUEST_STAGE_LATENCY_FORMAT, stage)).recordNanos(nanos);
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of HdrHistogram. Each power of two range is split
+ * into {@value #SUB_BUCKET_COUNT} linear buckets, so recorded values are kept with a relative error below 1/16.
+ *
+ * <p>Every recording thread gets its own set of buckets, so recording never contends with other threads. Buckets
+ * are merged and reset when a snapshot is taken, once per metrics aggregation interval. The count and sum of all
+ * recorded latencies are kept as running totals, which are never reset.</p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Values below this are recorded exactly
+    private static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT * 2;
+    // About 12 days in microseconds, larger values are clamped
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT =
+            LINEAR_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Recorder> threadRecorder = ThreadLocal.withInitial(this::newRecorder);
+    // Running totals of recorders which were removed after their thread terminated
+    private long retiredCount;
+    private long retiredMicros;
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.min(MAX_VALUE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        threadRecorder.get().record(micros);
+    }
+
+    /**
+     * Merge the latencies recorded by all threads since the previous snapshot, and reset them.
+     *
+     * @return latencies recorded since the previous snapshot
+     */
+    public synchronized Snapshot snapshotAndReset() {
+        long[] counts = new long[BUCKET_COUNT];
+        long max = 0;
+        for (Iterator<Recorder> it = recorders.iterator(); it.hasNext(); ) {
+            Recorder recorder = it.next();
+            // Checked before draining, since a terminated thread cannot record anything after its last drain
+            boolean terminated = recorder.isTerminated();
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if (recorder.counts.get(i) != 0) {
+                    counts[i] += recorder.counts.getAndSet(i, 0);
+                }
+            }
+            max = Math.max(max, recorder.max.getAndSet(0));
+            if (terminated) {
+                retiredCount += recorder.totalCount.get();
+                retiredMicros += recorder.totalMicros.get();
+                it.remove();
+            }
+        }
+        return new Snapshot(counts, max);
+    }
+
+    /**
+     * Merge the latencies recorded by all threads since the previous snapshot, without resetting them.
+     *
+     * @param counts array of {@link #BUCKET_COUNT} bucket counts to overwrite
+     * @return largest latency in microseconds recorded since the previous snapshot
+     */
+    public synchronized long peek(long[] counts) {
+        Arrays.fill(counts, 0L);
+        long max = 0;
+        for (Recorder recorder : recorders) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += recorder.counts.get(i);
+            }
+            max = Math.max(max, recorder.max.get());
+        }
+        return max;
+    }
+
+    /**
+     * Get the number of latencies recorded since the histogram was created.
+     *
+     * @return total count
+     */
+    public synchronized long getTotalCount() {
+        long total = retiredCount;
+        for (Recorder recorder : recorders) {
+            total += recorder.totalCount.get();
+        }
+        return total;
+    }
+
+    /**
+     * Get the sum of all latencies recorded since the histogram was created.
+     *
+     * @return total latency in microseconds
+     */
+    public synchronized long getTotalMicros() {
+        long total = retiredMicros;
+        for (Recorder recorder : recorders) {
+            total += recorder.totalMicros.get();
+        }
+        return total;
+    }
+
+    private Recorder newRecorder() {
+        Recorder recorder = new Recorder(Thread.currentThread());
+        recorders.add(recorder);
+        return recorder;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < LINEAR_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - LINEAR_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long lowerBound = (long) (offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    static long valueAtPercentile(long[] counts, long count, long maxMicros, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    private static final class Recorder {
+        private final WeakReference<Thread> owner;
+        // Only the owning thread adds to these, so the atomic updates never contend
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong max = new AtomicLong();
+        // Running totals, written only by the owning thread and read when metrics are scraped
+        private final AtomicLong totalCount = new AtomicLong();
+        private final AtomicLong totalMicros = new AtomicLong();
+
+        Recorder(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        void record(long micros) {
+            counts.incrementAndGet(bucketIndex(micros));
+            totalCount.lazySet(totalCount.get() + 1);
+            totalMicros.lazySet(totalMicros.get() + micros);
+            if (micros > max.get()) {
+                max.accumulateAndGet(micros, Math::max);
+            }
+        }
+
+        boolean isTerminated() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+    }
+
+    /**
+     * Latencies recorded during one aggregation interval.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long maxMicros;
+
+        Snapshot(long[] counts, long maxMicros) {
+            this.counts = counts;
+            this.maxMicros = maxMicros;
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.count = total;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMaxMicros() {
+            return maxMicros;
+        }
+
+        /**
+         * Get the latency at a percentile, which is the upper bound of the bucket containing it.
+         *
+         * @param percentile percentile between 0 and 100
+         * @return latency in microseconds, or 0 if nothing was recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            return valueAtPercentile(counts, count, maxMicros, percentile);
+        }
+    }
+}
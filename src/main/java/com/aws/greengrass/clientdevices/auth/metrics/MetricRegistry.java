@@ -0,0 +1,379 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.telemetry.impl.Metric;
+import com.aws.greengrass.telemetry.models.TelemetryAggregation;
+import com.aws.greengrass.telemetry.models.TelemetryUnit;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of named metrics. Each metric is declared once, and collecting the registry reports every metric in
+ * registration order and resets it for the next aggregation interval.
+ *
+ * <p>Counters and maximums are striped ({@link LongAdder} and {@link LongAccumulator}), so threads updating the same
+ * metric at a high rate each update their own padded cell instead of contending on a single cache line.</p>
+ */
+public class MetricRegistry {
+    static final String LATENCY_P50_SUFFIX = ".P50";
+    static final String LATENCY_P90_SUFFIX = ".P90";
+    static final String LATENCY_P99_SUFFIX = ".P99";
+    static final String LATENCY_MAX_SUFFIX = ".Max";
+
+    private final String namespace;
+    private final Map<String, RegisteredMetric> metricsByName = new ConcurrentHashMap<>();
+    private final List<RegisteredMetric> metrics = new CopyOnWriteArrayList<>();
+
+    /**
+     * Construct a new MetricRegistry.
+     *
+     * @param namespace telemetry namespace of the metrics
+     */
+    public MetricRegistry(String namespace) {
+        this.namespace = namespace;
+    }
+
+    /**
+     * Get or register a counter, reported as a sum of the increments made during the aggregation interval.
+     *
+     * @param name metric name
+     * @return counter
+     * @throws IllegalArgumentException if a different type of metric is registered under the name
+     */
+    public Counter counter(String name) {
+        return register(name, Counter.class, Counter::new);
+    }
+
+    /**
+     * Register a counter which is maintained elsewhere as a running total. It is reported as a sum of the increase
+     * since the previous collection, like a {@link Counter}.
+     *
+     * @param name  metric name
+     * @param total supplier of the running total, must be cheap and thread safe
+     * @throws IllegalArgumentException if a metric is already registered under the name
+     */
+    public void counter(String name, LongSupplier total) {
+        SampledCounter counter = new SampledCounter(name, total);
+        if (register(name, SampledCounter.class, n -> counter) != counter) {
+            throw new IllegalArgumentException("Counter " + name + " is already registered");
+        }
+    }
+
+    /**
+     * Get or register a maximum, reported as the largest value recorded during the aggregation interval.
+     *
+     * @param name metric name
+     * @param unit unit of the recorded values
+     * @return maximum
+     * @throws IllegalArgumentException if a different type of metric is registered under the name
+     */
+    public Maximum maximum(String name, TelemetryUnit unit) {
+        return register(name, Maximum.class, n -> new Maximum(n, unit));
+    }
+
+    /**
+     * Register a gauge, which is sampled when the registry is collected.
+     *
+     * @param name  metric name
+     * @param unit  unit of the sampled value
+     * @param value supplier of the current value, must be cheap and thread safe
+     * @return gauge
+     * @throws IllegalArgumentException if a metric is already registered under the name
+     */
+    public Gauge gauge(String name, TelemetryUnit unit, LongSupplier value) {
+        Gauge gauge = new Gauge(name, unit, value);
+        if (register(name, Gauge.class, n -> gauge) != gauge) {
+            throw new IllegalArgumentException("Gauge " + name + " is already registered");
+        }
+        return gauge;
+    }
+
+    /**
+     * Get or register a latency histogram, reported as p50, p90, p99 and maximum latencies in milliseconds.
+     *
+     * @param name metric name, suffixed with the percentile when reported
+     * @return latency histogram
+     * @throws IllegalArgumentException if a different type of metric is registered under the name
+     */
+    public LatencyHistogram latency(String name) {
+        return register(name, Latency.class, Latency::new).histogram;
+    }
+
+    /**
+     * Remove a metric from the registry.
+     *
+     * @param name metric name
+     */
+    public synchronized void remove(String name) {
+        RegisteredMetric metric = metricsByName.remove(name);
+        if (metric != null) {
+            metrics.remove(metric);
+        }
+    }
+
+    /**
+     * Collect all metrics and reset them for the next aggregation interval. Counters and maximums which are zero, and
+     * latencies for which nothing was recorded, are left out.
+     *
+     * @param timestamp metric timestamp in milliseconds since the epoch
+     * @return collected metrics
+     */
+    public List<Metric> collect(long timestamp) {
+        List<Metric> collected = new ArrayList<>(metrics.size());
+        for (RegisteredMetric metric : metrics) {
+            metric.collect(this, collected, timestamp);
+        }
+        return collected;
+    }
+
+    /**
+     * Visit the current value of every metric, in registration order, without resetting anything. Counters are visited
+     * with their running total since registration, maximums with the largest value of the current aggregation interval,
+     * and gauges are sampled.
+     *
+     * @param visitor metric visitor
+     */
+    public void visit(Visitor visitor) {
+        for (RegisteredMetric metric : metrics) {
+            metric.visit(visitor);
+        }
+    }
+
+    private <T extends RegisteredMetric> T register(String name, Class<T> type, Function<String, T> factory) {
+        RegisteredMetric metric = metricsByName.get(name);
+        if (metric == null) {
+            synchronized (this) {
+                metric = metricsByName.get(name);
+                if (metric == null) {
+                    metric = factory.apply(name);
+                    metricsByName.put(name, metric);
+                    metrics.add(metric);
+                }
+            }
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException(
+                    "Metric " + name + " is already registered as a " + metric.getClass().getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    private Metric build(String name, TelemetryUnit unit, TelemetryAggregation aggregation, Object value,
+                         long timestamp) {
+        return Metric.builder()
+                .namespace(namespace)
+                .name(name)
+                .unit(unit)
+                .aggregation(aggregation)
+                .value(value)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private abstract static class RegisteredMetric {
+        @Getter
+        private final String name;
+
+        RegisteredMetric(String name) {
+            this.name = name;
+        }
+
+        abstract void collect(MetricRegistry registry, List<Metric> collected, long timestamp);
+
+        abstract void visit(Visitor visitor);
+    }
+
+    /**
+     * Receives the current value of each metric when the registry is visited.
+     */
+    public interface Visitor {
+        /**
+         * Visit a counter.
+         *
+         * @param name  metric name
+         * @param total running total since the counter was registered
+         */
+        void counter(String name, long total);
+
+        /**
+         * Visit a gauge or maximum.
+         *
+         * @param name  metric name
+         * @param unit  unit of the value
+         * @param value current value
+         */
+        void gauge(String name, TelemetryUnit unit, long value);
+
+        /**
+         * Visit a latency histogram.
+         *
+         * @param name      metric name
+         * @param histogram latency histogram, which must not be reset by the visitor
+         */
+        void latency(String name, LatencyHistogram histogram);
+    }
+
+    /**
+     * Counter, reported as a sum.
+     */
+    public static final class Counter extends RegisteredMetric {
+        private final LongAdder count = new LongAdder();
+        // Sum of all previously collected intervals, so that visitors see a running total
+        private long collectedTotal;
+
+        Counter(String name) {
+            super(name);
+        }
+
+        public void increment() {
+            count.increment();
+        }
+
+        public void add(long value) {
+            count.add(value);
+        }
+
+        @Override
+        synchronized void collect(MetricRegistry registry, List<Metric> collected, long timestamp) {
+            long value = count.sumThenReset();
+            collectedTotal += value;
+            if (value != 0L) {
+                collected.add(registry.build(getName(), TelemetryUnit.Count, TelemetryAggregation.Sum, value,
+                        timestamp));
+            }
+        }
+
+        @Override
+        synchronized void visit(Visitor visitor) {
+            visitor.counter(getName(), collectedTotal + count.sum());
+        }
+    }
+
+    private static final class SampledCounter extends RegisteredMetric {
+        private final LongSupplier total;
+        private long lastTotal;
+
+        SampledCounter(String name, LongSupplier total) {
+            super(name);
+            this.total = total;
+            this.lastTotal = total.getAsLong();
+        }
+
+        @Override
+        synchronized void collect(MetricRegistry registry, List<Metric> collected, long timestamp) {
+            long current = total.getAsLong();
+            long value = current - lastTotal;
+            lastTotal = current;
+            if (value != 0L) {
+                collected.add(registry.build(getName(), TelemetryUnit.Count, TelemetryAggregation.Sum, value,
+                        timestamp));
+            }
+        }
+
+        @Override
+        void visit(Visitor visitor) {
+            visitor.counter(getName(), total.getAsLong());
+        }
+    }
+
+    /**
+     * Largest value recorded during the aggregation interval.
+     */
+    public static final class Maximum extends RegisteredMetric {
+        private final TelemetryUnit unit;
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        Maximum(String name, TelemetryUnit unit) {
+            super(name);
+            this.unit = unit;
+        }
+
+        public void record(long value) {
+            max.accumulate(value);
+        }
+
+        @Override
+        void collect(MetricRegistry registry, List<Metric> collected, long timestamp) {
+            long value = max.getThenReset();
+            if (value != 0L) {
+                collected.add(registry.build(getName(), unit, TelemetryAggregation.Maximum, value, timestamp));
+            }
+        }
+
+        @Override
+        void visit(Visitor visitor) {
+            visitor.gauge(getName(), unit, max.get());
+        }
+    }
+
+    /**
+     * Value sampled at each collection. Zero is reported as well, since it is a meaningful sample of the state.
+     */
+    public static final class Gauge extends RegisteredMetric {
+        private final TelemetryUnit unit;
+        private final LongSupplier value;
+
+        Gauge(String name, TelemetryUnit unit, LongSupplier value) {
+            super(name);
+            this.unit = unit;
+            this.value = value;
+        }
+
+        public long sample() {
+            return value.getAsLong();
+        }
+
+        @Override
+        void collect(MetricRegistry registry, List<Metric> collected, long timestamp) {
+            collected.add(registry.build(getName(), unit, TelemetryAggregation.Average, sample(), timestamp));
+        }
+
+        @Override
+        void visit(Visitor visitor) {
+            visitor.gauge(getName(), unit, sample());
+        }
+    }
+
+    private static final class Latency extends RegisteredMetric {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        Latency(String name) {
+            super(name);
+        }
+
+        @Override
+        void collect(MetricRegistry registry, List<Metric> collected, long timestamp) {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+            if (snapshot.getCount() == 0) {
+                return;
+            }
+            collected.add(latencyMetric(registry, LATENCY_P50_SUFFIX, snapshot.getValueAtPercentile(50), timestamp));
+            collected.add(latencyMetric(registry, LATENCY_P90_SUFFIX, snapshot.getValueAtPercentile(90), timestamp));
+            collected.add(latencyMetric(registry, LATENCY_P99_SUFFIX, snapshot.getValueAtPercentile(99), timestamp));
+            collected.add(latencyMetric(registry, LATENCY_MAX_SUFFIX, snapshot.getMaxMicros(), timestamp));
+        }
+
+        private Metric latencyMetric(MetricRegistry registry, String suffix, long micros, long timestamp) {
+            return registry.build(getName() + suffix, TelemetryUnit.Milliseconds, TelemetryAggregation.Maximum,
+                    micros / 1000.0, timestamp);
+        }
+
+        @Override
+        void visit(Visitor visitor) {
+            visitor.latency(getName(), histogram);
+        }
+    }
+}
@@ -5,6 +5,8 @@
 
 package com.aws.greengrass.clientdevices.auth.metrics;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -15,17 +17,20 @@ public class MetricsEmitter {
     private final ScheduledExecutorService ses;
     private final Object emitMetricsLock = new Object();
     private final ClientDeviceAuthMetrics metrics;
+    private final DomainEvents domainEvents;
 
     /**
      * Constructor for the MetricsEmitter.
      *
-     * @param ses     {@link ScheduledExecutorService}
-     * @param metrics {@link ClientDeviceAuthMetrics}
+     * @param ses          {@link ScheduledExecutorService}
+     * @param metrics      {@link ClientDeviceAuthMetrics}
+     * @param domainEvents Domain event router, flushed so that metrics recorded asynchronously are emitted
      */
     @Inject
-    public MetricsEmitter(ScheduledExecutorService ses, ClientDeviceAuthMetrics metrics) {
+    public MetricsEmitter(ScheduledExecutorService ses, ClientDeviceAuthMetrics metrics, DomainEvents domainEvents) {
         this.ses = ses;
         this.metrics = metrics;
+        this.domainEvents = domainEvents;
     }
 
     /**
@@ -37,7 +42,7 @@ public class MetricsEmitter {
         synchronized (emitMetricsLock) {
             // Cancel previously running task
             stop();
-            future = ses.scheduleWithFixedDelay(metrics::emitMetrics, 0, periodicAggregateIntervalSec,
+            future = ses.scheduleWithFixedDelay(this::emitMetrics, 0, periodicAggregateIntervalSec,
                     TimeUnit.SECONDS);
         }
     }
@@ -52,4 +57,9 @@ public class MetricsEmitter {
             }
         }
     }
-}
\ No newline at end of file
+
+    private void emitMetrics() {
+        domainEvents.flush();
+        metrics.emitMetrics();
+    }
+}
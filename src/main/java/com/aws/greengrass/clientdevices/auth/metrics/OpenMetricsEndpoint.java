@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import javax.inject.Inject;
+
+/**
+ * Local HTTP endpoint exposing CDA metrics in the OpenMetrics text format, so that a scraper running on the device can
+ * collect them without waiting for the next telemetry aggregation. The endpoint is disabled by default and only ever
+ * listens on the loopback address.
+ */
+public class OpenMetricsEndpoint {
+    private static final Logger logger = LogManager.getLogger(OpenMetricsEndpoint.class);
+    static final String PATH = "/metrics";
+    private static final String PORT_KEY = "port";
+
+    private final OpenMetricsRenderer renderer;
+    private HttpServer server;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics {@link ClientDeviceAuthMetrics}
+     */
+    @Inject
+    public OpenMetricsEndpoint(ClientDeviceAuthMetrics metrics) {
+        this.renderer = new OpenMetricsRenderer(metrics.getRegistry());
+    }
+
+    /**
+     * Start serving metrics on a loopback port, restarting the endpoint if it is serving on a different port. Failing
+     * to bind the port is logged rather than thrown, since the endpoint is only a diagnostic aid.
+     *
+     * @param port port to listen on
+     */
+    public synchronized void start(int port) {
+        if (server != null) {
+            if (server.getAddress().getPort() == port) {
+                return;
+            }
+            stop();
+        }
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext(PATH, this::handle);
+            // Requests are served on the single dispatcher thread, which also keeps rendering single threaded
+            httpServer.setExecutor(null);
+            httpServer.start();
+            server = httpServer;
+            logger.atInfo().kv(PORT_KEY, port).log("Serving OpenMetrics endpoint");
+        } catch (IOException e) {
+            logger.atError().kv(PORT_KEY, port).cause(e).log("Unable to start OpenMetrics endpoint");
+        }
+    }
+
+    /**
+     * Stop serving metrics.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            logger.atInfo().kv(PORT_KEY, server.getAddress().getPort()).log("Stopped OpenMetrics endpoint");
+            server = null;
+        }
+    }
+
+    /**
+     * Get the port the endpoint is listening on.
+     *
+     * @return port, or 0 if the endpoint is not running
+     */
+    public synchronized int getPort() {
+        return server == null ? 0 : server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", OpenMetricsRenderer.CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            synchronized (renderer) {
+                int length = renderer.render();
+                exchange.sendResponseHeaders(200, length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(renderer.getBytes(), 0, length);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
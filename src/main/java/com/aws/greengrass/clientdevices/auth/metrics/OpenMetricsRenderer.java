@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.telemetry.models.TelemetryUnit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders a {@link MetricRegistry} in the OpenMetrics text format. Counters are exposed with their running totals,
+ * gauges and maximums with their current values, and latencies as summaries in seconds. Summary quantiles cover the
+ * current metrics aggregation interval, while their count and sum cover the lifetime of the component.
+ *
+ * <p>The text buffer, byte buffer, histogram scratch space and converted metric names are kept between renders, so
+ * a scrape of an unchanged registry allocates nothing. A renderer is not thread safe.</p>
+ */
+class OpenMetricsRenderer implements MetricRegistry.Visitor {
+    static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final String NAME_PREFIX = "cda_";
+    private static final String COUNTER_SUFFIX = "_total";
+    private static final String SECONDS_SUFFIX = "_seconds";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final String[] QUANTILE_LABELS = {"{quantile=\"0.5\"} ", "{quantile=\"0.9\"} ",
+            "{quantile=\"0.99\"} "};
+    private static final int MICROS_PER_SECOND = 1_000_000;
+
+    private final MetricRegistry registry;
+    private final Map<String, String> names = new HashMap<>();
+    private final StringBuilder text = new StringBuilder(4096);
+    private final long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+    private byte[] bytes = new byte[4096];
+
+    OpenMetricsRenderer(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Render the registry into the byte buffer.
+     *
+     * @return number of bytes rendered, which are available from {@link #getBytes()}
+     */
+    int render() {
+        text.setLength(0);
+        registry.visit(this);
+        text.append("# EOF\n");
+
+        int length = text.length();
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
+        // Metric names are converted to [a-z0-9_], so the whole text is ASCII
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) text.charAt(i);
+        }
+        return length;
+    }
+
+    /**
+     * Get the byte buffer written by {@link #render()}. It is only valid until the next render.
+     *
+     * @return byte buffer
+     */
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public void counter(String name, long total) {
+        String metricName = metricName(name);
+        type(metricName, "counter");
+        text.append(metricName).append(COUNTER_SUFFIX).append(' ').append(total).append('\n');
+    }
+
+    @Override
+    public void gauge(String name, TelemetryUnit unit, long value) {
+        String metricName = metricName(name);
+        type(metricName, "gauge");
+        text.append(metricName).append(' ').append(value).append('\n');
+    }
+
+    @Override
+    public void latency(String name, LatencyHistogram histogram) {
+        String metricName = names.computeIfAbsent(name, n -> toMetricName(n) + SECONDS_SUFFIX);
+        type(metricName, "summary");
+
+        long maxMicros = histogram.peek(counts);
+        long count = 0;
+        for (long c : counts) {
+            count += c;
+        }
+        if (count != 0) {
+            for (int i = 0; i < QUANTILES.length; i++) {
+                text.append(metricName).append(QUANTILE_LABELS[i]);
+                appendSeconds(LatencyHistogram.valueAtPercentile(counts, count, maxMicros, QUANTILES[i] * 100));
+                text.append('\n');
+            }
+        }
+        text.append(metricName).append("_count ").append(histogram.getTotalCount()).append('\n');
+        text.append(metricName).append("_sum ");
+        appendSeconds(histogram.getTotalMicros());
+        text.append('\n');
+    }
+
+    private void type(String metricName, String type) {
+        text.append("# TYPE ").append(metricName).append(' ').append(type).append('\n');
+    }
+
+    private void appendSeconds(long micros) {
+        text.append(micros / MICROS_PER_SECOND).append('.');
+        long fraction = micros % MICROS_PER_SECOND;
+        for (long digit = MICROS_PER_SECOND / 10; digit > fraction && digit > 1; digit /= 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+
+    private String metricName(String name) {
+        return names.computeIfAbsent(name, OpenMetricsRenderer::toMetricName);
+    }
+
+    /**
+     * Convert a CDA metric name such as {@code CISShadowMonitor.MonitoredCertificates} to an OpenMetrics name such as
+     * {@code cda_cis_shadow_monitor_monitored_certificates}.
+     *
+     * @param name CDA metric name
+     * @return OpenMetrics metric name
+     */
+    static String toMetricName(String name) {
+        StringBuilder converted = new StringBuilder(NAME_PREFIX.length() + name.length() * 2).append(NAME_PREFIX);
+        char previous = '_';
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isUpper(c)) {
+                boolean wordStart = isLower(previous) || isDigit(previous)
+                        || isUpper(previous) && i + 1 < name.length() && isLower(name.charAt(i + 1));
+                if (wordStart) {
+                    converted.append('_');
+                }
+                converted.append((char) (c - 'A' + 'a'));
+            } else if (isLower(c) || isDigit(c)) {
+                converted.append(c);
+            } else if (converted.charAt(converted.length() - 1) != '_') {
+                converted.append('_');
+            }
+            previous = c;
+        }
+        if (converted.charAt(converted.length() - 1) == '_') {
+            converted.setLength(converted.length() - 1);
+        }
+        return converted.toString();
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
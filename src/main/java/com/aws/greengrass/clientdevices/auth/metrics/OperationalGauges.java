@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateExpiryMonitor;
+import com.aws.greengrass.clientdevices.auth.connectivity.CISShadowMonitor;
+import com.aws.greengrass.clientdevices.auth.session.SessionManager;
+import com.aws.greengrass.telemetry.models.TelemetryUnit;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.LongSupplier;
+import javax.inject.Inject;
+
+/**
+ * Gauges describing the runtime state of CDA: cloud request queueing, open sessions and monitored certificates. They
+ * are sampled each time metrics are emitted and published alongside the other CDA metrics.
+ */
+public class OperationalGauges {
+    static final String METRIC_CLOUD_REQUEST_QUEUE_DEPTH = "CloudRequestQueue.Depth";
+    static final String METRIC_CLOUD_REQUEST_QUEUE_REJECTED = "CloudRequestQueue.Rejected";
+    static final String METRIC_CLOUD_REQUEST_ACTIVE_THREADS = "CloudRequestThreadPool.ActiveThreads";
+    static final String METRIC_SESSION_ACTIVE = "Session.Active";
+    static final String METRIC_SESSION_EVICTED = "Session.Evicted";
+    static final String METRIC_EXPIRY_MONITORED_CERTIFICATES = "CertificateExpiryMonitor.MonitoredCertificates";
+    static final String METRIC_CONNECTIVITY_MONITORED_CERTIFICATES = "CISShadowMonitor.MonitoredCertificates";
+
+    private final MetricRegistry registry;
+    private final SessionManager sessionManager;
+    private final CertificateExpiryMonitor certificateExpiryMonitor;
+    private final CISShadowMonitor cisShadowMonitor;
+
+    /**
+     * Constructor.
+     *
+     * @param metrics                  {@link ClientDeviceAuthMetrics}
+     * @param sessionManager           Session manager
+     * @param certificateExpiryMonitor Certificate expiry monitor
+     * @param cisShadowMonitor         CIS shadow monitor
+     */
+    @Inject
+    public OperationalGauges(ClientDeviceAuthMetrics metrics, SessionManager sessionManager,
+                             CertificateExpiryMonitor certificateExpiryMonitor, CISShadowMonitor cisShadowMonitor) {
+        this.registry = metrics.getRegistry();
+        this.sessionManager = sessionManager;
+        this.certificateExpiryMonitor = certificateExpiryMonitor;
+        this.cisShadowMonitor = cisShadowMonitor;
+    }
+
+    /**
+     * Register the session and certificate monitor gauges.
+     */
+    public void register() {
+        replaceGauge(METRIC_SESSION_ACTIVE, TelemetryUnit.Count, sessionManager::getSessionCount);
+        registry.remove(METRIC_SESSION_EVICTED);
+        registry.counter(METRIC_SESSION_EVICTED, sessionManager::getEvictedSessionCount);
+        replaceGauge(METRIC_EXPIRY_MONITORED_CERTIFICATES, TelemetryUnit.Count,
+                certificateExpiryMonitor::getMonitoredCertificateGeneratorCount);
+        replaceGauge(METRIC_CONNECTIVITY_MONITORED_CERTIFICATES, TelemetryUnit.Count,
+                cisShadowMonitor::getMonitoredCertificateGeneratorCount);
+    }
+
+    /**
+     * Register gauges for the thread pool making cloud requests, and count the requests it rejects.
+     *
+     * @param cloudCallThreadPool thread pool making cloud requests
+     */
+    public void registerCloudCallThreadPool(ThreadPoolExecutor cloudCallThreadPool) {
+        replaceGauge(METRIC_CLOUD_REQUEST_QUEUE_DEPTH, TelemetryUnit.Count,
+                () -> cloudCallThreadPool.getQueue().size());
+        replaceGauge(METRIC_CLOUD_REQUEST_ACTIVE_THREADS, TelemetryUnit.Count, cloudCallThreadPool::getActiveCount);
+
+        MetricRegistry.Counter rejected = registry.counter(METRIC_CLOUD_REQUEST_QUEUE_REJECTED);
+        RejectedExecutionHandler rejectionHandler = cloudCallThreadPool.getRejectedExecutionHandler();
+        cloudCallThreadPool.setRejectedExecutionHandler((r, executor) -> {
+            rejected.increment();
+            rejectionHandler.rejectedExecution(r, executor);
+        });
+    }
+
+    private void replaceGauge(String name, TelemetryUnit unit, LongSupplier value) {
+        registry.remove(name);
+        registry.gauge(name, unit, value);
+    }
+}
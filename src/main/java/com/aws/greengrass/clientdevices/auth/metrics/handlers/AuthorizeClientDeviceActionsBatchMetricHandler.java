@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.AuthorizeClientDeviceActionsBatchEvent;
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class AuthorizeClientDeviceActionsBatchMetricHandler
+        implements Consumer<AuthorizeClientDeviceActionsBatchEvent> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Create metric handler for batches of the Authorize Client Device Actions API.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      Client Device Auth metrics
+     */
+    @Inject
+    public AuthorizeClientDeviceActionsBatchMetricHandler(DomainEvents domainEvents,
+                                                          ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric events.
+     */
+    public void listen() {
+        domainEvents.registerAsyncListener(this, AuthorizeClientDeviceActionsBatchEvent.class);
+    }
+
+    @Override
+    public void accept(AuthorizeClientDeviceActionsBatchEvent event) {
+        metrics.authorizeActionBatch(event.getAllowedCount(), event.getDeniedCount(), event.getLatencyNanos());
+    }
+}
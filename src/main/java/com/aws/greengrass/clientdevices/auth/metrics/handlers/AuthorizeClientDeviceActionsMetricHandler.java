@@ -32,7 +32,7 @@ public class AuthorizeClientDeviceActionsMetricHandler implements Consumer<Autho
      * Listen for metric events.
      */
     public void listen() {
-        domainEvents.registerListener(this, AuthorizeClientDeviceActionEvent.class);
+        domainEvents.registerAsyncListener(this, AuthorizeClientDeviceActionEvent.class);
     }
 
     @Override
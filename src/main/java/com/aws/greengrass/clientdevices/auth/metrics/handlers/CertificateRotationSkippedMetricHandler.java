@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateRotationSkipped;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class CertificateRotationSkippedMetricHandler implements Consumer<CertificateRotationSkipped> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Create handler for skipped certificate rotation metric events.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      {@link ClientDeviceAuthMetrics}
+     */
+    @Inject
+    public CertificateRotationSkippedMetricHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric events.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, CertificateRotationSkipped.class);
+    }
+
+    @Override
+    public void accept(CertificateRotationSkipped event) {
+        metrics.certificateRotationSkipped(event.getCertificateCount());
+    }
+}
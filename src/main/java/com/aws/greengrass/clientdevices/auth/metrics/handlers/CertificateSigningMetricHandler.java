@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateSigned;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class CertificateSigningMetricHandler implements Consumer<CertificateSigned> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Create handler for certificate signing metric events.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      {@link ClientDeviceAuthMetrics}
+     */
+    @Inject
+    public CertificateSigningMetricHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric events.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, CertificateSigned.class);
+    }
+
+    @Override
+    public void accept(CertificateSigned event) {
+        metrics.certificateSigned(event.getQueueWait().toMillis(), event.getSigningTime().toMillis());
+        metrics.certificateIssuanceLatency(event.getQueueWait().plus(event.getSigningTime()).toNanos());
+    }
+}
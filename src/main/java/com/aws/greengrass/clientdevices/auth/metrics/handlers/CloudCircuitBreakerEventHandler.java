@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.iot.events.CloudCircuitBreakerEvent;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class CloudCircuitBreakerEventHandler implements Consumer<CloudCircuitBreakerEvent> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Create handler for cloud circuit breaker metric events.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      {@link ClientDeviceAuthMetrics}
+     */
+    @Inject
+    public CloudCircuitBreakerEventHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric events.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, CloudCircuitBreakerEvent.class);
+    }
+
+    @Override
+    public void accept(CloudCircuitBreakerEvent event) {
+        switch (event.getStatus()) {
+            case OPENED:
+                metrics.cloudCircuitBreakerOpened();
+                break;
+            case HALF_OPENED:
+                metrics.cloudCircuitBreakerHalfOpened();
+                break;
+            case CLOSED:
+                metrics.cloudCircuitBreakerClosed();
+                break;
+            case SHORT_CIRCUITED:
+                metrics.cloudCircuitBreakerShortCircuited();
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.KeyPairPoolEvent;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class KeyPairPoolEventHandler implements Consumer<KeyPairPoolEvent> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Create handler for key pair pool metric events.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      {@link ClientDeviceAuthMetrics}
+     */
+    @Inject
+    public KeyPairPoolEventHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric events.
+     */
+    public void listen() {
+        domainEvents.registerListener(this, KeyPairPoolEvent.class);
+    }
+
+    @Override
+    public void accept(KeyPairPoolEvent event) {
+        if (event.getResult() == KeyPairPoolEvent.Result.HIT) {
+            metrics.keyPairPoolHit();
+        } else if (event.getResult() == KeyPairPoolEvent.Result.MISS) {
+            metrics.keyPairPoolMiss();
+        }
+    }
+}
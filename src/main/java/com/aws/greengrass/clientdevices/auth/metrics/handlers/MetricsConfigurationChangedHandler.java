@@ -6,8 +6,10 @@
 package com.aws.greengrass.clientdevices.auth.metrics.handlers;
 
 import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.configuration.MetricsConfiguration;
 import com.aws.greengrass.clientdevices.auth.configuration.events.MetricsConfigurationChanged;
 import com.aws.greengrass.clientdevices.auth.metrics.MetricsEmitter;
+import com.aws.greengrass.clientdevices.auth.metrics.OpenMetricsEndpoint;
 
 import java.util.function.Consumer;
 import javax.inject.Inject;
@@ -15,17 +17,21 @@ import javax.inject.Inject;
 public class MetricsConfigurationChangedHandler implements Consumer<MetricsConfigurationChanged> {
     private final DomainEvents domainEvents;
     private final MetricsEmitter metricsEmitter;
+    private final OpenMetricsEndpoint openMetricsEndpoint;
 
     /**
      * Constructor for Metrics Configuration Changed Handler.
      *
-     * @param domainEvents   Domain event router
-     * @param metricsEmitter Metrics emitter
+     * @param domainEvents        Domain event router
+     * @param metricsEmitter      Metrics emitter
+     * @param openMetricsEndpoint Local OpenMetrics endpoint
      */
     @Inject
-    public MetricsConfigurationChangedHandler(DomainEvents domainEvents, MetricsEmitter metricsEmitter) {
+    public MetricsConfigurationChangedHandler(DomainEvents domainEvents, MetricsEmitter metricsEmitter,
+                                              OpenMetricsEndpoint openMetricsEndpoint) {
         this.domainEvents = domainEvents;
         this.metricsEmitter = metricsEmitter;
+        this.openMetricsEndpoint = openMetricsEndpoint;
     }
 
     /**
@@ -36,16 +42,25 @@ public class MetricsConfigurationChangedHandler implements Consumer<MetricsConfi
     }
 
     /**
-     * Restart the Metrics Emitter to apply new configuration, or stop if metrics have been disabled.
+     * Restart the Metrics Emitter and OpenMetrics endpoint to apply new configuration, or stop them if metrics have
+     * been disabled. The OpenMetrics endpoint only runs when a port is configured.
      *
      * @param event Metric configuration changed event
      */
     @Override
     public void accept(MetricsConfigurationChanged event) {
-        if (event.getConfiguration().isDisableMetrics()) {
+        MetricsConfiguration configuration = event.getConfiguration();
+        if (configuration.isDisableMetrics()) {
             metricsEmitter.stop();
         } else {
-            metricsEmitter.start(event.getConfiguration().getAggregatePeriod());
+            metricsEmitter.start(configuration.getAggregatePeriod());
+        }
+
+        if (configuration.isDisableMetrics()
+                || configuration.getOpenMetricsPort() == MetricsConfiguration.OPEN_METRICS_DISABLED) {
+            openMetricsEndpoint.stop();
+        } else {
+            openMetricsEndpoint.start(configuration.getOpenMetricsPort());
         }
     }
 }
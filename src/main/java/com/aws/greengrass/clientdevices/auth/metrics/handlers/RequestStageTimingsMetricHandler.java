@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+import com.aws.greengrass.clientdevices.auth.session.events.RequestStageTimingsEvent;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class RequestStageTimingsMetricHandler implements Consumer<RequestStageTimingsEvent> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Create handler for request stage timing events.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      {@link ClientDeviceAuthMetrics}
+     */
+    @Inject
+    public RequestStageTimingsMetricHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric events.
+     */
+    public void listen() {
+        domainEvents.registerAsyncListener(this, RequestStageTimingsEvent.class);
+    }
+
+    @Override
+    public void accept(RequestStageTimingsEvent event) {
+        event.getStageNanos().forEach((stage, nanos) -> metrics.requestStageLatency(stage.getMetricName(), nanos));
+    }
+}
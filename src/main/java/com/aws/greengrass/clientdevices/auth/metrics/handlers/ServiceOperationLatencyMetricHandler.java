@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.handlers;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.api.ServiceOperationLatencyEvent;
+import com.aws.greengrass.clientdevices.auth.metrics.ClientDeviceAuthMetrics;
+
+import java.util.function.Consumer;
+import javax.inject.Inject;
+
+public class ServiceOperationLatencyMetricHandler implements Consumer<ServiceOperationLatencyEvent> {
+    private final DomainEvents domainEvents;
+    private final ClientDeviceAuthMetrics metrics;
+
+    /**
+     * Create handler for service operation latency metric events.
+     *
+     * @param domainEvents Domain event router
+     * @param metrics      {@link ClientDeviceAuthMetrics}
+     */
+    @Inject
+    public ServiceOperationLatencyMetricHandler(DomainEvents domainEvents, ClientDeviceAuthMetrics metrics) {
+        this.domainEvents = domainEvents;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Listen for metric events.
+     */
+    public void listen() {
+        domainEvents.registerAsyncListener(this, ServiceOperationLatencyEvent.class);
+    }
+
+    @Override
+    public void accept(ServiceOperationLatencyEvent event) {
+        switch (event.getOperation()) {
+            case VERIFY_CLIENT_DEVICE_IDENTITY:
+                metrics.verifyDeviceIdentityLatency(event.getLatencyNanos());
+                break;
+            case GET_CLIENT_DEVICE_AUTH_TOKEN:
+                metrics.authTokenLatency(event.getLatencyNanos());
+                break;
+            case AUTHORIZE_CLIENT_DEVICE_ACTION:
+                metrics.authorizeActionLatency(event.getLatencyNanos());
+                break;
+            default:
+                break;
+        }
+    }
+}
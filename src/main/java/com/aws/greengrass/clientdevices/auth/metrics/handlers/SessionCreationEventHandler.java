@@ -32,7 +32,7 @@ public class SessionCreationEventHandler implements Consumer<SessionCreationEven
      * Listen for metric updates.
      */
     public void listen() {
-        domainEvents.registerListener(this, SessionCreationEvent.class);
+        domainEvents.registerAsyncListener(this, SessionCreationEvent.class);
     }
 
     @Override
@@ -32,7 +32,7 @@ public class VerifyClientDeviceIdentityEventHandler implements Consumer<VerifyCl
      * Listen for metric events.
      */
     public void listen() {
-        domainEvents.registerListener(this, VerifyClientDeviceIdentityEvent.class);
+        domainEvents.registerAsyncListener(this, VerifyClientDeviceIdentityEvent.class);
     }
 
     @Override
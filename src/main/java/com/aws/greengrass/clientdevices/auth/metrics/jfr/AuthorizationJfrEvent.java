@@ -0,0 +1,32 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("aws.greengrass.clientdevices.auth.Authorization")
+@Label("Client Device Authorization")
+@Description("Authorization of a client device action")
+@Category({"AWS IoT Greengrass", "Client Device Auth"})
+@StackTrace(false)
+class AuthorizationJfrEvent extends Event {
+    @Label("Session ID")
+    String sessionId;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Decision")
+    String decision;
+}
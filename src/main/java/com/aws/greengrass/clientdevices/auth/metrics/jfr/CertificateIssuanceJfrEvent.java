@@ -0,0 +1,29 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("aws.greengrass.clientdevices.auth.CertificateIssuance")
+@Label("Certificate Issuance")
+@Description("Issuance of a server or client certificate signed by the Greengrass CA")
+@Category({"AWS IoT Greengrass", "Client Device Auth"})
+@StackTrace(false)
+class CertificateIssuanceJfrEvent extends Event {
+    @Label("Subject")
+    String subject;
+
+    @Label("Provider Type")
+    String providerType;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("aws.greengrass.clientdevices.auth.CloudCall")
+@Label("Client Device Auth Cloud Call")
+@Description("Call to AWS IoT Greengrass to verify a client device")
+@Category({"AWS IoT Greengrass", "Client Device Auth"})
+@StackTrace(false)
+class CloudCallJfrEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.jfr;
+
+/**
+ * Java Flight Recorder events for the authentication and authorization hot paths, so that CDA latency can be
+ * correlated with GC pauses and lock contention in a single recording.
+ *
+ * <p>Each operation begins an event, which is then ended with the outcome of the operation. Beginning returns null
+ * unless a recording has the event enabled, and ending a null event does nothing, so there is no cost beyond a
+ * check of the event settings when nothing is recorded. On JVMs without the JFR API the events are never created.</p>
+ */
+public final class FlightRecorderEvents {
+    public static final String DECISION_ALLOW = "ALLOW";
+    public static final String DECISION_DENY = "DENY";
+    public static final String DECISION_ERROR = "ERROR";
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Begin an authorization event.
+     *
+     * @return event to end, or null if not recorded
+     */
+    public static Object beginAuthorization() {
+        return AVAILABLE ? JfrEvents.beginAuthorization() : null;
+    }
+
+    /**
+     * End an authorization event.
+     *
+     * @param event     event returned by {@link #beginAuthorization()}
+     * @param sessionId session ID
+     * @param operation authorized operation
+     * @param resource  authorized resource
+     * @param decision  {@link #DECISION_ALLOW}, {@link #DECISION_DENY} or {@link #DECISION_ERROR}
+     */
+    public static void endAuthorization(Object event, String sessionId, String operation, String resource,
+                                        String decision) {
+        if (event != null) {
+            JfrEvents.commitAuthorization(event, sessionId, operation, resource, decision);
+        }
+    }
+
+    /**
+     * Begin a session creation event.
+     *
+     * @return event to end, or null if not recorded
+     */
+    public static Object beginSessionCreation() {
+        return AVAILABLE ? JfrEvents.beginSessionCreation() : null;
+    }
+
+    /**
+     * End a session creation event.
+     *
+     * @param event          event returned by {@link #beginSessionCreation()}
+     * @param credentialType credential type
+     * @param sessionId      ID of the created session, or null if the session wasn't created
+     */
+    public static void endSessionCreation(Object event, String credentialType, String sessionId) {
+        if (event != null) {
+            JfrEvents.commitSessionCreation(event, credentialType, sessionId);
+        }
+    }
+
+    /**
+     * Begin a cloud call event.
+     *
+     * @return event to end, or null if not recorded
+     */
+    public static Object beginCloudCall() {
+        return AVAILABLE ? JfrEvents.beginCloudCall() : null;
+    }
+
+    /**
+     * End a cloud call event.
+     *
+     * @param event     event returned by {@link #beginCloudCall()}
+     * @param operation cloud API operation
+     * @param succeeded true if the cloud answered the call
+     */
+    public static void endCloudCall(Object event, String operation, boolean succeeded) {
+        if (event != null) {
+            JfrEvents.commitCloudCall(event, operation, succeeded);
+        }
+    }
+
+    /**
+     * Begin a certificate issuance event.
+     *
+     * @return event to end, or null if not recorded
+     */
+    public static Object beginCertificateIssuance() {
+        return AVAILABLE ? JfrEvents.beginCertificateIssuance() : null;
+    }
+
+    /**
+     * End a certificate issuance event.
+     *
+     * @param event        event returned by {@link #beginCertificateIssuance()}
+     * @param subject      certificate subject, only formatted if the event is committed
+     * @param providerType signing key provider type
+     * @param succeeded    true if the certificate was issued
+     */
+    public static void endCertificateIssuance(Object event, Object subject, Enum<?> providerType,
+                                              boolean succeeded) {
+        if (event != null) {
+            JfrEvents.commitCertificateIssuance(event, subject, providerType, succeeded);
+        }
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * Creates and commits the CDA flight recorder events. This is the only class, besides the events themselves, which
+ * refers to the JFR API, and it is only loaded once {@link FlightRecorderEvents} found that the API is available.
+ */
+final class JfrEvents {
+    private static final EventType AUTHORIZATION = EventType.getEventType(AuthorizationJfrEvent.class);
+    private static final EventType SESSION_CREATION = EventType.getEventType(SessionCreationJfrEvent.class);
+    private static final EventType CLOUD_CALL = EventType.getEventType(CloudCallJfrEvent.class);
+    private static final EventType CERTIFICATE_ISSUANCE = EventType.getEventType(CertificateIssuanceJfrEvent.class);
+
+    private JfrEvents() {
+    }
+
+    static Object beginAuthorization() {
+        return AUTHORIZATION.isEnabled() ? begin(new AuthorizationJfrEvent()) : null;
+    }
+
+    static void commitAuthorization(Object event, String sessionId, String operation, String resource,
+                                    String decision) {
+        AuthorizationJfrEvent e = (AuthorizationJfrEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.sessionId = sessionId;
+            e.operation = operation;
+            e.resource = resource;
+            e.decision = decision;
+            e.commit();
+        }
+    }
+
+    static Object beginSessionCreation() {
+        return SESSION_CREATION.isEnabled() ? begin(new SessionCreationJfrEvent()) : null;
+    }
+
+    static void commitSessionCreation(Object event, String credentialType, String sessionId) {
+        SessionCreationJfrEvent e = (SessionCreationJfrEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.credentialType = credentialType;
+            e.sessionId = sessionId;
+            e.succeeded = sessionId != null;
+            e.commit();
+        }
+    }
+
+    static Object beginCloudCall() {
+        return CLOUD_CALL.isEnabled() ? begin(new CloudCallJfrEvent()) : null;
+    }
+
+    static void commitCloudCall(Object event, String operation, boolean succeeded) {
+        CloudCallJfrEvent e = (CloudCallJfrEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.operation = operation;
+            e.succeeded = succeeded;
+            e.commit();
+        }
+    }
+
+    static Object beginCertificateIssuance() {
+        return CERTIFICATE_ISSUANCE.isEnabled() ? begin(new CertificateIssuanceJfrEvent()) : null;
+    }
+
+    static void commitCertificateIssuance(Object event, Object subject, Enum<?> providerType, boolean succeeded) {
+        CertificateIssuanceJfrEvent e = (CertificateIssuanceJfrEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.subject = String.valueOf(subject);
+            e.providerType = providerType.name();
+            e.succeeded = succeeded;
+            e.commit();
+        }
+    }
+
+    private static Event begin(Event event) {
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("aws.greengrass.clientdevices.auth.SessionCreation")
+@Label("Client Device Session Creation")
+@Description("Authentication of a client device and creation of its session")
+@Category({"AWS IoT Greengrass", "Client Device Auth"})
+@StackTrace(false)
+class SessionCreationJfrEvent extends Event {
+    @Label("Credential Type")
+    String credentialType;
+
+    @Label("Session ID")
+    String sessionId;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
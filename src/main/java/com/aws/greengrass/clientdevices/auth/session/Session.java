@@ -8,6 +8,8 @@ package com.aws.greengrass.clientdevices.auth.session;
 import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider;
 import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
 
+import java.util.function.Function;
+
 public interface Session {
 
     /**
@@ -26,4 +28,29 @@ public interface Session {
      * @return Session attribute
      */
     DeviceAttribute getSessionAttribute(String attributeNamespace, String attributeName);
+
+    /**
+     * Record that the client device of this session was active. Activity only needs to be reported once in a while,
+     * so that requests on a busy session don't each report it.
+     *
+     * @param intervalNanos minimum time between two reports, in nanoseconds
+     * @return true if activity wasn't reported within the interval, and should be reported now
+     */
+    default boolean recordActivity(long intervalNanos) {
+        return true;
+    }
+
+    /**
+     * Get a value derived from this session, such as its permissions under a group configuration. The value is kept
+     * with the session until a value is requested for another key, so that requests on the session don't derive it
+     * again.
+     *
+     * @param key      what the value is derived from, compared by identity
+     * @param function derives the value from this session
+     * @param <T>      value type
+     * @return derived value
+     */
+    default <T> T getDerivedValue(Object key, Function<Session, T> function) {
+        return function.apply(this);
+    }
 }
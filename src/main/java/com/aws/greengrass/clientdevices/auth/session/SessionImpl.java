@@ -9,10 +9,17 @@ import com.aws.greengrass.clientdevices.auth.session.attribute.AttributeProvider
 import com.aws.greengrass.clientdevices.auth.session.attribute.DeviceAttribute;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 public class SessionImpl extends ConcurrentHashMap<String, AttributeProvider> implements Session {
 
     static final long serialVersionUID = -1L;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    // System.nanoTime() when activity was last reported
+    private final AtomicLong activityReportedAt = new AtomicLong(NEVER);
+    private transient volatile DerivedValue derivedValue;
 
     /**
      * Create a Session from a list of attribute providers.
@@ -45,4 +52,37 @@ public class SessionImpl extends ConcurrentHashMap<String, AttributeProvider> im
         }
         return null;
     }
+
+    @Override
+    public boolean recordActivity(long intervalNanos) {
+        long now = System.nanoTime();
+        long reportedAt = activityReportedAt.get();
+        if (reportedAt != NEVER && now - reportedAt < intervalNanos) {
+            return false;
+        }
+        // Only one of concurrent requests reports the activity
+        return activityReportedAt.compareAndSet(reportedAt, now);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getDerivedValue(Object key, Function<Session, T> function) {
+        DerivedValue derived = derivedValue;
+        if (derived == null || derived.key != key) {
+            // Concurrent requests may both derive the value, which is harmless as it only depends on the key
+            derived = new DerivedValue(key, function.apply(this));
+            derivedValue = derived;
+        }
+        return (T) derived.value;
+    }
+
+    private static final class DerivedValue {
+        private final Object key;
+        private final Object value;
+
+        DerivedValue(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
 }
@@ -7,6 +7,7 @@ package com.aws.greengrass.clientdevices.auth.session;
 
 import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
+import com.aws.greengrass.clientdevices.auth.metrics.jfr.FlightRecorderEvents;
 import com.aws.greengrass.clientdevices.auth.session.events.SessionCreationEvent;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
@@ -17,6 +18,8 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import javax.inject.Inject;
 
 /**
  * Singleton class for managing AuthN and AuthZ sessions.
@@ -24,7 +27,8 @@ import java.util.UUID;
 public class SessionManager {
     private static final Logger logger = LogManager.getLogger(SessionManager.class);
     private static final String SESSION_ID = "SessionId";
-    private final DomainEvents domainEvents = new DomainEvents();
+    private final DomainEvents domainEvents;
+    private final LongAdder evictedSessions = new LongAdder();
 
     // Thread-safe LRU Session Cache that evicts the eldest entry (based on access order) upon reaching its size.
     // TODO: Support time-based cache eviction (Session timeout) and Session deduping.
@@ -37,6 +41,7 @@ public class SessionManager {
                     if (size() > getSessionCapacity()) {
                         logger.atTrace().kv(SESSION_ID, eldest.getKey())
                                 .log("Session Cache reached its capacity. Closing session.");
+                        evictedSessions.increment();
                         return true;
                     }
                     return false;
@@ -45,6 +50,16 @@ public class SessionManager {
 
     private SessionConfig sessionConfig;
 
+    /**
+     * Constructor.
+     *
+     * @param domainEvents Domain event router
+     */
+    @Inject
+    public SessionManager(DomainEvents domainEvents) {
+        this.domainEvents = domainEvents;
+    }
+
     /**
      * Looks up a session by id.
      *
@@ -65,9 +80,12 @@ public class SessionManager {
      */
     public String createSession(String credentialType, Map<String, String> credentialMap)
             throws AuthenticationException {
+        StageTimer timer = StageTimer.start("createSession");
+        Object jfrEvent = FlightRecorderEvents.beginSessionCreation();
+        String createdSession = null;
         try {
             Session session = SessionCreator.createSession(credentialType, credentialMap);
-            String createdSession = addSessionInternal(session);
+            createdSession = addSessionInternal(session);
             domainEvents.emit(new SessionCreationEvent(SessionCreationEvent
                     .SessionCreationStatus.SUCCESS));
             return createdSession;
@@ -75,6 +93,9 @@ public class SessionManager {
             domainEvents.emit(new SessionCreationEvent(SessionCreationEvent
                     .SessionCreationStatus.FAILURE));
             throw e;
+        } finally {
+            timer.stop(domainEvents);
+            FlightRecorderEvents.endSessionCreation(jfrEvent, credentialType, createdSession);
         }
     }
 
@@ -88,6 +109,24 @@ public class SessionManager {
         closeSessionInternal(sessionId);
     }
 
+    /**
+     * Get the number of open sessions.
+     *
+     * @return number of sessions
+     */
+    public int getSessionCount() {
+        return sessionMap.size();
+    }
+
+    /**
+     * Get the number of sessions closed because the session cache reached its capacity, since startup.
+     *
+     * @return number of evicted sessions
+     */
+    public long getEvictedSessionCount() {
+        return evictedSessions.sum();
+    }
+
     /**
      * Session configuration setter.
      *
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.session.events.RequestStageTimingsEvent;
+import com.aws.greengrass.logging.api.Logger;
+import com.aws.greengrass.logging.impl.LogManager;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Times the stages of a session creation or client device identity verification request. The timer is bound to the
+ * calling thread while the request runs, so that stages deep in the pipeline can be timed without passing the timer
+ * through every call. Stages which run outside of a timed request are not measured.
+ */
+public final class StageTimer {
+    private static final Logger logger = LogManager.getLogger(StageTimer.class);
+    static final Duration SLOW_REQUEST_THRESHOLD = Duration.ofSeconds(1);
+    // Slow requests are sampled, so that a slow cloud doesn't flood the log
+    private static final long SLOW_REQUEST_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final Stage[] STAGES = Stage.values();
+    private static final ThreadLocal<StageTimer> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong lastSlowRequestLogNanos =
+            new AtomicLong(System.nanoTime() - SLOW_REQUEST_LOG_INTERVAL_NANOS);
+    private static final AtomicLong unloggedSlowRequests = new AtomicLong();
+
+    private final String request;
+    private final long startNanos = System.nanoTime();
+    private final long[] stageNanos = new long[STAGES.length];
+    private final boolean bound;
+
+    public enum Stage {
+        PEM_PARSING("PemParsing"),
+        COMPONENT_CHECK("ComponentCheck"),
+        CERTIFICATE_REGISTRY("CertificateRegistry"),
+        CLOUD_CERTIFICATE_VERIFICATION("CloudCertificateVerification"),
+        THING_ATTACHMENT_CHECK("ThingAttachmentCheck"),
+        REGISTRY_WRITE("RegistryWrite");
+
+        @Getter
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private StageTimer(String request, boolean bound) {
+        this.request = request;
+        this.bound = bound;
+    }
+
+    /**
+     * Start timing a request on the calling thread. A request started while another one is timed on the same thread
+     * is treated as part of the outer request.
+     *
+     * @param request request name, used for logging
+     * @return timer to stop once the request completes
+     */
+    public static StageTimer start(String request) {
+        if (CURRENT.get() != null) {
+            return new StageTimer(request, false);
+        }
+        StageTimer timer = new StageTimer(request, true);
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    /**
+     * Get the start time of a stage, to pass to {@link #endStage}.
+     *
+     * @return stage start time, or 0 if no request is timed on the calling thread
+     */
+    public static long startStage() {
+        return CURRENT.get() == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Add the time elapsed since a stage started to the request timed on the calling thread.
+     *
+     * @param stage           stage
+     * @param stageStartNanos value returned by {@link #startStage}
+     */
+    public static void endStage(Stage stage, long stageStartNanos) {
+        StageTimer timer = CURRENT.get();
+        if (timer != null && stageStartNanos != 0L) {
+            timer.stageNanos[stage.ordinal()] += System.nanoTime() - stageStartNanos;
+        }
+    }
+
+    /**
+     * Stop timing the request and report its stage timings. Slow requests are logged with their stage breakdown.
+     *
+     * @param domainEvents Domain event router
+     */
+    public void stop(DomainEvents domainEvents) {
+        if (!bound) {
+            return;
+        }
+        CURRENT.remove();
+        long totalNanos = System.nanoTime() - startNanos;
+        Map<Stage, Long> stages = new EnumMap<>(Stage.class);
+        for (Stage stage : STAGES) {
+            if (stageNanos[stage.ordinal()] > 0) {
+                stages.put(stage, stageNanos[stage.ordinal()]);
+            }
+        }
+        stages = Collections.unmodifiableMap(stages);
+        domainEvents.emit(new RequestStageTimingsEvent(request, totalNanos, stages));
+
+        if (totalNanos >= SLOW_REQUEST_THRESHOLD.toNanos()) {
+            logSlowRequest(totalNanos, stages);
+        }
+    }
+
+    private void logSlowRequest(long totalNanos, Map<Stage, Long> stages) {
+        long now = System.nanoTime();
+        long last = lastSlowRequestLogNanos.get();
+        if (now - last < SLOW_REQUEST_LOG_INTERVAL_NANOS || !lastSlowRequestLogNanos.compareAndSet(last, now)) {
+            unloggedSlowRequests.incrementAndGet();
+            return;
+        }
+        Map<String, Long> stageMillis = new LinkedHashMap<>();
+        stages.forEach((stage, nanos) -> stageMillis.put(stage.getMetricName(), TimeUnit.NANOSECONDS.toMillis(nanos)));
+        logger.atWarn().kv("request", request).kv("totalMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos))
+                .kv("stageMillis", stageMillis).kv("unloggedSlowRequests", unloggedSlowRequests.getAndSet(0))
+                .log("Slow request");
+    }
+}
@@ -7,4 +7,13 @@ package com.aws.greengrass.clientdevices.auth.session.attribute;
 
 public interface DeviceAttribute {
     boolean matches(String expr);
+
+    /**
+     * Get the attribute value, used to substitute policy variables.
+     *
+     * @return attribute value, or null if the attribute has no single value
+     */
+    default String getValue() {
+        return null;
+    }
 }
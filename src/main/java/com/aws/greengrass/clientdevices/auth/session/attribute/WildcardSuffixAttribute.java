@@ -23,6 +23,11 @@ public class WildcardSuffixAttribute implements DeviceAttribute {
         }
     }
 
+    @Override
+    public String getValue() {
+        return value;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,23 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session.events;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvent;
+import com.aws.greengrass.clientdevices.auth.session.StageTimer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@AllArgsConstructor
+public class RequestStageTimingsEvent implements DomainEvent {
+    @Getter
+    private String request;
+    @Getter
+    private long totalNanos;
+    @Getter
+    private Map<StageTimer.Stage, Long> stageNanos;
+}
@@ -13,10 +13,10 @@ import com.aws.greengrass.clientdevices.auth.CertificateManager;
 import com.aws.greengrass.clientdevices.auth.ClientDevicesAuthService;
 import com.aws.greengrass.clientdevices.auth.api.GetCertificateRequest;
 import com.aws.greengrass.clientdevices.auth.api.GetCertificateRequestOptions;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificatePemCache;
 import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
 import com.aws.greengrass.logging.api.Logger;
 import com.aws.greengrass.logging.impl.LogManager;
-import com.aws.greengrass.util.EncryptionUtils;
 import software.amazon.awssdk.aws.greengrass.GeneratedAbstractSubscribeToCertificateUpdatesOperationHandler;
 import software.amazon.awssdk.aws.greengrass.model.CertificateOptions;
 import software.amazon.awssdk.aws.greengrass.model.CertificateType;
@@ -31,16 +31,12 @@ import software.amazon.awssdk.eventstreamrpc.OperationContinuationHandlerContext
 import software.amazon.awssdk.eventstreamrpc.model.EventStreamJsonMessage;
 
 import java.io.IOException;
-import java.security.KeyPair;
 import java.security.KeyStoreException;
 import java.security.cert.CertificateEncodingException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
-import static com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper.PEM_BOUNDARY_CERTIFICATE;
-import static com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper.PEM_BOUNDARY_PRIVATE_KEY;
-import static com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper.PEM_BOUNDARY_PUBLIC_KEY;
 import static com.aws.greengrass.ipc.common.ExceptionUtil.translateExceptions;
 import static software.amazon.awssdk.aws.greengrass.GreengrassCoreIPCService.SUBSCRIBE_TO_CERTIFICATE_UPDATES;
 
@@ -53,6 +49,7 @@ public class SubscribeToCertificateUpdatesOperationHandler
     private static final String UNAUTHORIZED_ERROR = "Not Authorized";
     private final String serviceName;
     private final CertificateManager certificateManager;
+    private final CertificatePemCache certificatePemCache;
     private final AtomicBoolean subscriptionResponseSent = new AtomicBoolean(false);
     private final AtomicReference<CertificateUpdateEvent> firstStreamingEvent = new AtomicReference<>(null);
     private final AuthorizationHandler authorizationHandler;
@@ -65,14 +62,17 @@ public class SubscribeToCertificateUpdatesOperationHandler
      *
      * @param context              operation continuation handler
      * @param certificateManager   certificate manager
+     * @param certificatePemCache  cache of PEM encoded certificates
      * @param authorizationHandler authorization handler
      */
     public SubscribeToCertificateUpdatesOperationHandler(OperationContinuationHandlerContext context,
                                                          CertificateManager certificateManager,
+                                                         CertificatePemCache certificatePemCache,
                                                          AuthorizationHandler authorizationHandler) {
         super(context);
         serviceName = context.getAuthenticationData().getIdentityLabel();
         this.certificateManager = certificateManager;
+        this.certificatePemCache = certificatePemCache;
         this.authorizationHandler = authorizationHandler;
         GetCertificateRequestOptions requestOptions = new GetCertificateRequestOptions();
         requestOptions.setCertificateType(GetCertificateRequestOptions.CertificateType.SERVER);
@@ -141,14 +141,13 @@ public class SubscribeToCertificateUpdatesOperationHandler
             com.aws.greengrass.clientdevices.auth.api.CertificateUpdateEvent updateEvent) {
         CertificateUpdate certificateUpdate = new CertificateUpdate();
         try {
-            KeyPair kp = updateEvent.getKeyPair();
+            // Encodings are shared by all subscribers receiving the same certificate
+            CertificatePemCache.EncodedCertificateUpdate encoded = certificatePemCache.encode(updateEvent);
             certificateUpdate
-                    .withCertificate(EncryptionUtils.encodeToPem(PEM_BOUNDARY_CERTIFICATE,
-                            updateEvent.getCertificate().getEncoded()))
-                    .withCaCertificates(this.certificateManager.getCACertificates())
-                    .withPublicKey(EncryptionUtils.encodeToPem(PEM_BOUNDARY_PUBLIC_KEY, kp.getPublic().getEncoded()))
-                    .withPrivateKey(
-                            EncryptionUtils.encodeToPem(PEM_BOUNDARY_PRIVATE_KEY, kp.getPrivate().getEncoded()));
+                    .withCertificate(encoded.getCertificate())
+                    .withCaCertificates(certificatePemCache.getCACertificates())
+                    .withPublicKey(encoded.getPublicKey())
+                    .withPrivateKey(encoded.getPrivateKey());
         } catch (CertificateEncodingException | IOException | KeyStoreException e) {
             logger.atError().cause(e).log("Unable to attach certificates to the response");
             throw new ServiceError("Subscribe to certificate update failed. Check Greengrass log for details.");
@@ -14,10 +14,13 @@ import com.aws.greengrass.clientdevices.auth.certificate.CertificateExpiryMonito
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateGenerator;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateHelper;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificatesConfig;
+import com.aws.greengrass.clientdevices.auth.certificate.KeyPairPool;
 import com.aws.greengrass.clientdevices.auth.configuration.CDAConfiguration;
 import com.aws.greengrass.clientdevices.auth.connectivity.CISShadowMonitor;
 import com.aws.greengrass.clientdevices.auth.connectivity.ConnectivityInformation;
+import com.aws.greengrass.clientdevices.auth.connectivity.NetworkInterfaceConnectivityMonitor;
 import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
 import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
 import com.aws.greengrass.config.Topics;
@@ -50,6 +53,7 @@ import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -59,7 +63,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -77,7 +86,14 @@ import static com.aws.greengrass.clientdevices.auth.configuration.CAConfiguratio
 import static com.aws.greengrass.componentmanager.KernelConfigResolver.CONFIGURATION_CONFIG_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -94,6 +110,9 @@ public class CertificateManagerTest {
     @Mock
     CISShadowMonitor mockShadowMonitor;
 
+    @Mock
+    NetworkInterfaceConnectivityMonitor mockNetworkInterfaceMonitor;
+
     @Mock
     GreengrassServiceClientFactory clientFactoryMock;
     @Mock
@@ -114,12 +133,17 @@ public class CertificateManagerTest {
     void beforeEach() {
         DomainEvents domainEvents = new DomainEvents();
         certificateStore = spy(new CertificateStore(tmpPath, domainEvents, securityServiceMock));
-        certRotationMonitor = new CertificateRotationHandler(mockConnectivityInformation, domainEvents);
+        CertificateRotationScheduler rotationScheduler =
+                new CertificateRotationScheduler(mock(ScheduledExecutorService.class), mockConnectivityInformation,
+                        domainEvents);
+        rotationScheduler.setRotationWindow(Duration.ZERO);
+        certRotationMonitor = new CertificateRotationHandler(rotationScheduler, domainEvents);
 
         certificateManager =
                 new CertificateManager(certificateStore, mockConnectivityInformation, mockCertExpiryMonitor,
-                        mockShadowMonitor, Clock.systemUTC(), clientFactoryMock, securityServiceMock,
-                        certRotationMonitor, domainEvents);
+                        mockShadowMonitor, mockNetworkInterfaceMonitor, Clock.systemUTC(), clientFactoryMock,
+                        securityServiceMock, certRotationMonitor, domainEvents, new KeyPairPool(domainEvents),
+                        rotationScheduler);
 
         CertificatesConfig certificatesConfig =
                 new CertificatesConfig(Topics.of(new Context(), CONFIGURATION_CONFIG_KEY, null));
@@ -401,6 +425,90 @@ public class CertificateManagerTest {
         assertEquals(CertificateHelper.toPem(caB), CertificateHelper.toPem(eventRef.get().getCaCertificates()[0]));
     }
 
+    @Test
+    void GIVEN_sharingEnabled_WHEN_identicalServerCertRequests_THEN_certificateIssuedOnceAndFannedOut()
+            throws Exception {
+        Topics configTopics = Topics.of(new Context(), CONFIGURATION_CONFIG_KEY, null);
+        configTopics.lookup(CONFIGURATION_CONFIG_KEY, "certificates", "shareServerCertificates").withValue(true);
+        certificateManager.updateCertificatesConfiguration(new CertificatesConfig(configTopics));
+        certificateManager.generateCA("", CertificateStore.CAType.RSA_2048);
+
+        GetCertificateRequestOptions requestOptions = new GetCertificateRequestOptions();
+        requestOptions.setCertificateType(GetCertificateRequestOptions.CertificateType.SERVER);
+        AtomicReference<CertificateUpdateEvent> eventA = new AtomicReference<>();
+        AtomicReference<CertificateUpdateEvent> eventB = new AtomicReference<>();
+        GetCertificateRequest requestA = new GetCertificateRequest("testService", requestOptions, eventA::set);
+        GetCertificateRequest requestB = new GetCertificateRequest("testService", requestOptions, eventB::set);
+
+        certificateManager.subscribeToCertificateUpdates(requestA);
+        certificateManager.subscribeToCertificateUpdates(requestB);
+
+        // Both subscribers got the same certificate and key, issued by a single generator
+        assertEquals(eventA.get().getCertificate(), eventB.get().getCertificate());
+        assertEquals(eventA.get().getKeyPair(), eventB.get().getKeyPair());
+        ArgumentCaptor<CertificateGenerator> generator = ArgumentCaptor.forClass(CertificateGenerator.class);
+        verify(mockCertExpiryMonitor).addToMonitor(generator.capture());
+
+        // A rotation is fanned out to all subscribers
+        generator.getValue().generateCertificate(ArrayList::new, "testing");
+        assertEquals(eventA.get(), eventB.get());
+
+        // The generator is only released with its last subscriber
+        certificateManager.unsubscribeFromCertificateUpdates(requestA);
+        verify(mockCertExpiryMonitor, never()).removeFromMonitor(any());
+        certificateManager.unsubscribeFromCertificateUpdates(requestB);
+        verify(mockCertExpiryMonitor).removeFromMonitor(generator.getValue());
+        configTopics.getContext().close();
+    }
+
+    @Test
+    void GIVEN_sharingEnabled_WHEN_sharedCertificateBeingIssued_THEN_otherSubscriptionsNotBlocked()
+            throws Exception {
+        Topics configTopics = Topics.of(new Context(), CONFIGURATION_CONFIG_KEY, null);
+        configTopics.lookup(CONFIGURATION_CONFIG_KEY, "certificates", "shareServerCertificates").withValue(true);
+        certificateManager.updateCertificatesConfiguration(new CertificatesConfig(configTopics));
+        certificateManager.generateCA("", CertificateStore.CAType.RSA_2048);
+
+        // Hold up the first subscription while its generator is being started
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (firstStarted.getCount() > 0) {
+                firstStarted.countDown();
+                releaseFirst.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(mockCertExpiryMonitor).addToMonitor(any());
+
+        GetCertificateRequestOptions requestOptions = new GetCertificateRequestOptions();
+        requestOptions.setCertificateType(GetCertificateRequestOptions.CertificateType.SERVER);
+        AtomicReference<CertificateUpdateEvent> eventA = new AtomicReference<>();
+        AtomicReference<CertificateUpdateEvent> eventB = new AtomicReference<>();
+        GetCertificateRequest requestA = new GetCertificateRequest("serviceA", requestOptions, eventA::set);
+        GetCertificateRequest requestB = new GetCertificateRequest("serviceB", requestOptions, eventB::set);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> subscriptionA = executor.submit(() -> {
+                certificateManager.subscribeToCertificateUpdates(requestA);
+                return null;
+            });
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+            // A certificate with another subject is issued while the first one is still pending
+            certificateManager.subscribeToCertificateUpdates(requestB);
+            assertNotNull(eventB.get());
+            assertNull(eventA.get());
+
+            releaseFirst.countDown();
+            subscriptionA.get(5, TimeUnit.SECONDS);
+            assertNotNull(eventA.get());
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+            configTopics.getContext().close();
+        }
+    }
 
     @Test
     void GIVEN_nullRequest_WHEN_subscribeToCertificateUpdates_THEN_throwsNPE() throws KeyStoreException {
@@ -5,14 +5,19 @@
 
 package com.aws.greengrass.clientdevices.auth;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore;
 import com.aws.greengrass.componentmanager.KernelConfigResolver;
 import com.aws.greengrass.config.Topics;
 import com.aws.greengrass.dependency.Context;
 import com.aws.greengrass.clientdevices.auth.configuration.GroupManager;
+import com.aws.greengrass.clientdevices.auth.configuration.GroupPermissions;
 import com.aws.greengrass.clientdevices.auth.configuration.Permission;
 import com.aws.greengrass.clientdevices.auth.exception.AuthorizationException;
+import com.aws.greengrass.clientdevices.auth.iot.CertificateFake;
 import com.aws.greengrass.clientdevices.auth.iot.Component;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.iot.events.ClientDeviceActive;
 import com.aws.greengrass.clientdevices.auth.session.Session;
 import com.aws.greengrass.clientdevices.auth.session.SessionImpl;
 import com.aws.greengrass.clientdevices.auth.session.SessionManager;
@@ -31,6 +36,9 @@ import java.util.Collections;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
@@ -49,6 +57,10 @@ public class DeviceAuthClientTest {
     @SuppressWarnings("PMD.UnusedPrivateField") // Required for injecting into DeviceAuthClient
     private CertificateStore certificateStore;
 
+    @Mock
+    @SuppressWarnings("PMD.UnusedPrivateField") // Required for injecting into DeviceAuthClient
+    private DomainEvents domainEvents;
+
     private Topics configurationTopics;
 
     @BeforeEach
@@ -84,16 +96,28 @@ public class DeviceAuthClientTest {
     void GIVEN_sessionHasPermission_WHEN_canDevicePerform_THEN_authorizationReturnTrue() throws Exception {
         Session session = new SessionImpl();
         when(sessionManager.findSession("sessionId")).thenReturn(session);
-        when(groupManager.getApplicablePolicyPermissions(session)).thenReturn(Collections.singletonMap("group1",
-                Collections.singleton(
+        when(groupManager.getApplicableGroupPermissions(session)).thenReturn(Collections.singletonList(
+                GroupPermissions.of("group1", Collections.singleton(
                         Permission.builder().operation("mqtt:publish").resource("mqtt:topic:foo").principal("group1")
-                                .build())));
+                                .build()))));
 
         boolean authorized = authClient.canDevicePerform(constructAuthorizationRequest());
 
         assertThat(authorized, is(true));
     }
 
+    @Test
+    void GIVEN_deviceSession_WHEN_canDevicePerformRepeatedly_THEN_activityReportedOnce() throws Exception {
+        Session session = new SessionImpl(CertificateFake.of("FAKE_CERT_ID"), Thing.of("MyThing"));
+        when(sessionManager.findSession("sessionId")).thenReturn(session);
+
+        for (int i = 0; i < 3; i++) {
+            authClient.canDevicePerform(constructAuthorizationRequest());
+        }
+
+        verify(domainEvents, times(1)).emit(any(ClientDeviceActive.class));
+    }
+
     @Test
     void GIVEN_internalClientSession_WHEN_canDevicePerform_THEN_authorizationReturnTrue() throws Exception {
         Session session = new SessionImpl(new Component());
@@ -104,6 +128,49 @@ public class DeviceAuthClientTest {
         assertThat(authorized, is(true));
     }
 
+    @Test
+    void GIVEN_sessionHasSomePermissions_WHEN_canDevicePerformBatch_THEN_sessionResolvedOnceAndDecisionsInOrder()
+            throws Exception {
+        Session session = new SessionImpl();
+        when(sessionManager.findSession("sessionId")).thenReturn(session);
+        when(groupManager.getApplicableGroupPermissions(session)).thenReturn(Collections.singletonList(
+                GroupPermissions.of("group1", Collections.singleton(
+                        Permission.builder().operation("mqtt:subscribe").resource("mqtt:topicfilter:foo")
+                                .principal("group1").build()))));
+
+        boolean[] authorized = authClient.canDevicePerform(BatchAuthorizationRequest.builder().sessionId("sessionId")
+                .action(new BatchAuthorizationRequest.Action("mqtt:subscribe", "mqtt:topicfilter:foo"))
+                .action(new BatchAuthorizationRequest.Action("mqtt:subscribe", "mqtt:topicfilter:bar"))
+                .action(new BatchAuthorizationRequest.Action("mqtt:subscribe", "mqtt:topicfilter:foo"))
+                .build());
+
+        assertThat(authorized, is(new boolean[]{true, false, true}));
+        verify(sessionManager, times(1)).findSession("sessionId");
+        verify(groupManager, times(1)).getApplicableGroupPermissions(session);
+    }
+
+    @Test
+    void GIVEN_internalClientSession_WHEN_canDevicePerformBatch_THEN_allActionsAuthorized() throws Exception {
+        Session session = new SessionImpl(new Component());
+        when(sessionManager.findSession("sessionId")).thenReturn(session);
+
+        boolean[] authorized = authClient.canDevicePerform(BatchAuthorizationRequest.builder().sessionId("sessionId")
+                .action(new BatchAuthorizationRequest.Action("mqtt:publish", "mqtt:topic:foo"))
+                .action(new BatchAuthorizationRequest.Action("mqtt:subscribe", "mqtt:topicfilter:bar"))
+                .build());
+
+        assertThat(authorized, is(new boolean[]{true, true}));
+    }
+
+    @Test
+    void GIVEN_invalidSessionId_WHEN_canDevicePerformBatch_THEN_authorizationExceptionThrown() {
+        when(sessionManager.findSession("invalidSessionId")).thenReturn(null);
+
+        assertThrows(AuthorizationException.class, () -> authClient.canDevicePerform(
+                BatchAuthorizationRequest.builder().sessionId("invalidSessionId")
+                        .action(new BatchAuthorizationRequest.Action("mqtt:publish", "mqtt:topic:foo")).build()));
+    }
+
     private AuthorizationRequest constructAuthorizationRequest() {
         return AuthorizationRequest.builder().sessionId("sessionId").operation("mqtt:publish")
                 .resource("mqtt:topic:foo").build();
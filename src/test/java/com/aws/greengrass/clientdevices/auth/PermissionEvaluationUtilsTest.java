@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.clientdevices.auth;
 
+import com.aws.greengrass.clientdevices.auth.configuration.GroupPermissions;
 import com.aws.greengrass.clientdevices.auth.configuration.Permission;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -54,6 +56,38 @@ class PermissionEvaluationUtilsTest {
         assertThat(authorized, is(false));
     }
 
+    @Test
+    void GIVEN_topicFilterResources_WHEN_evaluate_topic_permission_THEN_mqtt_wildcards_matched() {
+        Permission[] permissions =
+                {Permission.builder().principal("sensor").operation("mqtt:publish")
+                        .resource("mqtt:topic:sensors/+/telemetry").build(),
+                        Permission.builder().principal("sensor").operation("mqtt:subscribe")
+                                .resource("mqtt:topicfilter:commands/#").build(),
+                        Permission.builder().principal("sensor").operation("mqtt:publish")
+                                .resource("mqtt:topic:status/a+").build(),};
+        List<GroupPermissions> groupPermissions = Collections.singletonList(
+                GroupPermissions.of("sensor", new HashSet<>(Arrays.asList(permissions))));
+
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:sensors/s1/telemetry",
+                groupPermissions), is(true));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:sensors/s1/s2/telemetry",
+                groupPermissions), is(false));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:subscribe", "mqtt:topicfilter:commands",
+                groupPermissions), is(true));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:subscribe", "mqtt:topicfilter:commands/+/reboot",
+                groupPermissions), is(true));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:subscribe", "mqtt:topicfilter:#",
+                groupPermissions), is(false));
+        // Wildcards only match in the topic types they are granted for
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:subscribe", "mqtt:topic:commands/reboot",
+                groupPermissions), is(false));
+        // Invalid wildcard usage only matches literally
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:status/ab",
+                groupPermissions), is(false));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:status/a+",
+                groupPermissions), is(true));
+    }
+
     private Map<String, Set<Permission>> prepareGroupPermissionsData() {
         Permission[] sensorPermission =
                 {Permission.builder().principal("sensor").operation("mqtt:publish").resource("mqtt:topic:a").build(),
@@ -11,10 +11,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
@@ -70,4 +77,86 @@ public class DomainEventsTest {
         assertThat(listener1Count.get(), is(1));
         assertThat(listener2Count.get(), is(1));
     }
+
+    @Test
+    void GIVEN_asyncListener_WHEN_eventEmitted_THEN_listenerFiresOffEmittingThread() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        Set<Thread> listenerThreads = ConcurrentHashMap.newKeySet();
+        AtomicInteger syncCount = new AtomicInteger(0);
+
+        domainEvents.registerAsyncListener((e) -> {
+            listenerThreads.add(Thread.currentThread());
+            delivered.countDown();
+        }, TestEvent.class);
+        domainEvents.registerListener((e) -> syncCount.getAndIncrement(), TestEvent.class);
+
+        domainEvents.emit(new TestEvent());
+
+        assertThat(syncCount.get(), is(1));
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertThat(listenerThreads.contains(Thread.currentThread()), is(false));
+    }
+
+    @Test
+    void GIVEN_asyncListener_WHEN_flushed_THEN_allEmittedEventsDelivered() {
+        AtomicInteger listenerCount = new AtomicInteger(0);
+        domainEvents.registerAsyncListener((e) -> listenerCount.getAndIncrement(), TestEvent.class);
+
+        for (int i = 0; i < 1_000; i++) {
+            domainEvents.emit(new TestEvent());
+        }
+        domainEvents.flush();
+
+        assertThat(listenerCount.get(), is(1_000));
+    }
+
+    @Test
+    void GIVEN_asyncQueueFull_WHEN_eventEmitted_THEN_deliveredOnEmittingThread() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger listenerCount = new AtomicInteger(0);
+        Thread emittingThread = Thread.currentThread();
+        domainEvents.registerAsyncListener((e) -> {
+            // Hold up the dispatcher on the first event it delivers, so that the queue fills up
+            if (Thread.currentThread() != emittingThread && blocked.getCount() != 0) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            listenerCount.getAndIncrement();
+        }, TestEvent.class);
+
+        domainEvents.emit(new TestEvent());
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10_000; i++) {
+            domainEvents.emit(new TestEvent());
+        }
+        assertThat(domainEvents.getAsyncOverflowCount(), is(greaterThan(0L)));
+        assertThat(listenerCount.get(), is(not(0)));
+
+        release.countDown();
+        domainEvents.flush();
+        assertThat(listenerCount.get(), is(10_001));
+    }
+
+    @Test
+    void GIVEN_boundedEventQueue_WHEN_filledAndDrained_THEN_elementsReturnedInOrder() {
+        BoundedEventQueue<Integer> queue = new BoundedEventQueue<>(4);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertThat(queue.offer(i), is(round * 4L + i));
+            }
+            assertThat(queue.offer(4), is(-1L));
+            assertThat(queue.isEmpty(), is(false));
+            for (int i = 0; i < 4; i++) {
+                assertThat(queue.poll(), is(i));
+            }
+            assertThat(queue.poll() == null, is(true));
+            assertThat(queue.isEmpty(), is(true));
+        }
+        assertThat(queue.getOfferedCount(), is(12L));
+    }
 }
@@ -27,6 +27,7 @@ import com.aws.greengrass.dependency.Context;
 import com.aws.greengrass.deployment.exceptions.DeviceConfigurationException;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
 import com.aws.greengrass.util.GreengrassServiceClientFactory;
+import com.aws.greengrass.util.RetryUtils;
 
 import org.bouncycastle.cert.CertIOException;
 import org.bouncycastle.operator.OperatorCreationException;
@@ -42,8 +43,10 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.ScopedMock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.greengrassv2.model.AssociatedClientDevice;
 import software.amazon.awssdk.services.greengrassv2data.GreengrassV2DataClient;
 import software.amazon.awssdk.services.greengrassv2data.model.AccessDeniedException;
+import software.amazon.awssdk.services.greengrassv2data.model.InternalServerException;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -55,10 +58,12 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers.createClientCertificate;
 
@@ -240,6 +245,80 @@ public class BackgroundCertificateRefreshTest {
         assertEquals(pemStore.getPem(certA.getCertificateId()).get(), certificateAPem);
     }
 
+    @Test
+    void GIVEN_pagedAssociatedThings_WHEN_pageRetrievalFails_THEN_nothingGetsRemoved(ExtensionContext context) {
+        ignoreExceptionOfType(context, InternalServerException.class);
+        Instant now = Instant.now();
+        mockInstant(now.toEpochMilli());
+        backgroundRefresh.start();
+
+        // Given
+        thingRegistry.createThing("ThingOne");
+        thingRegistry.createThing("ThingTwo");
+        List<AssociatedClientDevice> firstPage = Collections.singletonList(
+                AssociatedClientDevice.builder().thingName("ThingOne").build());
+        backgroundRefresh.setRetryConfig(fastRetryConfig());
+        when(iotAuthClientFake.getThingsAssociatedWithCoreDevice()).thenAnswer(invocation -> Stream.of(1, 2)
+                .map(page -> {
+                    if (page == 2) {
+                        throw InternalServerException.builder().build();
+                    }
+                    return firstPage;
+                }));
+
+        // When
+        mockInstant(now.plus(Duration.ofHours(24)).toEpochMilli());
+        backgroundRefresh.run();
+
+        // Then
+        verify(iotAuthClientFake, times(3)).getThingsAssociatedWithCoreDevice();
+        assertNotNull(thingRegistry.getThing("ThingOne"));
+        assertNotNull(thingRegistry.getThing("ThingTwo"));
+        assertNull(backgroundRefresh.getLastRan());
+    }
+
+    @Test
+    void GIVEN_pagedAssociatedThings_WHEN_pageRetrievalFailsOnce_THEN_listingRetriedAndRegistriesReconciled(
+            ExtensionContext context) {
+        ignoreExceptionOfType(context, InternalServerException.class);
+        Instant now = Instant.now();
+        mockInstant(now.toEpochMilli());
+        backgroundRefresh.start();
+
+        // Given
+        thingRegistry.createThing("ThingOne");
+        thingRegistry.createThing("ThingTwo");
+        thingRegistry.createThing("ThingThree");
+        List<AssociatedClientDevice> firstPage = Collections.singletonList(
+                AssociatedClientDevice.builder().thingName("ThingOne").build());
+        List<AssociatedClientDevice> secondPage = Collections.singletonList(
+                AssociatedClientDevice.builder().thingName("ThingTwo").build());
+        backgroundRefresh.setRetryConfig(fastRetryConfig());
+        when(iotAuthClientFake.getThingsAssociatedWithCoreDevice()).thenReturn(Stream.of(1, 2).map(page -> {
+            if (page == 2) {
+                throw InternalServerException.builder().build();
+            }
+            return firstPage;
+        })).thenReturn(Stream.of(firstPage, secondPage));
+
+        // When
+        mockInstant(now.plus(Duration.ofHours(24)).toEpochMilli());
+        backgroundRefresh.run();
+
+        // Then
+        verify(iotAuthClientFake, times(2)).getThingsAssociatedWithCoreDevice();
+        assertNotNull(thingRegistry.getThing("ThingOne"));
+        assertNotNull(thingRegistry.getThing("ThingTwo"));
+        assertNull(thingRegistry.getThing("ThingThree"));
+        assertNotNull(backgroundRefresh.getLastRan());
+    }
+
+    private static RetryUtils.RetryConfig fastRetryConfig() {
+        return RetryUtils.RetryConfig.builder().initialRetryInterval(Duration.ofMillis(1))
+                .maxRetryInterval(Duration.ofMillis(1)).maxAttempt(3)
+                .retryableExceptions(Collections.singletonList(InternalServerException.class)).build();
+    }
+
     @Test
     void GIVEN_networkWasDown_WHEN_networkUp_THEN_backgroundTaskTriggered() {
         backgroundRefresh.accept(NetworkStateProvider.ConnectionState.NETWORK_DOWN);
@@ -34,10 +34,15 @@ import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 public class CertificateExpiryMonitorTest {
@@ -54,6 +59,8 @@ public class CertificateExpiryMonitorTest {
 
     @Mock
     SecurityService securityServiceMock;
+    @Mock
+    ScheduledExecutorService sesMock;
     @TempDir
     Path tmpPath;
 
@@ -65,9 +72,12 @@ public class CertificateExpiryMonitorTest {
         certificateStore = new CertificateStore(tmpPath, new DomainEvents(), securityServiceMock);
         certificateStore.update(TEST_PASSPHRASE, CertificateStore.CAType.RSA_2048);
 
+        CertificateRotationScheduler rotationScheduler =
+                new CertificateRotationScheduler(mock(ScheduledExecutorService.class),
+                        mock(ConnectivityInformation.class), new DomainEvents());
+        rotationScheduler.setRotationWindow(Duration.ZERO);
         certExpiryMonitor =
-                new CertificateExpiryMonitor(mock(ScheduledExecutorService.class), mock(ConnectivityInformation.class),
-                        Clock.systemUTC());
+                new CertificateExpiryMonitor(sesMock, rotationScheduler, Clock.systemUTC());
     }
 
     @AfterEach
@@ -175,6 +185,42 @@ public class CertificateExpiryMonitorTest {
         assertEquals(originalClientCertExpiry, clientCg.getExpiryTime());
     }
 
+    @Test
+    void GIVEN_cert_reissued_WHEN_previous_deadline_passes_THEN_cert_is_not_rotated_again() throws Exception {
+        Clock now = Clock.fixed(Instant.now(), ZoneId.of("UTC"));
+        CertificateGenerator serverCg = monitorNewServerCert(now);
+
+        // certificate is reissued by another trigger, e.g. a connectivity change
+        Clock reissue = Clock.fixed(Instant.now(now).plus(3, ChronoUnit.DAYS), ZoneId.of("UTC"));
+        serverCg.setClock(reissue);
+        serverCg.generateCertificate(Collections::emptyList, "test");
+        Instant reissuedExpiry = serverCg.getExpiryTime();
+
+        Clock afterPreviousDeadline =
+                Clock.fixed(Instant.now(now).plus(CERT_EXPIRY).minus(12, ChronoUnit.HOURS), ZoneId.of("UTC"));
+        serverCg.setClock(afterPreviousDeadline);
+        certExpiryMonitor.setClock(afterPreviousDeadline);
+        certExpiryMonitor.watchForCertExpiryOnce();
+
+        assertEquals(reissuedExpiry, serverCg.getExpiryTime());
+    }
+
+    @Test
+    void GIVEN_monitored_certs_WHEN_monitor_started_THEN_single_wakeup_scheduled_for_earliest_deadline()
+            throws Exception {
+        Clock now = Clock.fixed(Instant.now(), ZoneId.of("UTC"));
+        CertificateGenerator serverCg = monitorNewServerCert(now);
+        monitorNewClientCert(now);
+
+        Instant deadline = serverCg.getExpiryTime().minus(1, ChronoUnit.DAYS);
+        certExpiryMonitor.setClock(Clock.fixed(deadline.minusSeconds(60), ZoneId.of("UTC")));
+        certExpiryMonitor.startMonitor();
+
+        verify(sesMock).schedule(any(Runnable.class), eq(Duration.ofSeconds(60).toMillis()),
+                eq(TimeUnit.MILLISECONDS));
+        verifyNoMoreInteractions(sesMock);
+    }
+
     /**
      * Create a new server certificate generator and add it to the expiry monitor.
      *
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.CertificateUpdateEvent;
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
+import com.aws.greengrass.security.SecurityService;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class CertificatePemCacheTest {
+    @Mock
+    private SecurityService securityServiceMock;
+    @TempDir
+    Path tmpPath;
+
+    private CertificateStore certificateStore;
+    private CertificatePemCache certificatePemCache;
+
+    @BeforeEach
+    void beforeEach() {
+        DomainEvents domainEvents = new DomainEvents();
+        certificateStore = new CertificateStore(tmpPath, domainEvents, securityServiceMock);
+        certificatePemCache = new CertificatePemCache(certificateStore, domainEvents);
+        certificatePemCache.listen();
+    }
+
+    @Test
+    void GIVEN_caConfigured_WHEN_getCACertificates_THEN_pemEncodedOnceUntilCaChanges() throws Exception {
+        KeyPair caAKeys = CertificateStore.newRSAKeyPair(2048);
+        X509Certificate caA = CertificateTestHelpers.createRootCertificateAuthority("A", caAKeys);
+        certificateStore.setCaKeyAndCertificateChain(CertificateHelper.ProviderType.DEFAULT, caAKeys.getPrivate(), caA);
+
+        List<String> pem = certificatePemCache.getCACertificates();
+        assertThat(pem, contains(CertificateHelper.toPem(caA)));
+        assertThat(certificatePemCache.getCACertificates(), is(sameInstance(pem)));
+
+        KeyPair caBKeys = CertificateStore.newRSAKeyPair(2048);
+        X509Certificate caB = CertificateTestHelpers.createRootCertificateAuthority("B", caBKeys);
+        certificateStore.setCaKeyAndCertificateChain(CertificateHelper.ProviderType.DEFAULT, caBKeys.getPrivate(), caB);
+
+        assertThat(certificatePemCache.getCACertificates(), is(not(sameInstance(pem))));
+        assertThat(certificatePemCache.getCACertificates(), contains(CertificateHelper.toPem(caB)));
+    }
+
+    @Test
+    void GIVEN_certificateUpdate_WHEN_encodedForSeveralSubscribers_THEN_sameEncodingReturned() throws Exception {
+        KeyPair caKeys = CertificateStore.newRSAKeyPair(2048);
+        X509Certificate ca = CertificateTestHelpers.createRootCertificateAuthority("CA", caKeys);
+        KeyPair keyPair = CertificateStore.newRSAKeyPair(2048);
+        X509Certificate certificate =
+                CertificateTestHelpers.createServerCertificate(ca, "server", keyPair.getPublic(), caKeys.getPrivate());
+        CertificateUpdateEvent updateEvent =
+                new CertificateUpdateEvent(keyPair, certificate, new X509Certificate[]{ca});
+
+        CertificatePemCache.EncodedCertificateUpdate encoded = certificatePemCache.encode(updateEvent);
+
+        assertThat(encoded.getCertificate(), is(CertificateHelper.toPem(certificate)));
+        assertThat(certificatePemCache.encode(updateEvent), is(sameInstance(encoded)));
+    }
+}
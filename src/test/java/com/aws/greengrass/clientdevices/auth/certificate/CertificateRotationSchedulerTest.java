@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateRotationWaveCompleted;
+import com.aws.greengrass.clientdevices.auth.connectivity.ConnectivityInformation;
+import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.aws.greengrass.testcommons.testutilities.ExceptionLogProtector.ignoreExceptionOfType;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class CertificateRotationSchedulerTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Mock
+    private ConnectivityInformation connectivityInformation;
+    @Mock
+    private CertificateGenerator serverGenerator;
+    @Mock
+    private CertificateGenerator clientGenerator;
+
+    private ScheduledExecutorService ses;
+    private DomainEvents domainEvents;
+    private CertificateRotationScheduler rotationScheduler;
+
+    @BeforeEach
+    void beforeEach() {
+        ses = new ScheduledThreadPoolExecutor(1);
+        domainEvents = new DomainEvents();
+        rotationScheduler = new CertificateRotationScheduler(ses, connectivityInformation, domainEvents);
+        rotationScheduler.setRotationWindow(Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void afterEach() {
+        ses.shutdownNow();
+    }
+
+    @Test
+    void GIVEN_multipleRequestsWithinWindow_WHEN_requestRotation_THEN_singleRotationWithMergedReasons()
+            throws Exception {
+        CompletableFuture<Void> first = rotationScheduler.requestRotation(serverGenerator, "CA changed");
+        CompletableFuture<Void> second = rotationScheduler.requestRotation(serverGenerator, "connectivity changed");
+        CompletableFuture<Void> third = rotationScheduler.requestRotation(serverGenerator, "CA changed");
+
+        assertThat(second, sameInstance(first));
+        assertThat(third, sameInstance(first));
+        first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        verify(serverGenerator, times(1)).generateCertificate(any(), eq("CA changed, connectivity changed"));
+    }
+
+    @Test
+    void GIVEN_requestsForDifferentGenerators_WHEN_requestRotation_THEN_eachGeneratorRotatedOnce() throws Exception {
+        CompletableFuture.allOf(rotationScheduler.requestRotation(serverGenerator, "CA changed"),
+                rotationScheduler.requestRotation(clientGenerator, "CA changed"),
+                rotationScheduler.requestRotation(serverGenerator, "connectivity changed"))
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        verify(serverGenerator, times(1)).generateCertificate(any(), any());
+        verify(clientGenerator, times(1)).generateCertificate(any(), any());
+    }
+
+    @Test
+    void GIVEN_rotationCompleted_WHEN_requestRotation_THEN_newRotationScheduled() throws Exception {
+        rotationScheduler.requestRotation(serverGenerator, "CA changed").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        rotationScheduler.requestRotation(serverGenerator, "connectivity changed")
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        verify(serverGenerator).generateCertificate(any(), eq("CA changed"));
+        verify(serverGenerator).generateCertificate(any(), eq("connectivity changed"));
+    }
+
+    @Test
+    void GIVEN_pendingRotation_WHEN_cancel_THEN_generatorNotRotated() throws Exception {
+        CompletableFuture<Void> rotation = rotationScheduler.requestRotation(serverGenerator, "CA changed");
+        rotationScheduler.cancel(serverGenerator);
+
+        assertTrue(rotation.isDone());
+        ses.shutdown();
+        assertTrue(ses.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        verify(serverGenerator, never()).generateCertificate(any(), any());
+    }
+
+    @Test
+    void GIVEN_rotationInFlight_WHEN_cancel_THEN_hostAddressesNotRecorded() throws Exception {
+        List<String> hostAddresses = Collections.singletonList("127.0.0.1");
+        when(connectivityInformation.getCachedHostAddresses()).thenReturn(hostAddresses);
+        doAnswer(invocation -> {
+            Supplier<List<String>> connectivityInfoSupplier = invocation.getArgument(0);
+            connectivityInfoSupplier.get();
+            // Generator unsubscribed while its certificate is being issued
+            rotationScheduler.cancel(serverGenerator);
+            return null;
+        }).when(serverGenerator).generateCertificate(any(), any());
+
+        rotationScheduler.requestRotation(serverGenerator, "CA changed").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse(rotationScheduler.isRotatedFor(serverGenerator, hostAddresses));
+    }
+
+    @Test
+    void GIVEN_rotationFails_WHEN_requestRotation_THEN_futureCompletedExceptionally(ExtensionContext context)
+            throws Exception {
+        ignoreExceptionOfType(context, CertificateGenerationException.class);
+        doThrow(new CertificateGenerationException("failed")).when(serverGenerator)
+                .generateCertificate(any(), any());
+
+        CompletableFuture<Void> rotation = rotationScheduler.requestRotation(serverGenerator, "CA changed");
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> rotation.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(e.getCause(), instanceOf(CertificateGenerationException.class));
+    }
+
+    @Test
+    void GIVEN_oneGeneratorFails_WHEN_requestRotations_THEN_otherGeneratorsRotatedAndWaveReported(
+            ExtensionContext context) throws Exception {
+        ignoreExceptionOfType(context, CertificateGenerationException.class);
+        List<CertificateRotationWaveCompleted> waves = new CopyOnWriteArrayList<>();
+        domainEvents.registerListener(waves::add, CertificateRotationWaveCompleted.class);
+        doThrow(new CertificateGenerationException("failed")).when(serverGenerator)
+                .generateCertificate(any(), any());
+
+        CompletableFuture<Void> wave =
+                rotationScheduler.requestRotations(Arrays.asList(serverGenerator, clientGenerator), "CA changed");
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> wave.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(e.getCause(), instanceOf(CertificateGenerationException.class));
+        verify(clientGenerator).generateCertificate(any(), eq("CA changed"));
+        assertThat(waves.size(), is(1));
+        assertThat(waves.get(0).getCertificateCount(), is(2));
+        assertThat(waves.get(0).getFailureCount(), is(1));
+    }
+}
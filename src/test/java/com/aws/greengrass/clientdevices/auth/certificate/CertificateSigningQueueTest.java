@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateSigned;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class CertificateSigningQueueTest {
+    private static final int SIGNINGS = 4;
+    private static final Duration SIGNING_TIME = Duration.ofMillis(200);
+
+    private List<CertificateSigned> events;
+    private CertificateSigningQueue signingQueue;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void beforeEach() {
+        events = new CopyOnWriteArrayList<>();
+        DomainEvents domainEvents = new DomainEvents();
+        domainEvents.registerListener(events::add, CertificateSigned.class);
+        signingQueue = new CertificateSigningQueue(domainEvents);
+        executor = Executors.newFixedThreadPool(SIGNINGS);
+    }
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void GIVEN_hsmKey_WHEN_concurrentSignings_THEN_limitedToConfiguredConcurrency() throws Exception {
+        signingQueue.setHsmConcurrency(2);
+
+        int maxConcurrent = runConcurrentSignings(CertificateHelper.ProviderType.HSM);
+
+        assertThat(maxConcurrent, is(2));
+        assertThat(events, hasSize(SIGNINGS));
+        // The last signings waited for the first ones to finish
+        Duration maxQueueWait = events.stream().map(CertificateSigned::getQueueWait)
+                .max(Duration::compareTo).orElse(Duration.ZERO);
+        assertThat(maxQueueWait.toMillis(), is(greaterThanOrEqualTo(SIGNING_TIME.toMillis() / 2)));
+    }
+
+    @Test
+    void GIVEN_softwareKey_WHEN_concurrentSignings_THEN_notQueued() throws Exception {
+        int maxConcurrent = runConcurrentSignings(CertificateHelper.ProviderType.DEFAULT);
+
+        assertThat(maxConcurrent, is(SIGNINGS));
+        assertThat(events, hasSize(SIGNINGS));
+    }
+
+    private int runConcurrentSignings(CertificateHelper.ProviderType providerType) throws Exception {
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch allStarted = new CountDownLatch(SIGNINGS);
+
+        List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < SIGNINGS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return signingQueue.issue(providerType, () -> {
+                    maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                    allStarted.countDown();
+                    try {
+                        // Software signings all overlap, HSM signings just take some time
+                        allStarted.await(SIGNING_TIME.toMillis(), TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    concurrent.decrementAndGet();
+                    return null;
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertTrue(events.stream().allMatch(e -> e.getProviderType().equals(providerType)));
+        return maxConcurrent.get();
+    }
+}
@@ -7,6 +7,7 @@ package com.aws.greengrass.clientdevices.auth.certificate;
 
 import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateStore.CAType;
+import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
 import com.aws.greengrass.security.SecurityService;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
 import org.apache.commons.io.FileUtils;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -26,6 +29,10 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.RSAPrivateKey;
 
@@ -34,6 +41,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 public class CertificateStoreTest {
@@ -163,4 +172,52 @@ public class CertificateStoreTest {
             assertThat(CertificateStore.byteToAsciiCharacter(c), lessThanOrEqualTo('~'));
         }
     }
+
+    @ParameterizedTest
+    @EnumSource(CertificateStore.KeyType.class)
+    public void GIVEN_keyType_WHEN_newKeyPair_THEN_keyOfTypeGeneratedAndCertificateIssued(
+            CertificateStore.KeyType keyType) throws Exception {
+        certificateStore.update(DEFAULT_PASSPHRASE, CAType.RSA_2048);
+
+        KeyPair keyPair = CertificateStore.newKeyPair(keyType);
+        assertTrue(CertificateStore.isKeyOfType(keyPair.getPublic(), keyType));
+        for (CertificateStore.KeyType other : CertificateStore.KeyType.values()) {
+            if (other != keyType) {
+                assertFalse(CertificateStore.isKeyOfType(keyPair.getPublic(), other));
+            }
+        }
+
+        Instant now = Instant.now();
+        X509Certificate cert = CertificateHelper.issueServerCertificate(certificateStore.getCACertificate(),
+                certificateStore.getCAPrivateKey(), CertificateHelper.getX500Name("test"), keyPair.getPublic(),
+                Collections.singletonList("localhost"), Date.from(now), Date.from(now.plus(Duration.ofDays(1))),
+                certificateStore.getProviderType());
+        cert.verify(certificateStore.getCACertificate().getPublicKey());
+        assertThat(cert.getPublicKey(), equalTo(keyPair.getPublic()));
+    }
+
+    @Test
+    public void GIVEN_certificateAuthority_WHEN_caReplaced_THEN_previousCertificateAuthorityUnchanged()
+            throws Exception {
+        certificateStore.update(DEFAULT_PASSPHRASE, CAType.RSA_2048);
+        CertificateStore.CertificateAuthority previous = certificateStore.getCertificateAuthority();
+        assertThat(previous.getCertificate(), equalTo(certificateStore.getCACertificate()));
+        assertThat(previous.getPrivateKey(), equalTo(certificateStore.getCAPrivateKey()));
+
+        KeyPair keyPair = CertificateStore.newRSAKeyPair();
+        X509Certificate replacement = CertificateTestHelpers.createRootCertificateAuthority("replacement", keyPair);
+        certificateStore.setCaKeyAndCertificateChain(CertificateHelper.ProviderType.DEFAULT, keyPair.getPrivate(),
+                replacement);
+
+        // The issuer and the signing key are read together, so they still match each other
+        assertThat(previous.getCertificate(), not(replacement));
+        Instant now = Instant.now();
+        X509Certificate cert = CertificateHelper.issueServerCertificate(previous.getCertificate(),
+                previous.getPrivateKey(), CertificateHelper.getX500Name("test"), keyPair.getPublic(),
+                Collections.singletonList("localhost"), Date.from(now), Date.from(now.plus(Duration.ofDays(1))),
+                previous.getProviderType());
+        cert.verify(previous.getCertificate().getPublicKey());
+        assertThat(certificateStore.getCertificateAuthority().getCertificate(), equalTo(replacement));
+        assertThat(certificateStore.getCertificateAuthority().getPrivateKey(), equalTo(keyPair.getPrivate()));
+    }
 }
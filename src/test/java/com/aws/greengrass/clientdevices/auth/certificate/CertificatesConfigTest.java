@@ -64,4 +64,21 @@ public class CertificatesConfigTest {
                 is(equalTo(CertificatesConfig.DEFAULT_CLIENT_CERT_EXPIRY_SECONDS)));
     }
 
+
+    @Test
+    public void GIVEN_defaultConfiguration_WHEN_getKeyType_THEN_returnsDefaultKeyType() {
+        assertThat(certificatesConfig.getKeyType(), is(equalTo(CertificatesConfig.DEFAULT_KEY_TYPE)));
+    }
+
+    @Test
+    public void GIVEN_ecKeyTypeConfigured_WHEN_getKeyType_THEN_returnsEcKeyType() {
+        configurationTopics.lookup(CertificatesConfig.PATH_KEY_TYPE).withValue("ECDSA_P256");
+        assertThat(certificatesConfig.getKeyType(), is(equalTo(CertificateStore.KeyType.ECDSA_P256)));
+    }
+
+    @Test
+    public void GIVEN_unsupportedKeyTypeConfigured_WHEN_getKeyType_THEN_returnsDefaultKeyType() {
+        configurationTopics.lookup(CertificatesConfig.PATH_KEY_TYPE).withValue("DSA_1024");
+        assertThat(certificatesConfig.getKeyType(), is(equalTo(CertificatesConfig.DEFAULT_KEY_TYPE)));
+    }
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.api.UseCases;
+import com.aws.greengrass.clientdevices.auth.certificate.infra.BackgroundCertificateRefresh;
+import com.aws.greengrass.clientdevices.auth.certificate.infra.ClientCertificateStore;
+import com.aws.greengrass.clientdevices.auth.certificate.infra.ContinuousCertificateRefresh;
+import com.aws.greengrass.clientdevices.auth.configuration.RuntimeConfiguration;
+import com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers;
+import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
+import com.aws.greengrass.clientdevices.auth.iot.Certificate;
+import com.aws.greengrass.clientdevices.auth.iot.CertificateRegistry;
+import com.aws.greengrass.clientdevices.auth.iot.IotAuthClientFake;
+import com.aws.greengrass.clientdevices.auth.iot.Thing;
+import com.aws.greengrass.clientdevices.auth.iot.dto.VerifyThingAttachedToCertificateDTO;
+import com.aws.greengrass.clientdevices.auth.iot.events.ClientDeviceActive;
+import com.aws.greengrass.clientdevices.auth.iot.events.ThingSessionCreated;
+import com.aws.greengrass.clientdevices.auth.iot.infra.ThingRegistry;
+import com.aws.greengrass.clientdevices.auth.iot.usecases.VerifyIotCertificate;
+import com.aws.greengrass.clientdevices.auth.iot.usecases.VerifyThingAttachedToCertificate;
+import com.aws.greengrass.config.Topics;
+import com.aws.greengrass.dependency.Context;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.ScopedMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers.createClientCertificate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class ContinuousCertificateRefreshTest {
+    private static final String THING_NAME = "ThingOne";
+
+    @Mock
+    private NetworkStateProvider.Default networkStateMock;
+    @Mock
+    private ScheduledThreadPoolExecutor schedulerMock;
+    @Mock
+    private VerifyThingAttachedToCertificate verifyThingAttachedToCertificateMock;
+    @Mock
+    private VerifyIotCertificate verifyIotCertificateMock;
+    private Topics configurationTopics;
+    private ThingRegistry thingRegistry;
+    private CertificateRegistry certificateRegistry;
+    private ClientCertificateStore pemStore;
+    private DomainEvents domainEvents;
+    private ContinuousCertificateRefresh continuousRefresh;
+    private ExecutorService executorService;
+    private Optional<MockedStatic<Clock>> clockMock = Optional.empty();
+    private String certificatePem;
+    private String certificateId;
+    @TempDir
+    Path workDir;
+
+
+    @BeforeEach
+    void setup() throws Exception {
+        domainEvents = new DomainEvents();
+        configurationTopics = Topics.of(new Context(), "config", null);
+        RuntimeConfiguration runtimeConfiguration = RuntimeConfiguration.from(configurationTopics);
+        pemStore = new ClientCertificateStore(workDir);
+        certificateRegistry = new CertificateRegistry(runtimeConfiguration, pemStore);
+        thingRegistry = new ThingRegistry(domainEvents, runtimeConfiguration);
+
+        UseCases useCases = new UseCases();
+        configurationTopics.getContext()
+                .put(VerifyThingAttachedToCertificate.class, verifyThingAttachedToCertificateMock);
+        configurationTopics.getContext().put(VerifyIotCertificate.class, verifyIotCertificateMock);
+        useCases.init(configurationTopics.getContext());
+
+        KeyPair rootKeyPair = CertificateStore.newRSAKeyPair(2048);
+        X509Certificate rootCA = CertificateTestHelpers.createRootCertificateAuthority("root", rootKeyPair);
+        X509Certificate clientCert = createClientCertificate(rootCA, "AWS IoT Certificate",
+                CertificateStore.newRSAKeyPair(2048).getPublic(), rootKeyPair.getPrivate());
+        certificatePem = CertificateHelper.toPem(clientCert);
+        certificateId = Certificate.fromPem(certificatePem).getCertificateId();
+
+        executorService = Executors.newFixedThreadPool(2);
+        continuousRefresh = new ContinuousCertificateRefresh(schedulerMock, executorService, thingRegistry,
+                certificateRegistry, pemStore, networkStateMock, domainEvents, useCases);
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        executorService.shutdownNow();
+        clockMock.ifPresent(ScopedMock::close);
+        configurationTopics.getContext().close();
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private void mockInstant(Instant expected) {
+        clockMock.ifPresent(ScopedMock::close);
+        Clock spyClock = spy(Clock.class);
+        MockedStatic<Clock> staticClockMock = mockStatic(Clock.class);
+        staticClockMock.when(Clock::systemUTC).thenReturn(spyClock);
+        when(spyClock.instant()).thenReturn(expected);
+        clockMock = Optional.of(staticClockMock);
+    }
+
+    private void createActiveSession() throws Exception {
+        Certificate certificate = certificateRegistry.getOrCreateCertificate(certificatePem);
+        certificate.setStatus(Certificate.Status.ACTIVE);
+        certificateRegistry.updateCertificate(certificate);
+
+        Thing thing = thingRegistry.createThing(THING_NAME);
+        thing.attachCertificate(certificateId);
+        thingRegistry.updateThing(thing);
+
+        domainEvents.emit(new ThingSessionCreated(THING_NAME, certificateId));
+    }
+
+    @Test
+    void GIVEN_sessionCreated_WHEN_recordsTracked_THEN_refreshScheduledBeforeTrustWindowExpires() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+
+        createActiveSession();
+
+        assertEquals(2, continuousRefresh.getTrackedRecordCount());
+        Instant nextRefresh = continuousRefresh.getNextScheduledRefresh();
+        // The default trust window is a minute
+        assertTrue(nextRefresh.isBefore(now.plus(Duration.ofMinutes(1))));
+        assertTrue(nextRefresh.isAfter(now.plus(Duration.ofSeconds(45))));
+    }
+
+    @Test
+    void GIVEN_oneMinuteTrustWindow_WHEN_recordsRefreshed_THEN_recordsRefreshedBeforeGoingStale() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        createActiveSession();
+        // Refreshing renews the local records as of the refresh time
+        when(verifyIotCertificateMock.applyFromCloud(certificatePem)).thenAnswer(invocation -> {
+            Certificate certificate = certificateRegistry.getCertificateById(certificateId).get();
+            certificate.setStatus(Certificate.Status.ACTIVE);
+            certificateRegistry.updateCertificate(certificate);
+            return true;
+        });
+        when(verifyThingAttachedToCertificateMock.apply(
+                new VerifyThingAttachedToCertificateDTO(THING_NAME, certificateId, true))).thenAnswer(invocation -> {
+            Thing thing = thingRegistry.getThing(THING_NAME);
+            thing.attachCertificate(certificateId);
+            thingRegistry.updateThing(thing);
+            return true;
+        });
+
+        Instant end = now.plus(Duration.ofMinutes(3));
+        Instant nextRefresh = continuousRefresh.getNextScheduledRefresh();
+        while (nextRefresh.isBefore(end)) {
+            mockInstant(nextRefresh);
+            // Neither record has gone stale by the time it is due
+            assertTrue(certificateRegistry.getCertificateById(certificateId).get().isActive());
+            assertTrue(thingRegistry.getThing(THING_NAME).isCertificateAttached(certificateId));
+            continuousRefresh.refreshDueRecords();
+            nextRefresh = continuousRefresh.getNextScheduledRefresh();
+        }
+
+        verify(verifyIotCertificateMock, atLeast(3)).applyFromCloud(certificatePem);
+        verify(verifyThingAttachedToCertificateMock, atLeast(3)).apply(
+                new VerifyThingAttachedToCertificateDTO(THING_NAME, certificateId, true));
+    }
+
+    @Test
+    void GIVEN_recordsDue_WHEN_refreshDueRecords_THEN_recordsVerifiedAndRescheduled() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        createActiveSession();
+
+        mockInstant(now.plus(Duration.ofMinutes(5)));
+        continuousRefresh.refreshDueRecords();
+
+        verify(verifyThingAttachedToCertificateMock).apply(
+                new VerifyThingAttachedToCertificateDTO(THING_NAME, certificateId, true));
+        verify(verifyIotCertificateMock).applyFromCloud(certificatePem);
+        assertEquals(2, continuousRefresh.getTrackedRecordCount());
+    }
+
+    @Test
+    void GIVEN_deviceInactive_WHEN_refreshDueRecords_THEN_recordsDropped() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        createActiveSession();
+
+        mockInstant(now.plus(Duration.ofHours(25)));
+        continuousRefresh.refreshDueRecords();
+
+        verify(verifyThingAttachedToCertificateMock, never()).apply(any());
+        verify(verifyIotCertificateMock, never()).applyFromCloud(any());
+        assertEquals(0, continuousRefresh.getTrackedRecordCount());
+        assertNull(continuousRefresh.getNextScheduledRefresh());
+    }
+
+    @Test
+    void GIVEN_deviceActiveAfterSessionCreated_WHEN_refreshDueRecords_THEN_recordsKept() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        createActiveSession();
+
+        domainEvents.emit(new ClientDeviceActive(THING_NAME, certificateId, now.plus(Duration.ofHours(23))));
+        domainEvents.flush();
+        mockInstant(now.plus(Duration.ofHours(25)));
+        continuousRefresh.refreshDueRecords();
+
+        verify(verifyThingAttachedToCertificateMock).apply(
+                new VerifyThingAttachedToCertificateDTO(THING_NAME, certificateId, true));
+        verify(verifyIotCertificateMock).applyFromCloud(certificatePem);
+        assertEquals(2, continuousRefresh.getTrackedRecordCount());
+    }
+
+    @Test
+    void GIVEN_recordTrackedAgain_WHEN_refreshDueRecords_THEN_recordRefreshedOnce() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        createActiveSession();
+        domainEvents.emit(new ThingSessionCreated(THING_NAME, certificateId));
+
+        assertEquals(2, continuousRefresh.getTrackedRecordCount());
+        mockInstant(now.plus(Duration.ofMinutes(5)));
+        continuousRefresh.refreshDueRecords();
+
+        verify(verifyThingAttachedToCertificateMock).apply(
+                new VerifyThingAttachedToCertificateDTO(THING_NAME, certificateId, true));
+        verify(verifyIotCertificateMock).applyFromCloud(certificatePem);
+    }
+
+    @Test
+    void GIVEN_networkDown_WHEN_recordsDue_THEN_refreshDeferredUntilNetworkUp() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        createActiveSession();
+
+        when(networkStateMock.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_DOWN);
+        mockInstant(now.plus(Duration.ofMinutes(5)));
+        continuousRefresh.refreshDueRecords();
+
+        verify(verifyThingAttachedToCertificateMock, never()).apply(any());
+        verify(verifyIotCertificateMock, never()).applyFromCloud(any());
+        assertEquals(0, continuousRefresh.getTrackedRecordCount());
+
+        when(networkStateMock.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        continuousRefresh.accept(NetworkStateProvider.ConnectionState.NETWORK_UP);
+
+        verify(verifyThingAttachedToCertificateMock, timeout(5000)).apply(
+                new VerifyThingAttachedToCertificateDTO(THING_NAME, certificateId, true));
+        verify(verifyIotCertificateMock, timeout(5000)).applyFromCloud(certificatePem);
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2, continuousRefresh.getTrackedRecordCount());
+    }
+
+    @Test
+    void GIVEN_trackedRecords_WHEN_networkUp_THEN_recordsPreWarmed() throws Exception {
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        createActiveSession();
+
+        continuousRefresh.accept(NetworkStateProvider.ConnectionState.NETWORK_UP);
+
+        verify(verifyThingAttachedToCertificateMock, timeout(5000)).apply(
+                new VerifyThingAttachedToCertificateDTO(THING_NAME, certificateId, true));
+        verify(verifyIotCertificateMock, timeout(5000)).applyFromCloud(certificatePem);
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2, continuousRefresh.getTrackedRecordCount());
+    }
+
+    @Test
+    void GIVEN_storedRecords_WHEN_backgroundRefreshRuns_THEN_recordsNotTracked() throws Exception {
+        IotAuthClientFake iotAuthClientFake = new IotAuthClientFake();
+        iotAuthClientFake.activateCert(certificatePem);
+        iotAuthClientFake.attachCertificateToThing(THING_NAME, certificatePem);
+        iotAuthClientFake.attachThingToCore(() -> THING_NAME);
+        certificateRegistry.getOrCreateCertificate(certificatePem);
+        Thing thing = thingRegistry.createThing(THING_NAME);
+        thing.attachCertificate(certificateId);
+        thingRegistry.updateThing(thing);
+        when(networkStateMock.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(networkStateMock.getLastNetworkUp()).thenReturn(Instant.EPOCH);
+
+        // The background refresh verifies certificates with the actual use case
+        configurationTopics.getContext().put(VerifyIotCertificate.class,
+                new VerifyIotCertificate(iotAuthClientFake, certificateRegistry, networkStateMock, domainEvents));
+        BackgroundCertificateRefresh backgroundRefresh = new BackgroundCertificateRefresh(schedulerMock, thingRegistry,
+                networkStateMock, certificateRegistry, pemStore, iotAuthClientFake,
+                new UseCases(configurationTopics.getContext()));
+
+        Instant now = Instant.now();
+        mockInstant(now);
+        continuousRefresh.start();
+        backgroundRefresh.start();
+        mockInstant(now.plus(Duration.ofDays(1)));
+        backgroundRefresh.run();
+        domainEvents.flush();
+
+        assertTrue(certificateRegistry.getCertificateById(certificateId).get().isActive());
+        assertEquals(0, continuousRefresh.getTrackedRecordCount());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.certificate;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.certificate.events.KeyPairPoolEvent;
+import com.aws.greengrass.componentmanager.KernelConfigResolver;
+import com.aws.greengrass.config.Topics;
+import com.aws.greengrass.dependency.Context;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.security.KeyPair;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class KeyPairPoolTest {
+    private static final CertificateStore.KeyType KEY_TYPE = CertificateStore.KeyType.ECDSA_P256;
+    private static final long FILL_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(60);
+
+    private Topics configurationTopics;
+    private List<KeyPairPoolEvent.Result> results;
+    private KeyPairPool keyPairPool;
+
+    @BeforeEach
+    void beforeEach() {
+        configurationTopics = Topics.of(new Context(), KernelConfigResolver.CONFIGURATION_CONFIG_KEY, null);
+        configurationTopics.lookup(CertificatesConfig.PATH_KEY_PAIR_POOL_SIZE).withValue(1);
+        configurationTopics.lookup(CertificatesConfig.PATH_KEY_TYPE).withValue(KEY_TYPE.name());
+        results = new CopyOnWriteArrayList<>();
+        DomainEvents domainEvents = new DomainEvents();
+        domainEvents.registerListener(e -> results.add(e.getResult()), KeyPairPoolEvent.class);
+        keyPairPool = new KeyPairPool(domainEvents);
+        keyPairPool.updateCertificatesConfiguration(new CertificatesConfig(configurationTopics));
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        keyPairPool.stop();
+        configurationTopics.getContext().close();
+    }
+
+    private void waitForPoolSize(int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + FILL_TIMEOUT_MS;
+        while (keyPairPool.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(keyPairPool.size(), is(size));
+    }
+
+    @Test
+    void GIVEN_poolNotStarted_WHEN_take_THEN_keyPairGeneratedOnDemand() throws Exception {
+        KeyPair keyPair = keyPairPool.take(KEY_TYPE);
+
+        assertNotNull(keyPair);
+        assertThat(keyPairPool.size(), is(0));
+        assertThat(results, contains(KeyPairPoolEvent.Result.MISS));
+    }
+
+    @Test
+    void GIVEN_startedPool_WHEN_take_THEN_preGeneratedKeyReturnedAndPoolRefilled() throws Exception {
+        keyPairPool.start();
+        waitForPoolSize(1);
+
+        KeyPair first = keyPairPool.take(KEY_TYPE);
+        assertThat(results, contains(KeyPairPoolEvent.Result.HIT));
+
+        waitForPoolSize(1);
+        KeyPair second = keyPairPool.take(KEY_TYPE);
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(results, contains(KeyPairPoolEvent.Result.HIT, KeyPairPoolEvent.Result.HIT));
+    }
+
+    @Test
+    void GIVEN_poolSizeZero_WHEN_started_THEN_noKeysPreGenerated() throws Exception {
+        configurationTopics.lookup(CertificatesConfig.PATH_KEY_PAIR_POOL_SIZE).withValue(0);
+        keyPairPool.start();
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(keyPairPool.size(), is(0));
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    void GIVEN_keyTypeChanged_WHEN_take_THEN_staleKeyDroppedAndKeyOfNewTypeReturned() throws Exception {
+        keyPairPool.start();
+        waitForPoolSize(1);
+
+        KeyPair keyPair = keyPairPool.take(CertificateStore.KeyType.RSA_2048);
+
+        assertTrue(CertificateStore.isKeyOfType(keyPair.getPublic(), CertificateStore.KeyType.RSA_2048));
+        assertThat(results, contains(KeyPairPoolEvent.Result.MISS));
+    }
+}
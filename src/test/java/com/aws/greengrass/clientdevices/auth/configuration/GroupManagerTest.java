@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.clientdevices.auth.configuration;
 
+import com.aws.greengrass.clientdevices.auth.PermissionEvaluationUtils;
 import com.aws.greengrass.clientdevices.auth.session.Session;
 import com.aws.greengrass.clientdevices.auth.session.SessionImpl;
 import com.aws.greengrass.clientdevices.auth.configuration.parser.ParseException;
@@ -18,11 +19,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 public class GroupManagerTest {
@@ -95,6 +99,34 @@ public class GroupManagerTest {
         assertThat(groupManager.getApplicablePolicyPermissions(session), is(permissionsMap));
     }
 
+    @Test
+    void GIVEN_policyWithThingNameVariable_WHEN_getApplicableGroupPermissions_THEN_variableBoundToSession()
+            throws AuthorizationException, ParseException {
+        GroupConfiguration groupConfiguration = GroupConfiguration.builder()
+                .definitions(Collections.singletonMap("group1", getGroupDefinition("thing*", "policy1")))
+                .policies(Collections.singletonMap("policy1", Collections.singletonMap("Statement1",
+                        getPolicyStatement("mqtt:publish", "mqtt:topic:devices/${iot:Connection.Thing.ThingName}/#"))))
+                .build();
+        GroupManager groupManager = new GroupManager();
+        groupManager.setGroupConfiguration(groupConfiguration);
+
+        Session sessionA = getSessionFromThing("thingA");
+        List<GroupPermissions> thingA = groupManager.getApplicableGroupPermissions(sessionA);
+        List<GroupPermissions> thingB = groupManager.getApplicableGroupPermissions(getSessionFromThing("thingB"));
+
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:devices/thingA/status",
+                thingA), is(true));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:devices/thingB/status",
+                thingA), is(false));
+        assertThat(PermissionEvaluationUtils.isAuthorized("mqtt:publish", "mqtt:topic:devices/thingB/status",
+                thingB), is(true));
+        // Permissions stay bound to the session until the group configuration changes
+        assertThat(groupManager.getApplicableGroupPermissions(sessionA), sameInstance(thingA));
+        groupManager.setGroupConfiguration(GroupConfiguration.builder()
+                .definitions(groupConfiguration.getDefinitions()).policies(groupConfiguration.getPolicies()).build());
+        assertThat(groupManager.getApplicableGroupPermissions(sessionA), not(sameInstance(thingA)));
+    }
+
     private Session getSessionFromThing(String thingName) {
         Thing thing = Thing.of(thingName);
         return new SessionImpl(thing);
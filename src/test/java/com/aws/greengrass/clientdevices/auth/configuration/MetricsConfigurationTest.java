@@ -20,6 +20,8 @@ import static com.aws.greengrass.clientdevices.auth.configuration.MetricsConfigu
 import static com.aws.greengrass.clientdevices.auth.configuration.MetricsConfiguration.AGGREGATE_PERIOD;
 import static com.aws.greengrass.clientdevices.auth.configuration.MetricsConfiguration.DISABLE_METRICS;
 import static com.aws.greengrass.clientdevices.auth.configuration.MetricsConfiguration.METRICS_TOPIC;
+import static com.aws.greengrass.clientdevices.auth.configuration.MetricsConfiguration.OPEN_METRICS_DISABLED;
+import static com.aws.greengrass.clientdevices.auth.configuration.MetricsConfiguration.OPEN_METRICS_PORT;
 import static com.aws.greengrass.componentmanager.KernelConfigResolver.CONFIGURATION_CONFIG_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -77,4 +79,19 @@ public class MetricsConfigurationTest {
         metricsConfiguration = MetricsConfiguration.from(configurationTopics);
         assertEquals(DEFAULT_PERIODIC_AGGREGATE_INTERVAL_SEC, metricsConfiguration.getAggregatePeriod());
     }
+
+    @Test
+    public void GIVEN_cdaConfiguration_WHEN_openMetricsPortProvided_THEN_endpointEnabledOnValidPortsOnly() {
+        MetricsConfiguration metricsConfiguration = MetricsConfiguration.from(configurationTopics);
+        assertEquals(OPEN_METRICS_DISABLED, metricsConfiguration.getOpenMetricsPort());
+
+        configurationTopics.lookup(METRICS_TOPIC, OPEN_METRICS_PORT).withValue(9_464);
+        MetricsConfiguration enabled = MetricsConfiguration.from(configurationTopics);
+        assertEquals(9_464, enabled.getOpenMetricsPort());
+        assertTrue(enabled.hasChanged(metricsConfiguration));
+
+        configurationTopics.lookup(METRICS_TOPIC, OPEN_METRICS_PORT).withValue(70_000);
+        metricsConfiguration = MetricsConfiguration.from(configurationTopics);
+        assertEquals(OPEN_METRICS_DISABLED, metricsConfiguration.getOpenMetricsPort());
+    }
 }
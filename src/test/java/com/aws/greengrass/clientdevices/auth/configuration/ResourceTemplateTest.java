@@ -0,0 +1,41 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class ResourceTemplateTest {
+
+    @Test
+    void GIVEN_resourceWithoutSupportedVariables_WHEN_parse_THEN_noTemplate() {
+        assertThat(ResourceTemplate.parse("mqtt:topic:devices/thingA"), is(nullValue()));
+        assertThat(ResourceTemplate.parse("mqtt:topic:devices/${iot:ClientId}"), is(nullValue()));
+        assertThat(ResourceTemplate.parse("mqtt:topic:devices/${iot:Connection.Thing.ThingName"), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_resourceWithVariables_WHEN_bind_THEN_valuesSubstituted() {
+        ResourceTemplate template = ResourceTemplate.parse(
+                "mqtt:topic:${iot:Connection.Thing.ThingName}/${iot:ClientId}/${iot:Connection.Thing.ThingName}");
+        Map<PolicyVariable, String> values = new EnumMap<>(PolicyVariable.class);
+        values.put(PolicyVariable.THING_NAME, "thingA");
+
+        assertThat(template.bind(values), is("mqtt:topic:thingA/${iot:ClientId}/thingA"));
+        assertThat(template.bind(Collections.emptyMap()), is(nullValue()));
+    }
+}
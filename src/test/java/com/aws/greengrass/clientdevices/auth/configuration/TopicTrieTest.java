@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.configuration;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class TopicTrieTest {
+
+    @Test
+    void GIVEN_topicFilters_WHEN_validated_THEN_onlyWholeLevelWildcardsAccepted() {
+        assertThat(TopicTrie.hasValidWildcards("a/+/b"), is(true));
+        assertThat(TopicTrie.hasValidWildcards("a/#"), is(true));
+        assertThat(TopicTrie.hasValidWildcards("#"), is(true));
+        assertThat(TopicTrie.hasValidWildcards("a/b"), is(false));
+        assertThat(TopicTrie.hasValidWildcards("a/#/b"), is(false));
+        assertThat(TopicTrie.hasValidWildcards("a/b+"), is(false));
+        assertThat(TopicTrie.hasValidWildcards("a#"), is(false));
+    }
+
+    @Test
+    void GIVEN_singleLevelWildcard_WHEN_match_THEN_exactlyOneLevelMatched() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/+/c", "filter");
+
+        assertThat(trie.match("a/b/c"), is("filter"));
+        assertThat(trie.match("a//c"), is("filter"));
+        assertThat(trie.match("a/+/c"), is("filter"));
+        assertThat(trie.match("a/c"), is(nullValue()));
+        assertThat(trie.match("a/b/b/c"), is(nullValue()));
+        assertThat(trie.match("a/#"), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_multiLevelWildcard_WHEN_match_THEN_parentAndAllChildLevelsMatched() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/#", "filter");
+
+        assertThat(trie.match("a"), is("filter"));
+        assertThat(trie.match("a/b"), is("filter"));
+        assertThat(trie.match("a/b/c"), is("filter"));
+        assertThat(trie.match("a/+/c"), is("filter"));
+        assertThat(trie.match("a/#"), is("filter"));
+        assertThat(trie.match("b/a"), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_overlappingFilters_WHEN_match_THEN_literalBranchFallsBackToWildcard() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/b/c", "literal");
+        trie.add("a/+/d", "wildcard");
+
+        assertThat(trie.match("a/b/c"), is("literal"));
+        assertThat(trie.match("a/b/d"), is("wildcard"));
+        assertThat(trie.match("a/b/e"), is(nullValue()));
+    }
+
+    @Test
+    void GIVEN_firstLevelWildcards_WHEN_matchSystemTopic_THEN_notMatched() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("#", "all");
+        trie.add("+/status", "status");
+        trie.add("$aws/#", "aws");
+
+        assertThat(trie.match("$SYS/status"), is(nullValue()));
+        assertThat(trie.match("$aws/things/t1"), is("aws"));
+        assertThat(trie.match("device/status"), is("all"));
+    }
+}
@@ -5,7 +5,10 @@
 
 package com.aws.greengrass.clientdevices.auth.connectivity;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.certificate.CertificateGenerator;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
+import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateRotationSkipped;
 import com.aws.greengrass.clientdevices.auth.exception.CertificateGenerationException;
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
@@ -41,6 +44,8 @@ import software.amazon.awssdk.services.greengrassv2data.model.ConnectivityInfo;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -51,13 +56,16 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -69,6 +77,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -92,16 +102,23 @@ public class CISShadowMonitorTest {
     private final MqttClientConnection shadowClientConnection = shadowClient.getConnection();
     private final ExecutorService executor = TestUtils.synchronousExecutorService();
     private final FakeConnectivityInformation connectivityInfoProvider = new FakeConnectivityInformation();
+    private final List<CertificateRotationSkipped> skippedRotations = new CopyOnWriteArrayList<>();
 
     @Mock
     CertificateGenerator certificateGenerator;
 
+    CertificateRotationScheduler rotationScheduler;
     CISShadowMonitor cisShadowMonitor;
 
     @BeforeEach
     void setup() {
+        DomainEvents domainEvents = new DomainEvents();
+        domainEvents.registerListener(skippedRotations::add, CertificateRotationSkipped.class);
+        rotationScheduler = new CertificateRotationScheduler(
+                mock(ScheduledExecutorService.class), connectivityInfoProvider, domainEvents);
+        rotationScheduler.setRotationWindow(Duration.ZERO);
         cisShadowMonitor = new CISShadowMonitor(shadowClientConnection, shadowClient, executor, SHADOW_NAME,
-                connectivityInfoProvider);
+                connectivityInfoProvider, rotationScheduler, domainEvents);
     }
 
     @AfterEach
@@ -407,6 +424,132 @@ public class CISShadowMonitorTest {
         verifyCertsRotatedWhenConnectivityChanges();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void GIVEN_CISShadowMonitor_WHEN_new_cis_version_with_same_host_addresses_THEN_rotation_is_skipped()
+            throws Exception {
+        connectivityInfoProvider.setMode(FakeConnectivityInformation.Mode.CONSTANT);
+
+        // capture the subscription callback for shadow delta update
+        ArgumentCaptor<Consumer<MqttMessage>> shadowDeltaUpdatedCallback = ArgumentCaptor.forClass(Consumer.class);
+        when(shadowClientConnection.subscribe(eq(SHADOW_DELTA_UPDATED_TOPIC), any(),
+                shadowDeltaUpdatedCallback.capture())).thenReturn(DUMMY_PACKET_ID);
+
+        Map<String, Object> firstDelta = Utils.immutableMap("version", "1");
+        Map<String, Object> secondDelta = Utils.immutableMap("version", "2");
+
+        // the second version is still reported, even though no certificates were rotated for it
+        WhenUpdateIsPublished whenUpdateIsPublished = WhenUpdateIsPublished.builder()
+                .expectedReportedState(secondDelta)
+                .expectedDesiredState(null)
+                .build();
+        when(shadowClientConnection.publish(argThat(new ShadowUpdateRequestMatcher()), any(), anyBoolean())).thenAnswer(
+                whenUpdateIsPublished);
+        doAnswer(readHostAddresses()).when(certificateGenerator).generateCertificate(any(), any());
+
+        cisShadowMonitor.startMonitor();
+        cisShadowMonitor.addToMonitor(certificateGenerator);
+
+        int version = 1;
+        for (Map<String, Object> delta : Arrays.asList(firstDelta, secondDelta)) {
+            ShadowDeltaUpdatedEvent deltaUpdatedEvent = new ShadowDeltaUpdatedEvent();
+            deltaUpdatedEvent.version = version++;
+            deltaUpdatedEvent.state = new HashMap<>(delta);
+            wrapInMessage(SHADOW_DELTA_UPDATED_TOPIC, deltaUpdatedEvent, false).ifPresent(
+                    resp -> shadowDeltaUpdatedCallback.getValue().accept(resp));
+        }
+
+        assertTrue(whenUpdateIsPublished.getLatch().await(5L, TimeUnit.SECONDS));
+        verify(certificateGenerator, times(1)).generateCertificate(any(), any());
+        assertEquals(1, skippedRotations.size());
+        assertEquals(1, skippedRotations.get(0).getCertificateCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void GIVEN_certificate_rotated_for_other_host_addresses_WHEN_new_cis_version_THEN_certificate_is_rotated()
+            throws Exception {
+        connectivityInfoProvider.setMode(FakeConnectivityInformation.Mode.CONSTANT);
+
+        ArgumentCaptor<Consumer<MqttMessage>> shadowDeltaUpdatedCallback = ArgumentCaptor.forClass(Consumer.class);
+        when(shadowClientConnection.subscribe(eq(SHADOW_DELTA_UPDATED_TOPIC), any(),
+                shadowDeltaUpdatedCallback.capture())).thenReturn(DUMMY_PACKET_ID);
+        WhenUpdateIsPublished whenUpdateIsPublished = WhenUpdateIsPublished.builder()
+                .expectedReportedState(Utils.immutableMap("version", "2"))
+                .expectedDesiredState(null)
+                .build();
+        when(shadowClientConnection.publish(argThat(new ShadowUpdateRequestMatcher()), any(), anyBoolean())).thenAnswer(
+                whenUpdateIsPublished);
+        doAnswer(readHostAddresses()).when(certificateGenerator).generateCertificate(any(), any());
+
+        cisShadowMonitor.startMonitor();
+        cisShadowMonitor.addToMonitor(certificateGenerator);
+
+        publishDelta(shadowDeltaUpdatedCallback.getValue(), 1);
+        // the certificate is rotated for other host addresses, as when local network addresses change
+        connectivityInfoProvider.updateCachedHostAddresses(Collections.singletonList("192.168.1.10"));
+        rotationScheduler.requestRotation(certificateGenerator, "local network addresses changed").get();
+        publishDelta(shadowDeltaUpdatedCallback.getValue(), 2);
+
+        assertTrue(whenUpdateIsPublished.getLatch().await(5L, TimeUnit.SECONDS));
+        verify(certificateGenerator, times(3)).generateCertificate(any(), any());
+        assertTrue(skippedRotations.isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void GIVEN_rotation_failed_for_one_certificate_WHEN_new_cis_version_THEN_only_that_certificate_is_rotated(
+            ExtensionContext context) throws Exception {
+        ignoreExceptionOfType(context, CertificateGenerationException.class);
+        connectivityInfoProvider.setMode(FakeConnectivityInformation.Mode.CONSTANT);
+
+        ArgumentCaptor<Consumer<MqttMessage>> shadowDeltaUpdatedCallback = ArgumentCaptor.forClass(Consumer.class);
+        when(shadowClientConnection.subscribe(eq(SHADOW_DELTA_UPDATED_TOPIC), any(),
+                shadowDeltaUpdatedCallback.capture())).thenReturn(DUMMY_PACKET_ID);
+        WhenUpdateIsPublished whenUpdateIsPublished = WhenUpdateIsPublished.builder()
+                .expectedReportedState(Utils.immutableMap("version", "2"))
+                .expectedDesiredState(null)
+                .build();
+        when(shadowClientConnection.publish(argThat(new ShadowUpdateRequestMatcher()), any(), anyBoolean())).thenAnswer(
+                whenUpdateIsPublished);
+        CertificateGenerator failingGenerator = mock(CertificateGenerator.class);
+        doAnswer(readHostAddresses()).when(certificateGenerator).generateCertificate(any(), any());
+        doThrow(new CertificateGenerationException("simulated failure")).doAnswer(readHostAddresses())
+                .when(failingGenerator).generateCertificate(any(), any());
+
+        cisShadowMonitor.startMonitor();
+        cisShadowMonitor.addToMonitor(certificateGenerator);
+        cisShadowMonitor.addToMonitor(failingGenerator);
+
+        publishDelta(shadowDeltaUpdatedCallback.getValue(), 1);
+        publishDelta(shadowDeltaUpdatedCallback.getValue(), 2);
+
+        assertTrue(whenUpdateIsPublished.getLatch().await(5L, TimeUnit.SECONDS));
+        verify(certificateGenerator, times(1)).generateCertificate(any(), any());
+        verify(failingGenerator, times(2)).generateCertificate(any(), any());
+    }
+
+    private void publishDelta(Consumer<MqttMessage> shadowDeltaUpdatedCallback, int version) {
+        ShadowDeltaUpdatedEvent deltaUpdatedEvent = new ShadowDeltaUpdatedEvent();
+        deltaUpdatedEvent.version = version;
+        deltaUpdatedEvent.state = new HashMap<>(Utils.immutableMap("version", String.valueOf(version)));
+        wrapInMessage(SHADOW_DELTA_UPDATED_TOPIC, deltaUpdatedEvent, false).ifPresent(
+                shadowDeltaUpdatedCallback::accept);
+    }
+
+    /**
+     * Read host addresses the way server certificate generators do, so that the rotation is recorded for them.
+     *
+     * @return answer to certificate generation
+     */
+    @SuppressWarnings("unchecked")
+    private static Answer<Void> readHostAddresses() {
+        return invocation -> {
+            ((Supplier<List<String>>) invocation.getArgument(0)).get();
+            return null;
+        };
+    }
+
     @Test
     void GIVEN_CISShadowMonitor_WHEN_stop_monitor_THEN_unsubscribe() {
         AtomicInteger numSubscriptions = new AtomicInteger();
@@ -569,9 +712,9 @@ public class CISShadowMonitorTest {
         @Override
         public List<ConnectivityInfo> getConnectivityInfo() {
             List<ConnectivityInfo> connectivityInfo = doGetConnectivityInfo();
-            cachedHostAddresses = connectivityInfo.stream().map(ConnectivityInfo::hostAddress).distinct()
-                    .collect(Collectors.toList());
-            responseHashes.add(cachedHostAddresses.hashCode());
+            updateCachedHostAddresses(
+                    connectivityInfo.stream().map(ConnectivityInfo::hostAddress).collect(Collectors.toList()));
+            responseHashes.add(getCachedHostAddresses().hashCode());
             return connectivityInfo;
         }
 
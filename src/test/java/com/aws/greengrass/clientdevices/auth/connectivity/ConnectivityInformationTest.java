@@ -33,6 +33,7 @@ import static com.aws.greengrass.deployment.DeviceConfiguration.DEVICE_PARAM_THI
 import static com.aws.greengrass.testcommons.testutilities.ExceptionLogProtector.ignoreExceptionOfType;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -124,6 +125,23 @@ public class ConnectivityInformationTest {
         assertThat(connectivityInfos, containsInAnyOrder("172.8.8.10", "localhost"));
     }
 
+    @Test
+    void GIVEN_cached_connectivity_info_WHEN_no_connectivity_info_returned_THEN_cached_connectivity_info_kept() {
+        ConnectivityInfo connectivityInfo =
+                ConnectivityInfo.builder().hostAddress("172.8.8.10").metadata("").id("172.8.8.10").portNumber(8883)
+                        .build();
+        GetConnectivityInfoResponse getConnectivityInfoResponse = GetConnectivityInfoResponse.builder()
+                .connectivityInfo(Collections.singletonList(connectivityInfo)).build();
+        when(greengrassV2DataClient.getConnectivityInfo(any(GetConnectivityInfoRequest.class)))
+                .thenReturn(getConnectivityInfoResponse, GetConnectivityInfoResponse.builder().build());
+
+        connectivityInformation.getConnectivityInfo();
+        assertThat(connectivityInformation.getConnectivityInfo(), is(empty()));
+        assertThat(connectivityInformation.getCachedHostAddresses(), contains("172.8.8.10"));
+        assertThat(connectivityInformation.getAggregatedConnectivityInformation(),
+                contains(HostAddress.of("172.8.8.10")));
+    }
+
     @Test
     void GIVEN_missingConnectivityInfo_WHEN_getConnectivityInformation_THEN_returnEmptySet() {
         Set<HostAddress> connectivityInfo = connectivityInformation.getAggregatedConnectivityInformation();
@@ -194,4 +212,36 @@ public class ConnectivityInformationTest {
         assertTrue(mergedConnectivityInfo.containsAll(overlappingConnectivityInfo));
         assertThat(mergedConnectivityInfo.size(), is(sourceConnectivityInfo.size()));
     }
+
+    @Test
+    void GIVEN_differentSpellingsOfSameHosts_WHEN_hostAddressesCached_THEN_normalizedAndDeduplicated() {
+        ConnectivityInformation.CachedHostAddresses hostAddresses = ConnectivityInformation.CachedHostAddresses.of(
+                Arrays.asList(" LocalHost ", "localhost.", "::1", "0:0:0:0:0:0:0:1", "[::1]", "172.8.8.10"));
+        ConnectivityInformation.CachedHostAddresses reordered = ConnectivityInformation.CachedHostAddresses.of(
+                Arrays.asList("172.8.8.10", "0:0:0:0:0:0:0:1", "localhost"));
+
+        assertThat(hostAddresses.getHostAddresses(), contains("0:0:0:0:0:0:0:1", "172.8.8.10", "localhost"));
+        assertThat(hostAddresses, is(reordered));
+        assertThat(hostAddresses.hashCode(), is(reordered.hashCode()));
+    }
+
+    @Test
+    void GIVEN_connectivityInfoFromMultipleSources_WHEN_recordConnectivityInformation_THEN_diffReturned() {
+        Set<HostAddress> sourceConnectivityInfo =
+                Stream.of("localhost", "127.0.0.1").map(HostAddress::of).collect(Collectors.toSet());
+        connectivityInformation.recordConnectivityInformationForSource("source", sourceConnectivityInfo);
+
+        // Only addresses new to the aggregated connectivity information count as added
+        RecordConnectivityChangesResponse response = connectivityInformation.recordConnectivityInformationForSource(
+                "source2", Stream.of("LOCALHOST", "192.168.1.1").map(HostAddress::of).collect(Collectors.toSet()));
+        assertThat(response.getAddedHostAddresses(), contains(HostAddress.of("192.168.1.1")));
+        assertThat(response.getRemovedHostAddresses(), is(empty()));
+
+        response = connectivityInformation.recordConnectivityInformationForSource("source", Collections.emptySet());
+        assertThat(response.getAddedHostAddresses(), is(empty()));
+        assertThat(response.getRemovedHostAddresses(), contains(HostAddress.of("127.0.0.1")));
+
+        response = connectivityInformation.recordConnectivityInformationForSource("source", Collections.emptySet());
+        assertFalse(response.didChange());
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.connectivity;
+
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateGenerator;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateRotationScheduler;
+import com.aws.greengrass.clientdevices.auth.certificate.CertificatesConfig;
+import com.aws.greengrass.config.Topics;
+import com.aws.greengrass.dependency.Context;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.aws.greengrass.componentmanager.KernelConfigResolver.CONFIGURATION_CONFIG_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings("PMD.AvoidUsingHardCodedIP")
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class NetworkInterfaceConnectivityMonitorTest {
+    @Mock
+    private ScheduledExecutorService sesMock;
+    @Mock
+    private CertificateRotationScheduler rotationSchedulerMock;
+    @Mock
+    private CertificateGenerator certificateGeneratorMock;
+
+    private final AtomicReference<Set<HostAddress>> localAddresses =
+            new AtomicReference<>(Collections.emptySet());
+    private Topics configurationTopics;
+    private ConnectivityInformation connectivityInformation;
+    private NetworkInterfaceConnectivityMonitor monitor;
+
+    @BeforeEach
+    void beforeEach() {
+        configurationTopics = Topics.of(new Context(), CONFIGURATION_CONFIG_KEY, null);
+        connectivityInformation = new ConnectivityInformation(null, null);
+        monitor = new NetworkInterfaceConnectivityMonitor(sesMock, connectivityInformation, rotationSchedulerMock,
+                localAddresses::get);
+        monitor.addToMonitor(certificateGeneratorMock);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        monitor.stopMonitor();
+        configurationTopics.getContext().close();
+    }
+
+    @Test
+    void GIVEN_monitorEnabled_WHEN_localAddressesChange_THEN_combinedWithOtherSourcesAndCertsRotated() {
+        enableMonitor(true);
+        monitor.startMonitor();
+        verify(sesMock).scheduleWithFixedDelay(any(), eq(0L), anyLong(), any());
+
+        connectivityInformation.recordConnectivityInformationForSource("connectivity-information-service",
+                hostAddresses("greengrass.example.com"));
+        localAddresses.set(hostAddresses("192.168.1.10"));
+        monitor.pollOnce();
+
+        assertThat(connectivityInformation.getCachedHostAddresses(),
+                contains("192.168.1.10", "greengrass.example.com"));
+        verify(rotationSchedulerMock, times(1)).requestRotations(anyCollection(), anyString());
+
+        // Polling unchanged interfaces neither records nor rotates anything
+        monitor.pollOnce();
+        verify(rotationSchedulerMock, times(1)).requestRotations(anyCollection(), anyString());
+
+        // DHCP handed out a new address
+        localAddresses.set(hostAddresses("192.168.1.23"));
+        monitor.pollOnce();
+        assertThat(connectivityInformation.getCachedHostAddresses(),
+                contains("192.168.1.23", "greengrass.example.com"));
+        verify(rotationSchedulerMock, times(2)).requestRotations(anyCollection(), anyString());
+    }
+
+    @Test
+    void GIVEN_addressAlreadyKnownFromAnotherSource_WHEN_localAddressesChange_THEN_certsNotRotated() {
+        enableMonitor(true);
+        connectivityInformation.recordConnectivityInformationForSource("connectivity-information-service",
+                hostAddresses("192.168.1.10"));
+        localAddresses.set(hostAddresses("192.168.1.10"));
+
+        monitor.pollOnce();
+
+        verify(rotationSchedulerMock, never()).requestRotations(anyCollection(), anyString());
+    }
+
+    @Test
+    void GIVEN_monitorDisabled_WHEN_started_THEN_interfacesNotPolled() {
+        enableMonitor(false);
+        monitor.startMonitor();
+        localAddresses.set(hostAddresses("192.168.1.10"));
+
+        monitor.pollOnce();
+
+        verify(sesMock, never()).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        assertThat(connectivityInformation.getCachedHostAddresses().isEmpty(), is(true));
+        verify(rotationSchedulerMock, never()).requestRotations(anyCollection(), anyString());
+    }
+
+    @Test
+    void GIVEN_localNetworkInterfaces_WHEN_getNetworkInterfaceAddresses_THEN_noLoopbackAddresses() throws Exception {
+        for (HostAddress address : NetworkInterfaceConnectivityMonitor.getNetworkInterfaceAddresses()) {
+            assertThat(address.isIPAddress(), is(true));
+            assertThat(address.getHost().startsWith("127."), is(false));
+        }
+    }
+
+    private void enableMonitor(boolean enabled) {
+        configurationTopics.lookup(CONFIGURATION_CONFIG_KEY, "certificates", "includeLocalNetworkAddresses")
+                .withValue(enabled);
+        monitor.updateCertificatesConfiguration(new CertificatesConfig(configurationTopics));
+    }
+
+    private static Set<HostAddress> hostAddresses(String... hosts) {
+        return Stream.of(hosts).map(HostAddress::of).collect(Collectors.toSet());
+    }
+}
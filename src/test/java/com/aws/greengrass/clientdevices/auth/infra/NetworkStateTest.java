@@ -10,6 +10,7 @@ import com.aws.greengrass.mqttclient.MqttClient;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -20,9 +21,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.crt.mqtt.MqttClientConnectionEvents;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -30,6 +36,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -45,18 +52,22 @@ public class NetworkStateTest {
     @Captor
     static ArgumentCaptor<MqttClientConnectionEvents> connectionEventsArgumentCaptor;
     private ForkJoinPool fjp = new ForkJoinPool();
+    private ScheduledExecutorService ses;
     private NetworkStateProvider.Default networkState;
 
     @BeforeEach
     void beforeEach() {
         fjp = new ForkJoinPool();
-        networkState = new NetworkStateProvider.Default(mqttClient, fjp);
+        ses = Executors.newSingleThreadScheduledExecutor();
+        networkState = new NetworkStateProvider.Default(mqttClient, fjp, ses);
+        networkState.setSettleWindow(Duration.ofMillis(100));
         verify(mqttClient).addToCallbackEvents(onConnectCaptor.capture(), connectionEventsArgumentCaptor.capture());
     }
 
     @AfterEach
     void afterEach() {
         fjp.shutdown();
+        ses.shutdownNow();
     }
 
     @ParameterizedTest
@@ -89,6 +100,61 @@ public class NetworkStateTest {
         assertThat(connState.get(), is(expectedState));
     }
 
+    @Test
+    void GIVEN_connectionFlapping_WHEN_connectionSettles_THEN_onlyLastStateDispatchedOnce() throws Exception {
+        CountDownLatch cdl = new CountDownLatch(1);
+        List<NetworkStateProvider.ConnectionState> received = new CopyOnWriteArrayList<>();
+        networkState.registerHandler((state) -> {
+            received.add(state);
+            cdl.countDown();
+        });
+
+        for (int i = 0; i < 10; i++) {
+            connectionEventsArgumentCaptor.getValue().onConnectionInterrupted(0);
+            connectionEventsArgumentCaptor.getValue().onConnectionResumed(true);
+        }
+
+        assertTrue(cdl.await(1, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        assertThat(received, contains(NetworkStateProvider.ConnectionState.NETWORK_UP));
+    }
+
+    @Test
+    void GIVEN_connectionFlappingFasterThanSettleWindow_WHEN_flappingContinues_THEN_stateDispatched()
+            throws Exception {
+        CountDownLatch cdl = new CountDownLatch(1);
+        networkState.registerHandler((state) -> cdl.countDown());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (cdl.getCount() > 0 && System.nanoTime() < deadline) {
+            connectionEventsArgumentCaptor.getValue().onConnectionInterrupted(0);
+            connectionEventsArgumentCaptor.getValue().onConnectionResumed(true);
+            Thread.sleep(20);
+        }
+
+        // The connection never settled, so the state was dispatched once the maximum delay elapsed
+        assertTrue(cdl.await(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void GIVEN_slowHandler_WHEN_connectionStateChanges_THEN_otherHandlersNotDelayed() throws Exception {
+        CountDownLatch slowHandlerRelease = new CountDownLatch(1);
+        CountDownLatch fastHandlerCalled = new CountDownLatch(1);
+        networkState.registerHandler((state) -> {
+            try {
+                slowHandlerRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        networkState.registerHandler((state) -> fastHandlerCalled.countDown());
+
+        onConnectCaptor.getValue().onConnect(true);
+
+        assertTrue(fastHandlerCalled.await(1, TimeUnit.SECONDS));
+        slowHandlerRelease.countDown();
+    }
+
     // Called by JUnit
     @SuppressWarnings("PMD.UnusedPrivateMethod")
     private static Stream<Arguments> provideNetworkEventsAndExpectedState() {
@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.iot;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.iot.events.CloudCircuitBreakerEvent;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class CloudCircuitBreakerTest {
+    @Mock
+    private Clock clock;
+    private Instant now;
+    private List<CloudCircuitBreakerEvent.Status> events;
+    private CloudCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void beforeEach() {
+        now = Instant.now();
+        lenient().when(clock.instant()).thenAnswer(invocation -> now);
+        events = new ArrayList<>();
+        DomainEvents domainEvents = new DomainEvents();
+        domainEvents.registerListener(e -> events.add(e.getStatus()), CloudCircuitBreakerEvent.class);
+        circuitBreaker = new CloudCircuitBreaker(clock, domainEvents);
+    }
+
+    private void failCalls(int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onFailure();
+        }
+    }
+
+    @Test
+    void GIVEN_fewerFailuresThanMinimumCalls_WHEN_tryAcquire_THEN_callPermitted() {
+        failCalls(CloudCircuitBreaker.MIN_CALLS - 1);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertThat(circuitBreaker.getState(), is(CloudCircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void GIVEN_mostlySuccessfulCalls_WHEN_tryAcquire_THEN_breakerStaysClosed() {
+        for (int i = 0; i < CloudCircuitBreaker.WINDOW_SIZE; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            if (i % 4 == 0) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess(Duration.ofMillis(100));
+            }
+        }
+
+        assertThat(circuitBreaker.getState(), is(CloudCircuitBreaker.State.CLOSED));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void GIVEN_slowCalls_WHEN_failureRateExceeded_THEN_breakerOpensAndShortCircuits() {
+        for (int i = 0; i < CloudCircuitBreaker.MIN_CALLS; i++) {
+            assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.onSuccess(CloudCircuitBreaker.SLOW_CALL_THRESHOLD.plusSeconds(1));
+        }
+
+        assertThat(circuitBreaker.getState(), is(CloudCircuitBreaker.State.OPEN));
+        assertFalse(circuitBreaker.tryAcquire());
+        assertThat(events, contains(CloudCircuitBreakerEvent.Status.OPENED,
+                CloudCircuitBreakerEvent.Status.SHORT_CIRCUITED));
+    }
+
+    @Test
+    void GIVEN_openBreaker_WHEN_openDurationElapses_THEN_singleProbeAllowedAndSuccessCloses() {
+        failCalls(CloudCircuitBreaker.MIN_CALLS);
+        now = now.plus(CloudCircuitBreaker.OPEN_DURATION);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertThat(circuitBreaker.getState(), is(CloudCircuitBreaker.State.HALF_OPEN));
+
+        circuitBreaker.onSuccess(Duration.ofMillis(100));
+
+        assertThat(circuitBreaker.getState(), is(CloudCircuitBreaker.State.CLOSED));
+        assertTrue(circuitBreaker.tryAcquire());
+        assertThat(events, contains(CloudCircuitBreakerEvent.Status.OPENED,
+                CloudCircuitBreakerEvent.Status.HALF_OPENED, CloudCircuitBreakerEvent.Status.SHORT_CIRCUITED,
+                CloudCircuitBreakerEvent.Status.CLOSED));
+    }
+
+    @Test
+    void GIVEN_halfOpenBreaker_WHEN_probeFails_THEN_breakerReopens() {
+        failCalls(CloudCircuitBreaker.MIN_CALLS);
+        now = now.plus(CloudCircuitBreaker.OPEN_DURATION);
+
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState(), is(CloudCircuitBreaker.State.OPEN));
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+}
@@ -5,6 +5,7 @@
 
 package com.aws.greengrass.clientdevices.auth.iot;
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
 import com.aws.greengrass.deployment.exceptions.DeviceConfigurationException;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
@@ -16,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.greengrassv2data.GreengrassV2DataClient;
 import software.amazon.awssdk.services.greengrassv2data.model.AccessDeniedException;
@@ -26,6 +28,8 @@ import software.amazon.awssdk.services.greengrassv2data.model.VerifyClientDevice
 import software.amazon.awssdk.services.greengrassv2data.model.VerifyClientDeviceIoTCertificateAssociationRequest;
 import software.amazon.awssdk.services.greengrassv2data.model.VerifyClientDeviceIoTCertificateAssociationResponse;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +40,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,6 +57,9 @@ public class IotAuthClientTest {
     @Mock
     private GreengrassV2DataClient client;
 
+    @Spy
+    private CloudCircuitBreaker circuitBreaker = new CloudCircuitBreaker(Clock.systemUTC(), new DomainEvents());
+
     @Captor
     private ArgumentCaptor<VerifyClientDeviceIdentityRequest> identityRequestCaptor;
 
@@ -189,4 +197,23 @@ public class IotAuthClientTest {
         assertThrows(IllegalArgumentException.class,
                 () -> iotAuthClient.isThingAttachedToCertificate(thing, certificate));
     }
+
+    @Test
+    void GIVEN_cloudCallsFailing_WHEN_circuitBreakerOpens_THEN_cloudNotCalled(ExtensionContext context) {
+        ignoreExceptionOfType(context, AccessDeniedException.class);
+        when(client.verifyClientDeviceIdentity(any(VerifyClientDeviceIdentityRequest.class)))
+                .thenThrow(AccessDeniedException.class);
+        for (int i = 0; i < CloudCircuitBreaker.MIN_CALLS; i++) {
+            assertThrows(CloudServiceInteractionException.class,
+                    () -> iotAuthClient.getActiveCertificateId("certificatePem"));
+        }
+        assertThat(circuitBreaker.getState(), is(CloudCircuitBreaker.State.OPEN));
+
+        when(thing.getThingName()).thenReturn("thingName");
+        assertThrows(CloudServiceInteractionException.class,
+                () -> iotAuthClient.isThingAttachedToCertificate(thing, "certificateId"));
+        verify(client, never()).verifyClientDeviceIoTCertificateAssociation(
+                any(VerifyClientDeviceIoTCertificateAssociationRequest.class));
+        verify(circuitBreaker, never()).onSuccess(any(Duration.class));
+    }
 }
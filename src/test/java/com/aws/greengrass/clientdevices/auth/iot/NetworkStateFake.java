@@ -7,6 +7,7 @@ package com.aws.greengrass.clientdevices.auth.iot;
 
 import com.aws.greengrass.clientdevices.auth.infra.NetworkStateProvider;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -14,6 +15,7 @@ import java.util.function.Consumer;
 public class NetworkStateFake implements NetworkStateProvider {
     private final List<Consumer<ConnectionState>> handlers = new ArrayList<>();
     private NetworkStateProvider.ConnectionState connectionState;
+    private Instant lastNetworkUp = Instant.EPOCH;
 
     @Override
     public void registerHandler(Consumer<ConnectionState> networkChangeHandler) {
@@ -25,7 +27,13 @@ public class NetworkStateFake implements NetworkStateProvider {
         return this.connectionState;
     }
 
+    @Override
+    public Instant getLastNetworkUp() {
+        return lastNetworkUp;
+    }
+
     public void goOnline() {
+        this.lastNetworkUp = Instant.now();
         this.connectionState = ConnectionState.NETWORK_UP;
         emit();
     }
@@ -26,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 
 import static com.aws.greengrass.clientdevices.auth.helpers.CertificateTestHelpers.createClientCertificate;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -62,15 +63,40 @@ class VerifyThingAttachedToCertificateTest {
                 new VerifyThingAttachedToCertificateDTO(thing.getThingName(), thingCertificate.getCertificateId());
 
         when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockNetworkState.getLastNetworkUp()).thenReturn(Instant.EPOCH);
         when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
 
         // positive result
         assertThat(verifyThingAttachedToCertificate.apply(dto), is(true));
 
-        // negative result
+        // the fresh local record answers until cloud verification is required
         iotAuthClientFake.detachCertificateFromThing(thing.getThingName(), certPem);
+        assertThat(verifyThingAttachedToCertificate.apply(dto), is(true));
+
+        // negative result
+        VerifyThingAttachedToCertificateDTO cloudDto = new VerifyThingAttachedToCertificateDTO(
+                thing.getThingName(), thingCertificate.getCertificateId(), true);
+        assertThat(verifyThingAttachedToCertificate.apply(cloudDto), is(false));
         assertThat(verifyThingAttachedToCertificate.apply(dto), is(false));
+    }
 
+    @Test
+    void GIVEN_attachmentVerifiedBeforeNetworkUp_WHEN_verifyThingAttachedToCertificate_THEN_returnCloudResult()
+            throws Exception {
+        Thing thing = Thing.of("thing-1");
+        X509Certificate certificate = createTestClientCertificate();
+        String certPem = CertificateHelper.toPem(certificate);
+        Certificate thingCertificate = Certificate.fromPem(certPem);
+        thing.attachCertificate(thingCertificate.getCertificateId());
+        VerifyThingAttachedToCertificateDTO dto =
+                new VerifyThingAttachedToCertificateDTO(thing.getThingName(), thingCertificate.getCertificateId());
+
+        when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockNetworkState.getLastNetworkUp()).thenReturn(Instant.now().plusSeconds(1));
+        when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
+
+        // the certificate was detached in the cloud while the local record was fresh
+        assertThat(verifyThingAttachedToCertificate.apply(dto), is(false));
     }
 
     @Test
@@ -84,6 +110,7 @@ class VerifyThingAttachedToCertificateTest {
                 new VerifyThingAttachedToCertificateDTO(thing.getThingName(), thingCertificate.getCertificateId());
 
         when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_DOWN);
+        when(mockNetworkState.getLastNetworkUp()).thenReturn(Instant.EPOCH);
         when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
 
         // positive result
@@ -114,6 +141,7 @@ class VerifyThingAttachedToCertificateTest {
                 new VerifyThingAttachedToCertificate(mockIotAuthClient, mockThingRegistry, mockNetworkState);
 
         when(mockNetworkState.getConnectionState()).thenReturn(NetworkStateProvider.ConnectionState.NETWORK_UP);
+        when(mockNetworkState.getLastNetworkUp()).thenReturn(Instant.EPOCH);
         when(mockThingRegistry.getThing(thing.getThingName())).thenReturn(thing);
 
         // positive result
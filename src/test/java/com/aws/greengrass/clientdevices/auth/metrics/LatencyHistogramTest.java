@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class LatencyHistogramTest {
+    private static final int THREADS = 4;
+    private static final int RECORDINGS_PER_THREAD = 1000;
+
+    @Test
+    void GIVEN_values_WHEN_bucketed_THEN_bucketContainsValueWithBoundedError() {
+        for (long micros = 0; micros < TimeUnit.SECONDS.toMicros(1); micros += 7) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertThat(upperBound, is(greaterThanOrEqualTo(micros)));
+            assertThat(upperBound - micros, is(lessThanOrEqualTo(micros / 16)));
+        }
+    }
+
+    @Test
+    void GIVEN_latenciesRecordedOnSeveralThreads_WHEN_snapshotAndReset_THEN_mergedPercentilesReported()
+            throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            threads[t] = new Thread(() -> {
+                // 1ms to 1000ms, so that percentile p is close to p * 10ms
+                for (int i = 1; i <= RECORDINGS_PER_THREAD; i++) {
+                    histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.getCount(), is((long) THREADS * RECORDINGS_PER_THREAD));
+        assertThat(snapshot.getMaxMicros(), is(TimeUnit.MILLISECONDS.toMicros(1000)));
+        assertWithinBucketError(snapshot.getValueAtPercentile(50), TimeUnit.MILLISECONDS.toMicros(500));
+        assertWithinBucketError(snapshot.getValueAtPercentile(90), TimeUnit.MILLISECONDS.toMicros(900));
+        assertWithinBucketError(snapshot.getValueAtPercentile(99), TimeUnit.MILLISECONDS.toMicros(990));
+
+        // Recorded latencies are reset by the snapshot
+        assertThat(histogram.snapshotAndReset().getCount(), is(0L));
+    }
+
+    private static void assertWithinBucketError(long actual, long expected) {
+        assertThat(actual, is(allOf(greaterThanOrEqualTo(expected), lessThanOrEqualTo(expected + expected / 16))));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.telemetry.impl.Metric;
+import com.aws.greengrass.telemetry.models.TelemetryAggregation;
+import com.aws.greengrass.telemetry.models.TelemetryUnit;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class MetricRegistryTest {
+    private static final String NAMESPACE = "test";
+
+    private final MetricRegistry registry = new MetricRegistry(NAMESPACE);
+
+    @Test
+    void GIVEN_countersIncrementedConcurrently_WHEN_collected_THEN_sumReportedAndReset() throws Exception {
+        MetricRegistry.Counter counter = registry.counter("Counter");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        counter.increment();
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<Metric> collected = registry.collect(1L);
+        assertThat(collected.size(), is(1));
+        assertThat(collected.get(0).getValue(), is(40_000L));
+        assertThat(collected.get(0).getAggregation(), is(TelemetryAggregation.Sum));
+        assertThat(collected.get(0).getUnit(), is(TelemetryUnit.Count));
+        assertThat(collected.get(0).getNamespace(), is(NAMESPACE));
+        assertThat(collected.get(0).getTimestamp(), is(1L));
+
+        // Counters are reset, and zero values left out
+        assertThat(registry.collect(2L), is(empty()));
+    }
+
+    @Test
+    void GIVEN_registeredMetrics_WHEN_collected_THEN_reportedInRegistrationOrder() {
+        AtomicLong depth = new AtomicLong();
+        registry.maximum("Maximum", TelemetryUnit.Milliseconds).record(5L);
+        registry.gauge("Gauge", TelemetryUnit.Count, depth::get);
+        registry.counter("Counter").add(3L);
+        registry.maximum("Maximum", TelemetryUnit.Milliseconds).record(2L);
+
+        assertThat(names(registry.collect(1L)), contains("Maximum", "Gauge", "Counter"));
+
+        // Gauges are sampled every time, even when zero
+        depth.set(7L);
+        List<Metric> collected = registry.collect(2L);
+        assertThat(names(collected), contains("Gauge"));
+        assertThat(collected.get(0).getValue(), is(7L));
+        assertThat(collected.get(0).getAggregation(), is(TelemetryAggregation.Average));
+    }
+
+    @Test
+    void GIVEN_latency_WHEN_collected_THEN_percentilesReported() {
+        LatencyHistogram histogram = registry.latency("Op.Latency");
+        assertThat(registry.latency("Op.Latency"), is(sameInstance(histogram)));
+        histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(4));
+
+        assertThat(names(registry.collect(1L)),
+                contains("Op.Latency.P50", "Op.Latency.P90", "Op.Latency.P99", "Op.Latency.Max"));
+        assertThat(registry.collect(2L), is(empty()));
+    }
+
+    @Test
+    void GIVEN_registeredMetric_WHEN_registeredWithOtherType_THEN_exceptionThrown() {
+        registry.counter("Metric");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.latency("Metric"));
+        assertThrows(IllegalArgumentException.class, () -> registry.gauge("Metric", TelemetryUnit.Count, () -> 0L));
+    }
+
+    private static List<String> names(List<Metric> metrics) {
+        return metrics.stream().map(Metric::getName).collect(Collectors.toList());
+    }
+}
@@ -6,14 +6,18 @@
 package com.aws.greengrass.clientdevices.auth.metrics;
 
 import com.aws.greengrass.clientdevices.auth.api.AuthorizeClientDeviceActionEvent;
+import com.aws.greengrass.clientdevices.auth.api.AuthorizeClientDeviceActionsBatchEvent;
 import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.api.GetCertificateRequestOptions;
 import com.aws.greengrass.clientdevices.auth.api.ServiceErrorEvent;
+import com.aws.greengrass.clientdevices.auth.api.ServiceOperationLatencyEvent;
 import com.aws.greengrass.clientdevices.auth.certificate.events.CertificateSubscriptionEvent;
 import com.aws.greengrass.clientdevices.auth.iot.events.VerifyClientDeviceIdentityEvent;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.AuthorizeClientDeviceActionsBatchMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.AuthorizeClientDeviceActionsMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.CertificateSubscriptionEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.ServiceErrorEventHandler;
+import com.aws.greengrass.clientdevices.auth.metrics.handlers.ServiceOperationLatencyMetricHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.SessionCreationEventHandler;
 import com.aws.greengrass.clientdevices.auth.metrics.handlers.VerifyClientDeviceIdentityEventHandler;
 import com.aws.greengrass.clientdevices.auth.session.events.SessionCreationEvent;
@@ -30,6 +34,10 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -61,6 +69,8 @@ public class MetricsTest {
         authorizeClientDeviceActionsMetricHandler.listen();
         sessionCreationEventHandler.listen();
         serviceErrorEventHandler.listen();
+        new ServiceOperationLatencyMetricHandler(domainEvents, metrics).listen();
+        new AuthorizeClientDeviceActionsBatchMetricHandler(domainEvents, metrics).listen();
     }
 
     @Test
@@ -74,7 +84,7 @@ public class MetricsTest {
                 .VerificationStatus.SUCCESS));
         domainEvents.emit(new SessionCreationEvent(SessionCreationEvent.SessionCreationStatus.SUCCESS));
 
-        List<Metric> collectedMetrics = metrics.collectMetrics();
+        List<Metric> collectedMetrics = collectMetrics();
 
         // Checking if any metrics with a value of 0 are included in the list
         long numZeroValueMetrics = collectedMetrics.stream()
@@ -106,7 +116,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric subscribeSuccess = metrics.collectMetrics().stream()
+        Metric subscribeSuccess = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_SUBSCRIBE_TO_CERTIFICATE_UPDATES_SUCCESS))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -139,7 +149,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric subscribeFail = metrics.collectMetrics().stream()
+        Metric subscribeFail = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_SUBSCRIBE_TO_CERTIFICATE_UPDATES_FAILURE))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -169,7 +179,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric verifyDeviceIdentitySuccess = metrics.collectMetrics().stream()
+        Metric verifyDeviceIdentitySuccess = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_SUCCESS))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -199,7 +209,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric verifyDeviceIdentityFail = metrics.collectMetrics().stream()
+        Metric verifyDeviceIdentityFail = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_VERIFY_CLIENT_DEVICE_IDENTITY_FAILURE))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -232,7 +242,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric authorizeClientDeviceActionSuccess = metrics.collectMetrics().stream()
+        Metric authorizeClientDeviceActionSuccess = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_SUCCESS))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -265,7 +275,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric authorizeClientDeviceActionFailure = metrics.collectMetrics().stream()
+        Metric authorizeClientDeviceActionFailure = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_FAILURE))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -295,7 +305,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric getAuthTokenSuccess = metrics.collectMetrics().stream()
+        Metric getAuthTokenSuccess = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_SUCCESS))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -325,7 +335,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric getAuthTokenFailure = metrics.collectMetrics().stream()
+        Metric getAuthTokenFailure = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_GET_CLIENT_DEVICE_AUTH_TOKEN_FAILURE))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -355,7 +365,7 @@ public class MetricsTest {
                 .timestamp(Instant.now(clock).toEpochMilli())
                 .build();
 
-        Metric serviceError = metrics.collectMetrics().stream()
+        Metric serviceError = collectMetrics().stream()
                 .filter(m -> m.getName().equals(ClientDeviceAuthMetrics.METRIC_SERVICE_ERROR))
                 .findFirst()
                 .orElseGet(() -> fail("metric not collected"));
@@ -367,4 +377,53 @@ public class MetricsTest {
         assertEquals(metric.getUnit(), serviceError.getUnit());
         assertEquals(metric.getNamespace(), serviceError.getNamespace());
     }
+
+    @Test
+    void GIVEN_authorizeLatencyEvents_WHEN_metricsCollected_THEN_latencyPercentilesEmittedOnce() {
+        for (int i = 1; i <= 100; i++) {
+            domainEvents.emit(new ServiceOperationLatencyEvent(
+                    ServiceOperationLatencyEvent.Operation.AUTHORIZE_CLIENT_DEVICE_ACTION,
+                    TimeUnit.MILLISECONDS.toNanos(i)));
+        }
+
+        Map<String, Metric> collected = collectMetrics().stream()
+                .collect(Collectors.toMap(Metric::getName, Function.identity()));
+
+        String name = ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_LATENCY;
+        assertEquals(4, collected.size());
+        assertEquals(50.0, (double) collected.get(name + ClientDeviceAuthMetrics.LATENCY_P50_SUFFIX).getValue(),
+                50.0 / 16);
+        assertEquals(90.0, (double) collected.get(name + ClientDeviceAuthMetrics.LATENCY_P90_SUFFIX).getValue(),
+                90.0 / 16);
+        assertEquals(99.0, (double) collected.get(name + ClientDeviceAuthMetrics.LATENCY_P99_SUFFIX).getValue(),
+                99.0 / 16);
+        Metric max = collected.get(name + ClientDeviceAuthMetrics.LATENCY_MAX_SUFFIX);
+        assertEquals(100.0, max.getValue());
+        assertEquals(TelemetryUnit.Milliseconds, max.getUnit());
+        assertEquals(TelemetryAggregation.Maximum, max.getAggregation());
+
+        // Latencies are only reported for the interval they were recorded in
+        assertEquals(0, collectMetrics().size());
+    }
+
+    @Test
+    void GIVEN_authorizeBatchEvent_WHEN_metricsCollected_THEN_eachActionCountedAndBatchLatencyEmitted() {
+        domainEvents.emit(new AuthorizeClientDeviceActionsBatchEvent(3, 2, TimeUnit.MILLISECONDS.toNanos(4)));
+
+        Map<String, Metric> collected = collectMetrics().stream()
+                .collect(Collectors.toMap(Metric::getName, Function.identity()));
+
+        assertEquals(3L,
+                collected.get(ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_SUCCESS).getValue());
+        assertEquals(2L,
+                collected.get(ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_FAILURE).getValue());
+        assertEquals(4.0, collected.get(ClientDeviceAuthMetrics.METRIC_AUTHORIZE_CLIENT_DEVICE_ACTIONS_BATCH_LATENCY
+                + ClientDeviceAuthMetrics.LATENCY_MAX_SUFFIX).getValue());
+    }
+
+    private List<Metric> collectMetrics() {
+        // Metric handlers are asynchronous, so deliver their events before collecting
+        domainEvents.flush();
+        return metrics.collectMetrics();
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.telemetry.models.TelemetryUnit;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class OpenMetricsEndpointTest {
+    private ClientDeviceAuthMetrics metrics;
+    private OpenMetricsEndpoint endpoint;
+
+    @BeforeEach
+    void beforeEach() {
+        metrics = new ClientDeviceAuthMetrics(Clock.systemUTC());
+        endpoint = new OpenMetricsEndpoint(metrics);
+    }
+
+    @AfterEach
+    void afterEach() {
+        endpoint.stop();
+    }
+
+    @Test
+    void GIVEN_cdaMetricNames_WHEN_converted_THEN_openMetricsSnakeCaseNames() {
+        assertThat(OpenMetricsRenderer.toMetricName("CISShadowMonitor.MonitoredCertificates"),
+                is("cda_cis_shadow_monitor_monitored_certificates"));
+        assertThat(OpenMetricsRenderer.toMetricName("RequestStage.PEM_PARSING.Latency"),
+                is("cda_request_stage_pem_parsing_latency"));
+        assertThat(OpenMetricsRenderer.toMetricName("Cert.Subscribe.Success"), is("cda_cert_subscribe_success"));
+    }
+
+    @Test
+    void GIVEN_registryMetrics_WHEN_rendered_THEN_runningTotalsRenderedWithoutResettingAggregation() {
+        MetricRegistry registry = new MetricRegistry("test");
+        registry.counter("Test.Counter").add(3);
+        registry.gauge("Test.Gauge", TelemetryUnit.Count, () -> 7L);
+        LatencyHistogram latency = registry.latency("Test.Latency");
+        latency.recordNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        OpenMetricsRenderer renderer = new OpenMetricsRenderer(registry);
+
+        String text = render(renderer);
+        assertThat(text, containsString("# TYPE cda_test_counter counter\ncda_test_counter_total 3\n"));
+        assertThat(text, containsString("# TYPE cda_test_gauge gauge\ncda_test_gauge 7\n"));
+        assertThat(text, containsString("# TYPE cda_test_latency_seconds summary\n"));
+        assertThat(text, containsString("cda_test_latency_seconds{quantile=\"0.99\"} 0.002000\n"));
+        assertThat(text, containsString("cda_test_latency_seconds_count 1\ncda_test_latency_seconds_sum 0.002000\n"));
+        assertThat(text, endsWith("# EOF\n"));
+
+        // Collecting for telemetry resets the interval, but scraped counters keep their running totals
+        assertThat(registry.collect(1L).isEmpty(), is(false));
+        registry.counter("Test.Counter").increment();
+        text = render(renderer);
+        assertThat(text, containsString("cda_test_counter_total 4\n"));
+        assertThat(text, not(containsString("quantile")));
+        assertThat(text, containsString("cda_test_latency_seconds_count 1\n"));
+    }
+
+    @Test
+    void GIVEN_endpointStarted_WHEN_scraped_THEN_openMetricsServedOnLoopback() throws Exception {
+        metrics.subscribeSuccess();
+        int port = freePort();
+        endpoint.start(port);
+        assertThat(endpoint.getPort(), is(port));
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(
+                "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + port
+                        + OpenMetricsEndpoint.PATH).openConnection();
+        assertThat(connection.getResponseCode(), is(200));
+        assertThat(connection.getContentType(), is(OpenMetricsRenderer.CONTENT_TYPE));
+        String body = read(connection.getInputStream());
+        assertThat(body, containsString("cda_subscribe_to_certificate_updates_success_total 1\n"));
+        assertThat(body, endsWith("# EOF\n"));
+
+        endpoint.stop();
+        assertThat(endpoint.getPort(), is(0));
+    }
+
+    private static String render(OpenMetricsRenderer renderer) {
+        int length = renderer.render();
+        return new String(renderer.getBytes(), 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int n;
+            while ((n = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics;
+
+import com.aws.greengrass.clientdevices.auth.certificate.CertificateExpiryMonitor;
+import com.aws.greengrass.clientdevices.auth.connectivity.CISShadowMonitor;
+import com.aws.greengrass.clientdevices.auth.session.SessionManager;
+import com.aws.greengrass.clientdevices.auth.util.ResizableLinkedBlockingQueue;
+import com.aws.greengrass.telemetry.impl.Metric;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class OperationalGaugesTest {
+    @Mock
+    private SessionManager sessionManagerMock;
+    @Mock
+    private CertificateExpiryMonitor certificateExpiryMonitorMock;
+    @Mock
+    private CISShadowMonitor cisShadowMonitorMock;
+
+    private ClientDeviceAuthMetrics metrics;
+    private OperationalGauges gauges;
+    private ThreadPoolExecutor threadPool;
+
+    @BeforeEach
+    void beforeEach() {
+        metrics = new ClientDeviceAuthMetrics(Clock.systemUTC());
+        gauges = new OperationalGauges(metrics, sessionManagerMock, certificateExpiryMonitorMock,
+                cisShadowMonitorMock);
+        threadPool = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ResizableLinkedBlockingQueue<>(1));
+    }
+
+    @AfterEach
+    void afterEach() {
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    void GIVEN_registeredGauges_WHEN_metricsCollected_THEN_currentStateReported() {
+        when(sessionManagerMock.getSessionCount()).thenReturn(42);
+        when(sessionManagerMock.getEvictedSessionCount()).thenReturn(5L, 5L, 12L);
+        when(certificateExpiryMonitorMock.getMonitoredCertificateGeneratorCount()).thenReturn(3);
+        when(cisShadowMonitorMock.getMonitoredCertificateGeneratorCount()).thenReturn(0);
+        gauges.register();
+        // Registering again, as when the service is reinstalled, replaces the gauges
+        gauges.register();
+
+        Map<String, Metric> collected = collect();
+
+        assertThat(collected.get(OperationalGauges.METRIC_SESSION_ACTIVE).getValue(), is(42L));
+        assertThat(collected.get(OperationalGauges.METRIC_SESSION_EVICTED).getValue(), is(7L));
+        assertThat(collected.get(OperationalGauges.METRIC_EXPIRY_MONITORED_CERTIFICATES).getValue(), is(3L));
+        assertThat(collected.get(OperationalGauges.METRIC_CONNECTIVITY_MONITORED_CERTIFICATES).getValue(), is(0L));
+    }
+
+    @Test
+    void GIVEN_cloudCallThreadPoolFull_WHEN_requestSubmitted_THEN_rejectionCountedAndQueueDepthReported()
+            throws InterruptedException {
+        gauges.registerCloudCallThreadPool(threadPool);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        threadPool.execute(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS), is(true));
+        threadPool.execute(() -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> threadPool.execute(() -> { }));
+
+        Map<String, Metric> collected = collect();
+        assertThat(collected.get(OperationalGauges.METRIC_CLOUD_REQUEST_QUEUE_DEPTH).getValue(), is(1L));
+        assertThat(collected.get(OperationalGauges.METRIC_CLOUD_REQUEST_ACTIVE_THREADS).getValue(), is(1L));
+        assertThat(collected.get(OperationalGauges.METRIC_CLOUD_REQUEST_QUEUE_REJECTED).getValue(), is(1L));
+        release.countDown();
+    }
+
+    private Map<String, Metric> collect() {
+        return metrics.collectMetrics().stream().collect(Collectors.toMap(Metric::getName, Function.identity()));
+    }
+}
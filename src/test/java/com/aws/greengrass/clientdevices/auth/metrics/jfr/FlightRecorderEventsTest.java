@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.metrics.jfr;
+
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class FlightRecorderEventsTest {
+    private static final String AUTHORIZATION_EVENT = "aws.greengrass.clientdevices.auth.Authorization";
+
+    @TempDir
+    Path tmpPath;
+
+    @Test
+    void GIVEN_noRecording_WHEN_beginEvent_THEN_nothingRecorded() {
+        Object event = FlightRecorderEvents.beginAuthorization();
+
+        assertThat(event, is(nullValue()));
+        // Ending a null event is a no-op
+        FlightRecorderEvents.endAuthorization(null, "session", "mqtt:publish", "mqtt:topic:a",
+                FlightRecorderEvents.DECISION_ALLOW);
+    }
+
+    @Test
+    void GIVEN_recordingWithEventEnabled_WHEN_authorizationEnds_THEN_eventRecorded() throws Exception {
+        Path dump = tmpPath.resolve("cda.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(AUTHORIZATION_EVENT);
+            recording.start();
+
+            Object event = FlightRecorderEvents.beginAuthorization();
+            FlightRecorderEvents.endAuthorization(event, "session", "mqtt:publish", "mqtt:topic:a",
+                    FlightRecorderEvents.DECISION_DENY);
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events, hasSize(1));
+        RecordedEvent recorded = events.get(0);
+        assertThat(recorded.getEventType().getName(), is(AUTHORIZATION_EVENT));
+        assertThat(recorded.getString("sessionId"), is("session"));
+        assertThat(recorded.getString("operation"), is("mqtt:publish"));
+        assertThat(recorded.getString("resource"), is("mqtt:topic:a"));
+        assertThat(recorded.getString("decision"), is(FlightRecorderEvents.DECISION_DENY));
+    }
+}
@@ -6,6 +6,7 @@
 package com.aws.greengrass.clientdevices.auth.session;
 
 import com.aws.greengrass.clientdevices.auth.DeviceAuthClient;
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.api.UseCases;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
 import com.aws.greengrass.clientdevices.auth.exception.CloudServiceInteractionException;
@@ -66,7 +67,7 @@ public class MqttSessionFactoryTest {
         context = new Context();
         UseCases useCases = new UseCases(context);
         CreateIoTThingSession createIoTThingSession =
-                new CreateIoTThingSession(mockThingRegistry, mockCertificateRegistry, useCases);
+                new CreateIoTThingSession(mockThingRegistry, mockCertificateRegistry, useCases, new DomainEvents());
         VerifyThingAttachedToCertificate verifyThingAttachedToCertificate =
                 new VerifyThingAttachedToCertificate(iotAuthClientMock, mockThingRegistry, mockNetworkState);
         context.put(NetworkStateProvider.class, mockNetworkState);
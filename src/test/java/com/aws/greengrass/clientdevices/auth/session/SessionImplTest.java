@@ -15,6 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @ExtendWith({MockitoExtension.class, GGExtension.class})
 public class SessionImplTest {
 
@@ -30,4 +33,26 @@ public class SessionImplTest {
         Assertions.assertEquals(session.getSessionAttribute("Thing", "ThingName").toString(),
                 thing.getDeviceAttributes().get("ThingName").toString());
     }
+
+    @Test
+    public void GIVEN_session_WHEN_recordActivity_THEN_reportedOncePerInterval() {
+        Session session = new SessionImpl();
+        long interval = Duration.ofMinutes(5).toNanos();
+
+        Assertions.assertTrue(session.recordActivity(interval));
+        Assertions.assertFalse(session.recordActivity(interval));
+        Assertions.assertTrue(session.recordActivity(0));
+    }
+
+    @Test
+    public void GIVEN_session_WHEN_getDerivedValue_THEN_valueDerivedOncePerKey() {
+        Session session = new SessionImpl();
+        Object firstKey = new Object();
+        Object secondKey = new Object();
+        AtomicInteger derivations = new AtomicInteger();
+
+        Assertions.assertEquals(1, (int) session.getDerivedValue(firstKey, s -> derivations.incrementAndGet()));
+        Assertions.assertEquals(1, (int) session.getDerivedValue(firstKey, s -> derivations.incrementAndGet()));
+        Assertions.assertEquals(2, (int) session.getDerivedValue(secondKey, s -> derivations.incrementAndGet()));
+    }
 }
@@ -6,6 +6,7 @@
 package com.aws.greengrass.clientdevices.auth.session;
 
 
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
 import com.aws.greengrass.clientdevices.auth.exception.AuthenticationException;
 import com.aws.greengrass.testcommons.testutilities.GGExtension;
 import org.junit.jupiter.api.AfterEach;
@@ -54,7 +55,7 @@ class SessionManagerTest {
     @BeforeEach
     void beforeEach() throws AuthenticationException {
         lenient().when(mockSessionConfig.getSessionCapacity()).thenReturn(MOCK_SESSION_CAPACITY);
-        sessionManager = new SessionManager();
+        sessionManager = new SessionManager(new DomainEvents());
         sessionManager.setSessionConfig(mockSessionConfig);
         SessionCreator.registerSessionFactory(CREDENTIAL_TYPE, mockSessionFactory);
         lenient().when(mockSessionFactory.createSession(credentialMap)).thenReturn(mockSession);
@@ -126,7 +127,7 @@ class SessionManagerTest {
 
         int mockSessionCapacity = 3;
         when(mockSessionConfig.getSessionCapacity()).thenReturn(mockSessionCapacity);
-        SessionManager sessionManager = new SessionManager();
+        SessionManager sessionManager = new SessionManager(new DomainEvents());
         sessionManager.setSessionConfig(mockSessionConfig);
 
         // fill session cache to its capacity
@@ -150,6 +151,8 @@ class SessionManagerTest {
         assertNull(sessionManager.findSession(id2));
         assertThat(sessionManager.findSession(id3), is(mockSession3));
         assertThat(sessionManager.findSession(id4), is(mockSession4));
+        assertThat(sessionManager.getSessionCount(), is(3));
+        assertThat(sessionManager.getEvictedSessionCount(), is(1L));
     }
 
     @Test
@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.clientdevices.auth.session;
+
+import com.aws.greengrass.clientdevices.auth.api.DomainEvents;
+import com.aws.greengrass.clientdevices.auth.session.events.RequestStageTimingsEvent;
+import com.aws.greengrass.testcommons.testutilities.GGExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith({MockitoExtension.class, GGExtension.class})
+class StageTimerTest {
+    private DomainEvents domainEvents;
+    private List<RequestStageTimingsEvent> events;
+
+    @BeforeEach
+    void beforeEach() {
+        events = new CopyOnWriteArrayList<>();
+        domainEvents = new DomainEvents();
+        domainEvents.registerListener(events::add, RequestStageTimingsEvent.class);
+    }
+
+    @Test
+    void GIVEN_timedRequest_WHEN_stagesRun_THEN_stageTimesReported() throws InterruptedException {
+        StageTimer timer = StageTimer.start("createSession");
+        long start = StageTimer.startStage();
+        TimeUnit.MILLISECONDS.sleep(5);
+        StageTimer.endStage(StageTimer.Stage.CLOUD_CERTIFICATE_VERIFICATION, start);
+        start = StageTimer.startStage();
+        TimeUnit.MILLISECONDS.sleep(1);
+        StageTimer.endStage(StageTimer.Stage.REGISTRY_WRITE, start);
+        timer.stop(domainEvents);
+
+        assertThat(events, hasSize(1));
+        RequestStageTimingsEvent event = events.get(0);
+        assertThat(event.getRequest(), is("createSession"));
+        assertThat(event.getStageNanos().keySet(), contains(StageTimer.Stage.CLOUD_CERTIFICATE_VERIFICATION,
+                StageTimer.Stage.REGISTRY_WRITE));
+        assertThat(event.getStageNanos().get(StageTimer.Stage.CLOUD_CERTIFICATE_VERIFICATION),
+                is(greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5))));
+        assertThat(event.getTotalNanos(),
+                is(greaterThanOrEqualTo(event.getStageNanos().get(StageTimer.Stage.CLOUD_CERTIFICATE_VERIFICATION))));
+
+        // The timer is no longer bound to the thread
+        assertThat(StageTimer.startStage(), is(0L));
+    }
+
+    @Test
+    void GIVEN_nestedRequest_WHEN_stopped_THEN_onlyOuterRequestReported() {
+        StageTimer outer = StageTimer.start("verifyClientDeviceIdentity");
+        StageTimer inner = StageTimer.start("createSession");
+        long start = StageTimer.startStage();
+        StageTimer.endStage(StageTimer.Stage.PEM_PARSING, start);
+        inner.stop(domainEvents);
+
+        assertThat(events, is(empty()));
+        outer.stop(domainEvents);
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getRequest(), is("verifyClientDeviceIdentity"));
+    }
+
+    @Test
+    void GIVEN_noTimedRequest_WHEN_stageEnds_THEN_nothingRecorded() {
+        long start = StageTimer.startStage();
+        StageTimer.endStage(StageTimer.Stage.COMPONENT_CHECK, start);
+
+        assertThat(start, is(0L));
+        assertThat(events, is(empty()));
+    }
+}